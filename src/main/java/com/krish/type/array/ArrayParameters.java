@@ -0,0 +1,85 @@
+package com.krish.type.array;
+
+import org.hibernate.jpa.TypedParameterValue;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.UUID;
+
+/**
+ * Binds a whole collection as a single PostgreSQL array parameter, so that a {@code column = ANY(?)}
+ * predicate can replace an {@code IN} list whose SQL text changes with every collection size:
+ * <pre>{@code
+ * entityManager.createQuery(
+ *     "select p from Post p where eq_any(p.id, :ids) = true", Post.class)
+ * .setParameter("ids", ArrayParameters.ofLongs(ids))
+ * .getResultList();
+ * }</pre>
+ * <p>
+ * The {@code eq_any} HQL function is registered by {@link ArraySqlFunctionContributor}. In native SQL queries,
+ * the parameter can be used directly, as in {@code where p.id = any(:ids)}.
+ */
+public final class ArrayParameters {
+
+    private ArrayParameters() {
+        throw new UnsupportedOperationException("ArrayParameters is not instantiable!");
+    }
+
+    /**
+     * Bind the given numbers as an {@code integer[]} parameter.
+     *
+     * @param values parameter values
+     * @return typed parameter value
+     */
+    public static TypedParameterValue ofInts(Collection<? extends Number> values) {
+        int[] array = new int[values.size()];
+        Iterator<? extends Number> iterator = values.iterator();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = iterator.next().intValue();
+        }
+        return new TypedParameterValue(IntArrayType.INSTANCE, array);
+    }
+
+    /**
+     * Bind the given numbers as a {@code bigint[]} parameter.
+     *
+     * @param values parameter values
+     * @return typed parameter value
+     */
+    public static TypedParameterValue ofLongs(Collection<? extends Number> values) {
+        long[] array = new long[values.size()];
+        Iterator<? extends Number> iterator = values.iterator();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = iterator.next().longValue();
+        }
+        return new TypedParameterValue(LongArrayType.INSTANCE, array);
+    }
+
+    public static TypedParameterValue of(int[] values) {
+        return new TypedParameterValue(IntArrayType.INSTANCE, values);
+    }
+
+    public static TypedParameterValue of(long[] values) {
+        return new TypedParameterValue(LongArrayType.INSTANCE, values);
+    }
+
+    /**
+     * Bind the given strings as a {@code text[]} parameter.
+     *
+     * @param values parameter values
+     * @return typed parameter value
+     */
+    public static TypedParameterValue ofStrings(Collection<String> values) {
+        return new TypedParameterValue(StringArrayType.INSTANCE, values.toArray(new String[0]));
+    }
+
+    /**
+     * Bind the given identifiers as a {@code uuid[]} parameter.
+     *
+     * @param values parameter values
+     * @return typed parameter value
+     */
+    public static TypedParameterValue ofUUIDs(Collection<UUID> values) {
+        return new TypedParameterValue(UUIDArrayType.INSTANCE, values.toArray(new UUID[0]));
+    }
+}
@@ -0,0 +1,29 @@
+package com.krish.type.array;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the {@code eq_any(column, :array)} HQL function, rendered as {@code (column = any(?))},
+ * which matches the rows whose column value is contained by an array parameter bound with {@link ArrayParameters}.
+ * <p>
+ * The contributor is enabled with the {@code hibernate.metadata_builder_contributor} configuration property:
+ * <pre>{@code
+ * <property name="hibernate.metadata_builder_contributor"
+ *           value="com.krish.type.array.ArraySqlFunctionContributor"/>
+ * }</pre>
+ */
+public class ArraySqlFunctionContributor implements MetadataBuilderContributor {
+
+    public static final String EQ_ANY = "eq_any";
+
+    @Override
+    public void contribute(MetadataBuilder metadataBuilder) {
+        metadataBuilder.applySqlFunction(
+            EQ_ANY,
+            new SQLFunctionTemplate(StandardBasicTypes.BOOLEAN, "(?1 = any(?2))")
+        );
+    }
+}
@@ -0,0 +1,50 @@
+package com.krish.type.array;
+
+import com.krish.type.AbstractHibernateType;
+import com.krish.type.array.internal.ArraySqlTypeDescriptor;
+import com.krish.type.array.internal.BooleanArrayTypeDescriptor;
+import com.krish.type.util.Configuration;
+
+import org.hibernate.usertype.DynamicParameterizedType;
+
+import java.util.Properties;
+
+/**
+ * Maps a {@code boolean[]} array on a PostgreSQL {@code boolean[]} column type.
+ * <p>
+ * For more details about how to use it, check out <a href="https://vladmihalcea.com/how-to-map-java-and-sql-arrays-with-jpa-and-hibernate/">this article</a> on <a href="https://vladmihalcea.com/">vladmihalcea.com</a>.
+ */
+public class BooleanArrayType
+        extends AbstractHibernateType<boolean[]>
+        implements DynamicParameterizedType {
+
+    public static final BooleanArrayType INSTANCE = new BooleanArrayType();
+
+    public BooleanArrayType() {
+        super(
+            ArraySqlTypeDescriptor.INSTANCE,
+            new BooleanArrayTypeDescriptor()
+        );
+    }
+
+    public BooleanArrayType(Configuration configuration) {
+        super(
+            ArraySqlTypeDescriptor.INSTANCE,
+            new BooleanArrayTypeDescriptor(), configuration
+        );
+    }
+
+    public String getName() {
+        return "boolean-array";
+    }
+
+    @Override
+    protected boolean registerUnderJavaType() {
+        return true;
+    }
+
+    @Override
+    public void setParameterValues(Properties parameters) {
+        ((BooleanArrayTypeDescriptor) getJavaTypeDescriptor()).setParameterValues(parameters);
+    }
+}
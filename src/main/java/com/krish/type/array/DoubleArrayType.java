@@ -0,0 +1,50 @@
+package com.krish.type.array;
+
+import com.krish.type.AbstractHibernateType;
+import com.krish.type.array.internal.ArraySqlTypeDescriptor;
+import com.krish.type.array.internal.DoubleArrayTypeDescriptor;
+import com.krish.type.util.Configuration;
+
+import org.hibernate.usertype.DynamicParameterizedType;
+
+import java.util.Properties;
+
+/**
+ * Maps a {@code double[]} array on a PostgreSQL {@code float8[]} column type.
+ * <p>
+ * For more details about how to use it, check out <a href="https://vladmihalcea.com/how-to-map-java-and-sql-arrays-with-jpa-and-hibernate/">this article</a> on <a href="https://vladmihalcea.com/">vladmihalcea.com</a>.
+ */
+public class DoubleArrayType
+        extends AbstractHibernateType<double[]>
+        implements DynamicParameterizedType {
+
+    public static final DoubleArrayType INSTANCE = new DoubleArrayType();
+
+    public DoubleArrayType() {
+        super(
+            ArraySqlTypeDescriptor.INSTANCE,
+            new DoubleArrayTypeDescriptor()
+        );
+    }
+
+    public DoubleArrayType(Configuration configuration) {
+        super(
+            ArraySqlTypeDescriptor.INSTANCE,
+            new DoubleArrayTypeDescriptor(), configuration
+        );
+    }
+
+    public String getName() {
+        return "double-array";
+    }
+
+    @Override
+    protected boolean registerUnderJavaType() {
+        return true;
+    }
+
+    @Override
+    public void setParameterValues(Properties parameters) {
+        ((DoubleArrayTypeDescriptor) getJavaTypeDescriptor()).setParameterValues(parameters);
+    }
+}
@@ -0,0 +1,51 @@
+package com.krish.type.array;
+
+import com.krish.type.AbstractHibernateType;
+import com.krish.type.array.internal.ArraySqlTypeDescriptor;
+import com.krish.type.array.internal.DoubleMatrixTypeDescriptor;
+import com.krish.type.util.Configuration;
+
+import org.hibernate.usertype.DynamicParameterizedType;
+
+import java.util.Properties;
+
+/**
+ * Maps an {@link DoubleMatrix} on a two-dimensional PostgreSQL {@code float8[][]} column type.
+ * <p>
+ * Plain multi-dimensional Java arrays, like {@code double[][]}, can also be mapped with {@link DoubleArrayType},
+ * which resolves the number of dimensions from the entity attribute type.
+ */
+public class DoubleMatrixType
+        extends AbstractHibernateType<DoubleMatrix>
+        implements DynamicParameterizedType {
+
+    public static final DoubleMatrixType INSTANCE = new DoubleMatrixType();
+
+    public DoubleMatrixType() {
+        super(
+            ArraySqlTypeDescriptor.INSTANCE,
+            new DoubleMatrixTypeDescriptor()
+        );
+    }
+
+    public DoubleMatrixType(Configuration configuration) {
+        super(
+            ArraySqlTypeDescriptor.INSTANCE,
+            new DoubleMatrixTypeDescriptor(), configuration
+        );
+    }
+
+    public String getName() {
+        return "double-matrix";
+    }
+
+    @Override
+    protected boolean registerUnderJavaType() {
+        return true;
+    }
+
+    @Override
+    public void setParameterValues(Properties parameters) {
+        ((DoubleMatrixTypeDescriptor) getJavaTypeDescriptor()).setParameterValues(parameters);
+    }
+}
\ No newline at end of file
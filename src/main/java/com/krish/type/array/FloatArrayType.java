@@ -0,0 +1,50 @@
+package com.krish.type.array;
+
+import com.krish.type.AbstractHibernateType;
+import com.krish.type.array.internal.ArraySqlTypeDescriptor;
+import com.krish.type.array.internal.FloatArrayTypeDescriptor;
+import com.krish.type.util.Configuration;
+
+import org.hibernate.usertype.DynamicParameterizedType;
+
+import java.util.Properties;
+
+/**
+ * Maps a {@code float[]} array on a PostgreSQL {@code float4[]} column type.
+ * <p>
+ * For more details about how to use it, check out <a href="https://vladmihalcea.com/how-to-map-java-and-sql-arrays-with-jpa-and-hibernate/">this article</a> on <a href="https://vladmihalcea.com/">vladmihalcea.com</a>.
+ */
+public class FloatArrayType
+        extends AbstractHibernateType<float[]>
+        implements DynamicParameterizedType {
+
+    public static final FloatArrayType INSTANCE = new FloatArrayType();
+
+    public FloatArrayType() {
+        super(
+            ArraySqlTypeDescriptor.INSTANCE,
+            new FloatArrayTypeDescriptor()
+        );
+    }
+
+    public FloatArrayType(Configuration configuration) {
+        super(
+            ArraySqlTypeDescriptor.INSTANCE,
+            new FloatArrayTypeDescriptor(), configuration
+        );
+    }
+
+    public String getName() {
+        return "float-array";
+    }
+
+    @Override
+    protected boolean registerUnderJavaType() {
+        return true;
+    }
+
+    @Override
+    public void setParameterValues(Properties parameters) {
+        ((FloatArrayTypeDescriptor) getJavaTypeDescriptor()).setParameterValues(parameters);
+    }
+}
@@ -0,0 +1,239 @@
+package com.krish.type.array;
+
+import com.krish.type.array.internal.FloatVectorStore;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable vector of {@code float} values, like an ML embedding, whose values are kept in direct memory
+ * allocated by a {@link FloatVectorStore}, so that many loaded vectors do not inflate the Java heap.
+ * <p>
+ * It is mapped on a PostgreSQL {@code float4[]} column by {@link FloatVectorType}. {@code null} elements are not supported.
+ * <p>
+ * The {@link #dot(FloatVector, List)} and {@link #cosine(FloatVector, List)} methods score a query vector
+ * against many vectors, and scan large lists in parallel.
+ */
+public final class FloatVector implements Serializable {
+
+    /**
+     * Number of vectors from which {@link #dot(FloatVector, List)} and {@link #cosine(FloatVector, List)}
+     * split the scan over the common {@link java.util.concurrent.ForkJoinPool}.
+     */
+    public static final int PARALLEL_SCAN_THRESHOLD = 1024;
+
+    private final transient FloatBuffer values;
+
+    private final transient int dimension;
+
+    private final transient float norm;
+
+    /**
+     * Create a vector backed by the given buffer, which is not copied. The vector values are the buffer elements
+     * found between the index {@code 0} and the buffer limit.
+     *
+     * @param values vector values
+     */
+    public FloatVector(FloatBuffer values) {
+        this.values = values;
+        this.dimension = values.limit();
+        this.norm = (float) Math.sqrt(dot(values, values, dimension));
+    }
+
+    /**
+     * Create a vector by copying the given values into the default {@link FloatVectorStore}.
+     *
+     * @param values vector values
+     * @return vector
+     */
+    public static FloatVector of(float... values) {
+        FloatBuffer buffer = FloatVectorStore.INSTANCE.allocate(values.length);
+        buffer.put(values).rewind();
+        return new FloatVector(buffer);
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    public float get(int index) {
+        if (index < 0 || index >= dimension) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Dimension: " + dimension);
+        }
+        return values.get(index);
+    }
+
+    /**
+     * Tell whether the values are held in direct memory, or on the Java heap because
+     * the {@link FloatVectorStore} budget was exhausted.
+     *
+     * @return {@code true} for off-heap vectors
+     */
+    public boolean isDirect() {
+        return values.isDirect();
+    }
+
+    /**
+     * Get a read-only view of the vector values.
+     *
+     * @return read-only buffer
+     */
+    public FloatBuffer getValues() {
+        return values.asReadOnlyBuffer();
+    }
+
+    public float[] toArray() {
+        float[] array = new float[dimension];
+        values.duplicate().get(array);
+        return array;
+    }
+
+    public float norm() {
+        return norm;
+    }
+
+    public float dot(FloatVector other) {
+        checkDimension(other);
+        return dot(values, other.values, dimension);
+    }
+
+    /**
+     * Compute the cosine similarity of the two vectors.
+     *
+     * @param other other vector
+     * @return cosine similarity, or {@code 0} if any of the vectors is a zero vector
+     */
+    public float cosine(FloatVector other) {
+        float dot = dot(other);
+        float norms = norm * other.norm;
+        return norms == 0 ? 0 : dot / norms;
+    }
+
+    /**
+     * Compute the dot product of the query vector with each of the given vectors.
+     *
+     * @param query   query vector
+     * @param vectors scanned vectors
+     * @return dot products, in the order of the scanned vectors
+     */
+    public static float[] dot(FloatVector query, List<FloatVector> vectors) {
+        List<FloatVector> scanned = randomAccess(vectors);
+        float[] scores = new float[scanned.size()];
+        scan(scores.length).forEach(i -> scores[i] = query.dot(scanned.get(i)));
+        return scores;
+    }
+
+    /**
+     * Compute the cosine similarity of the query vector with each of the given vectors.
+     *
+     * @param query   query vector
+     * @param vectors scanned vectors
+     * @return cosine similarities, in the order of the scanned vectors
+     */
+    public static float[] cosine(FloatVector query, List<FloatVector> vectors) {
+        List<FloatVector> scanned = randomAccess(vectors);
+        float[] scores = new float[scanned.size()];
+        scan(scores.length).forEach(i -> scores[i] = query.cosine(scanned.get(i)));
+        return scores;
+    }
+
+    private static List<FloatVector> randomAccess(List<FloatVector> vectors) {
+        return vectors instanceof RandomAccess ? vectors : new ArrayList<>(vectors);
+    }
+
+    private static IntStream scan(int size) {
+        IntStream range = IntStream.range(0, size);
+        return size >= PARALLEL_SCAN_THRESHOLD ? range.parallel() : range;
+    }
+
+    /**
+     * Sum the products in four independent accumulators, so that consecutive multiply-adds
+     * do not wait on each other.
+     */
+    private static float dot(FloatBuffer one, FloatBuffer another, int dimension) {
+        float sum0 = 0;
+        float sum1 = 0;
+        float sum2 = 0;
+        float sum3 = 0;
+        int i = 0;
+        for (; i + 3 < dimension; i += 4) {
+            sum0 += one.get(i) * another.get(i);
+            sum1 += one.get(i + 1) * another.get(i + 1);
+            sum2 += one.get(i + 2) * another.get(i + 2);
+            sum3 += one.get(i + 3) * another.get(i + 3);
+        }
+        for (; i < dimension; i++) {
+            sum0 += one.get(i) * another.get(i);
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    private void checkDimension(FloatVector other) {
+        if (dimension != other.dimension) {
+            throw new IllegalArgumentException(
+                "The vector dimensions: " + dimension + " and " + other.dimension + " do not match"
+            );
+        }
+    }
+
+    private Object writeReplace() {
+        return new SerializedForm(toArray());
+    }
+
+    private void readObject(ObjectInputStream stream) throws InvalidObjectException {
+        throw new InvalidObjectException("FloatVector is deserialized from its serialized form");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FloatVector)) return false;
+        FloatVector that = (FloatVector) o;
+        if (dimension != that.dimension) {
+            return false;
+        }
+        for (int i = 0; i < dimension; i++) {
+            if (Float.floatToIntBits(values.get(i)) != Float.floatToIntBits(that.values.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < dimension; i++) {
+            result = 31 * result + Float.floatToIntBits(values.get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * Heap copy of the vector values, used for serialization, like when vectors are stored in the second-level cache.
+     */
+    private static final class SerializedForm implements Serializable {
+
+        private final float[] values;
+
+        private SerializedForm(float[] values) {
+            this.values = values;
+        }
+
+        private Object readResolve() {
+            return of(values);
+        }
+    }
+}
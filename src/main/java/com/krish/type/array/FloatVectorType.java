@@ -0,0 +1,52 @@
+package com.krish.type.array;
+
+import com.krish.type.AbstractHibernateType;
+import com.krish.type.array.internal.ArraySqlTypeDescriptor;
+import com.krish.type.array.internal.FloatVectorTypeDescriptor;
+import com.krish.type.util.Configuration;
+
+import org.hibernate.usertype.DynamicParameterizedType;
+
+import java.util.Properties;
+
+/**
+ * Maps a {@link FloatVector} on a PostgreSQL {@code float4[]} column type.
+ * <p>
+ * The vector values are decoded into direct memory, and the total amount of direct memory is bounded by the
+ * {@code hibernate.types.float.vector.off.heap.budget} property, given in bytes. Once the budget is exhausted,
+ * newly loaded vectors are kept on the Java heap.
+ */
+public class FloatVectorType
+        extends AbstractHibernateType<FloatVector>
+        implements DynamicParameterizedType {
+
+    public static final FloatVectorType INSTANCE = new FloatVectorType();
+
+    public FloatVectorType() {
+        super(
+            ArraySqlTypeDescriptor.INSTANCE,
+            new FloatVectorTypeDescriptor()
+        );
+    }
+
+    public FloatVectorType(Configuration configuration) {
+        super(
+            ArraySqlTypeDescriptor.INSTANCE,
+            new FloatVectorTypeDescriptor(), configuration
+        );
+    }
+
+    public String getName() {
+        return "float-vector";
+    }
+
+    @Override
+    protected boolean registerUnderJavaType() {
+        return true;
+    }
+
+    @Override
+    public void setParameterValues(Properties parameters) {
+        ((FloatVectorTypeDescriptor) getJavaTypeDescriptor()).setParameterValues(parameters);
+    }
+}
\ No newline at end of file
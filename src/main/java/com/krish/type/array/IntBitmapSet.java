@@ -0,0 +1,641 @@
+package com.krish.type.array;
+
+import java.io.Serializable;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Compressed set of {@code int} values using roaring-style containers: values are grouped by their
+ * upper 16 bits, and every group stores its lower 16 bits either in a sorted {@code char[]} array,
+ * while it holds at most 4096 values, or in a 65536-bit bitmap otherwise.
+ * <p>
+ * Membership tests take a binary search over the groups followed by a binary search or a bit test,
+ * while {@link #union(IntBitmapSet)} and {@link #intersect(IntBitmapSet)} work container by container.
+ * <p>
+ * Like {@link IntList}, every change increments a version counter, and copies remember which set they were taken from,
+ * so {@link IntBitmapSetType} and {@link IntBitmapSetBinaryType} can tell whether a managed set changed
+ * without comparing its values.
+ */
+public class IntBitmapSet implements Serializable {
+
+    private static final int ARRAY_MAX_CARDINALITY = 4096;
+
+    private static final int BITMAP_WORDS = 1024;
+
+    private static final byte ARRAY_CONTAINER = 0;
+
+    private static final byte BITMAP_CONTAINER = 1;
+
+    private int[] keys;
+
+    private Container[] containers;
+
+    private int containerCount;
+
+    private int version;
+
+    private transient IntBitmapSet origin;
+
+    private transient int originVersion;
+
+    public IntBitmapSet() {
+        this(new int[4], new Container[4], 0);
+    }
+
+    private IntBitmapSet(int[] keys, Container[] containers, int containerCount) {
+        this.keys = keys;
+        this.containers = containers;
+        this.containerCount = containerCount;
+    }
+
+    public static IntBitmapSet of(int... values) {
+        int[] sortedValues = values.clone();
+        Arrays.sort(sortedValues);
+        IntBitmapSet set = new IntBitmapSet();
+        for (int value : sortedValues) {
+            set.add(value);
+        }
+        set.version = 0;
+        return set;
+    }
+
+    public boolean contains(int value) {
+        int index = indexOf(value >> 16);
+        return index >= 0 && containers[index].contains((char) value);
+    }
+
+    public boolean add(int value) {
+        int key = value >> 16;
+        int index = indexOf(key);
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, key, new Container());
+        }
+        if (containers[index].add((char) value)) {
+            version++;
+            return true;
+        }
+        return false;
+    }
+
+    public boolean remove(int value) {
+        int index = indexOf(value >> 16);
+        if (index < 0 || !containers[index].remove((char) value)) {
+            return false;
+        }
+        if (containers[index].cardinality == 0) {
+            removeContainer(index);
+        }
+        version++;
+        return true;
+    }
+
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < containerCount; i++) {
+            size += containers[i].cardinality;
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return containerCount == 0;
+    }
+
+    /**
+     * Create a new set holding the values found in this set or in the given one.
+     *
+     * @param other other set
+     * @return union set
+     */
+    public IntBitmapSet union(IntBitmapSet other) {
+        int[] unionKeys = new int[containerCount + other.containerCount];
+        Container[] unionContainers = new Container[unionKeys.length];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < containerCount || j < other.containerCount) {
+            if (j == other.containerCount || (i < containerCount && keys[i] < other.keys[j])) {
+                unionKeys[count] = keys[i];
+                unionContainers[count++] = containers[i++].copy();
+            } else if (i == containerCount || other.keys[j] < keys[i]) {
+                unionKeys[count] = other.keys[j];
+                unionContainers[count++] = other.containers[j++].copy();
+            } else {
+                unionKeys[count] = keys[i];
+                unionContainers[count++] = Container.union(containers[i++], other.containers[j++]);
+            }
+        }
+        return new IntBitmapSet(unionKeys, unionContainers, count);
+    }
+
+    /**
+     * Create a new set holding the values found both in this set and in the given one.
+     *
+     * @param other other set
+     * @return intersection set
+     */
+    public IntBitmapSet intersect(IntBitmapSet other) {
+        int[] intersectionKeys = new int[Math.min(containerCount, other.containerCount)];
+        Container[] intersectionContainers = new Container[intersectionKeys.length];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < containerCount && j < other.containerCount) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (other.keys[j] < keys[i]) {
+                j++;
+            } else {
+                Container container = Container.intersect(containers[i], other.containers[j]);
+                if (container != null) {
+                    intersectionKeys[count] = keys[i];
+                    intersectionContainers[count++] = container;
+                }
+                i++;
+                j++;
+            }
+        }
+        return new IntBitmapSet(intersectionKeys, intersectionContainers, count);
+    }
+
+    /**
+     * Visit the set values in ascending order.
+     *
+     * @param action value consumer
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < containerCount; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    /**
+     * Get the set values in ascending order.
+     *
+     * @return sorted values
+     */
+    public int[] toArray() {
+        int[] array = new int[size()];
+        int offset = 0;
+        for (int i = 0; i < containerCount; i++) {
+            offset = containers[i].fill(keys[i] << 16, array, offset);
+        }
+        return array;
+    }
+
+    /**
+     * Serialize the set in a compact binary form: the number of containers, followed by every container key,
+     * cardinality, kind and either its sorted 16-bit values or its 1024-word bitmap.
+     *
+     * @return serialized set
+     */
+    public byte[] toByteArray() {
+        int length = 4;
+        for (int i = 0; i < containerCount; i++) {
+            Container container = containers[i];
+            length += 5 + (container.bitmap != null ? BITMAP_WORDS * 8 : container.cardinality * 2);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.putInt(containerCount);
+        for (int i = 0; i < containerCount; i++) {
+            Container container = containers[i];
+            buffer.putShort((short) keys[i]);
+            buffer.putChar((char) (container.cardinality - 1));
+            if (container.bitmap != null) {
+                buffer.put(BITMAP_CONTAINER);
+                for (long word : container.bitmap) {
+                    buffer.putLong(word);
+                }
+            } else {
+                buffer.put(ARRAY_CONTAINER);
+                for (int j = 0; j < container.cardinality; j++) {
+                    buffer.putChar(container.values[j]);
+                }
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Deserialize a set created by {@link #toByteArray()}.
+     *
+     * @param bytes serialized set
+     * @return deserialized set
+     */
+    public static IntBitmapSet fromByteArray(byte[] bytes) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            int count = buffer.getInt();
+            if (count < 0 || count > 65536) {
+                throw new IllegalArgumentException("Invalid container count: " + count);
+            }
+            int[] keys = new int[count];
+            Container[] containers = new Container[count];
+            for (int i = 0; i < count; i++) {
+                keys[i] = buffer.getShort();
+                if (i > 0 && keys[i] <= keys[i - 1]) {
+                    throw new IllegalArgumentException("The container keys are not sorted");
+                }
+                Container container = new Container();
+                container.cardinality = buffer.getChar() + 1;
+                byte kind = buffer.get();
+                if (kind == BITMAP_CONTAINER && container.cardinality > ARRAY_MAX_CARDINALITY) {
+                    container.values = null;
+                    container.bitmap = new long[BITMAP_WORDS];
+                    for (int j = 0; j < BITMAP_WORDS; j++) {
+                        container.bitmap[j] = buffer.getLong();
+                    }
+                } else if (kind == ARRAY_CONTAINER && container.cardinality <= ARRAY_MAX_CARDINALITY) {
+                    container.values = new char[container.cardinality];
+                    for (int j = 0; j < container.cardinality; j++) {
+                        container.values[j] = buffer.getChar();
+                    }
+                } else {
+                    throw new IllegalArgumentException("Invalid container kind: " + kind);
+                }
+                containers[i] = container;
+            }
+            return new IntBitmapSet(keys, containers, count);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("The given bytes are not a valid IntBitmapSet", e);
+        }
+    }
+
+    /**
+     * Get the number of changes made to this set since it was created.
+     *
+     * @return modification counter
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Copy this set, recording this set and its current version as the origin of the copy.
+     *
+     * @return set copy
+     */
+    public IntBitmapSet copy() {
+        Container[] copyContainers = new Container[containerCount];
+        for (int i = 0; i < containerCount; i++) {
+            copyContainers[i] = containers[i].copy();
+        }
+        IntBitmapSet copy = new IntBitmapSet(Arrays.copyOf(keys, containerCount), copyContainers, containerCount);
+        copy.origin = this;
+        copy.originVersion = version;
+        return copy;
+    }
+
+    /**
+     * Tell whether this set was created by calling {@link #copy()} on the given set.
+     *
+     * @param other set to check
+     * @return {@code true} if this set is a copy of the given set
+     */
+    public boolean isCopyOf(IntBitmapSet other) {
+        return origin == other;
+    }
+
+    /**
+     * Tell whether this set is a copy of the given set and whether both sets
+     * are still unchanged since the copy was taken.
+     *
+     * @param other set to check
+     * @return {@code true} if this set is an unmodified copy of the given unmodified set
+     */
+    public boolean isUnmodifiedCopyOf(IntBitmapSet other) {
+        return origin == other && originVersion == other.version && version == 0;
+    }
+
+    private int indexOf(int key) {
+        return Arrays.binarySearch(keys, 0, containerCount, key);
+    }
+
+    private void insertContainer(int index, int key, Container container) {
+        if (containerCount == keys.length) {
+            int capacity = Math.max(4, containerCount * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+        System.arraycopy(keys, index, keys, index + 1, containerCount - index);
+        System.arraycopy(containers, index, containers, index + 1, containerCount - index);
+        keys[index] = key;
+        containers[index] = container;
+        containerCount++;
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, containerCount - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, containerCount - index - 1);
+        containers[--containerCount] = null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IntBitmapSet)) return false;
+        IntBitmapSet that = (IntBitmapSet) o;
+        if (containerCount != that.containerCount) {
+            return false;
+        }
+        for (int i = 0; i < containerCount; i++) {
+            if (keys[i] != that.keys[i] || !containers[i].contentEquals(that.containers[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (int value : toArray()) {
+            hashCode = 31 * hashCode + value;
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * Holds the lower 16 bits of the values sharing the same upper 16 bits, in a sorted array
+     * while the cardinality is at most {@link #ARRAY_MAX_CARDINALITY}, and in a bitmap otherwise.
+     */
+    private static final class Container implements Serializable {
+
+        private char[] values = new char[4];
+
+        private long[] bitmap;
+
+        private int cardinality;
+
+        boolean contains(char low) {
+            return bitmap != null ?
+                (bitmap[low >>> 6] & (1L << low)) != 0 :
+                Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        boolean add(char low) {
+            if (bitmap != null) {
+                long word = bitmap[low >>> 6];
+                long mask = 1L << low;
+                if ((word & mask) != 0) {
+                    return false;
+                }
+                bitmap[low >>> 6] = word | mask;
+                cardinality++;
+                return true;
+            }
+            int index = Arrays.binarySearch(values, 0, cardinality, low);
+            if (index >= 0) {
+                return false;
+            }
+            if (cardinality == ARRAY_MAX_CARDINALITY) {
+                toBitmap();
+                return add(low);
+            }
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX_CARDINALITY, Math.max(8, cardinality * 2)));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = low;
+            cardinality++;
+            return true;
+        }
+
+        boolean remove(char low) {
+            if (bitmap != null) {
+                long word = bitmap[low >>> 6];
+                long mask = 1L << low;
+                if ((word & mask) == 0) {
+                    return false;
+                }
+                bitmap[low >>> 6] = word & ~mask;
+                if (--cardinality == ARRAY_MAX_CARDINALITY) {
+                    toArrayContainer();
+                }
+                return true;
+            }
+            int index = Arrays.binarySearch(values, 0, cardinality, low);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+            cardinality--;
+            return true;
+        }
+
+        void forEach(int high, IntConsumer action) {
+            if (bitmap != null) {
+                for (int i = 0; i < BITMAP_WORDS; i++) {
+                    long word = bitmap[i];
+                    while (word != 0) {
+                        action.accept(high | (i << 6) + Long.numberOfTrailingZeros(word));
+                        word &= word - 1;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    action.accept(high | values[i]);
+                }
+            }
+        }
+
+        int fill(int high, int[] array, int offset) {
+            if (bitmap != null) {
+                for (int i = 0; i < BITMAP_WORDS; i++) {
+                    long word = bitmap[i];
+                    while (word != 0) {
+                        array[offset++] = high | (i << 6) + Long.numberOfTrailingZeros(word);
+                        word &= word - 1;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    array[offset++] = high | values[i];
+                }
+            }
+            return offset;
+        }
+
+        Container copy() {
+            Container copy = new Container();
+            copy.cardinality = cardinality;
+            if (bitmap != null) {
+                copy.values = null;
+                copy.bitmap = bitmap.clone();
+            } else {
+                copy.values = Arrays.copyOf(values, Math.max(cardinality, 1));
+            }
+            return copy;
+        }
+
+        boolean contentEquals(Container other) {
+            if (cardinality != other.cardinality) {
+                return false;
+            }
+            if (bitmap != null) {
+                return Arrays.equals(bitmap, other.bitmap);
+            }
+            for (int i = 0; i < cardinality; i++) {
+                if (values[i] != other.values[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void toBitmap() {
+            bitmap = new long[BITMAP_WORDS];
+            for (int i = 0; i < cardinality; i++) {
+                char low = values[i];
+                bitmap[low >>> 6] |= 1L << low;
+            }
+            values = null;
+        }
+
+        private void toArrayContainer() {
+            values = new char[cardinality];
+            fillChars(bitmap, values);
+            bitmap = null;
+        }
+
+        private static void fillChars(long[] bitmap, char[] values) {
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = bitmap[i];
+                while (word != 0) {
+                    values[count++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        private static Container ofBitmap(long[] bitmap) {
+            int cardinality = 0;
+            for (long word : bitmap) {
+                cardinality += Long.bitCount(word);
+            }
+            if (cardinality == 0) {
+                return null;
+            }
+            Container container = new Container();
+            container.cardinality = cardinality;
+            if (cardinality > ARRAY_MAX_CARDINALITY) {
+                container.values = null;
+                container.bitmap = bitmap;
+            } else {
+                container.values = new char[cardinality];
+                fillChars(bitmap, container.values);
+            }
+            return container;
+        }
+
+        static Container union(Container one, Container another) {
+            if (one.bitmap != null || another.bitmap != null) {
+                long[] bitmap = new long[BITMAP_WORDS];
+                one.orInto(bitmap);
+                another.orInto(bitmap);
+                return ofBitmap(bitmap);
+            }
+            char[] values = new char[one.cardinality + another.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < one.cardinality && j < another.cardinality) {
+                char first = one.values[i];
+                char second = another.values[j];
+                if (first < second) {
+                    values[count++] = first;
+                    i++;
+                } else if (second < first) {
+                    values[count++] = second;
+                    j++;
+                } else {
+                    values[count++] = first;
+                    i++;
+                    j++;
+                }
+            }
+            while (i < one.cardinality) {
+                values[count++] = one.values[i++];
+            }
+            while (j < another.cardinality) {
+                values[count++] = another.values[j++];
+            }
+            Container container = new Container();
+            container.values = values;
+            container.cardinality = count;
+            if (count > ARRAY_MAX_CARDINALITY) {
+                container.toBitmap();
+            }
+            return container;
+        }
+
+        static Container intersect(Container one, Container another) {
+            if (one.bitmap != null && another.bitmap != null) {
+                long[] bitmap = new long[BITMAP_WORDS];
+                for (int i = 0; i < BITMAP_WORDS; i++) {
+                    bitmap[i] = one.bitmap[i] & another.bitmap[i];
+                }
+                return ofBitmap(bitmap);
+            }
+            if (one.bitmap != null) {
+                return intersect(another, one);
+            }
+            char[] values = new char[one.cardinality];
+            int count = 0;
+            if (another.bitmap != null) {
+                for (int i = 0; i < one.cardinality; i++) {
+                    char low = one.values[i];
+                    if ((another.bitmap[low >>> 6] & (1L << low)) != 0) {
+                        values[count++] = low;
+                    }
+                }
+            } else {
+                int i = 0;
+                int j = 0;
+                while (i < one.cardinality && j < another.cardinality) {
+                    char first = one.values[i];
+                    char second = another.values[j];
+                    if (first < second) {
+                        i++;
+                    } else if (second < first) {
+                        j++;
+                    } else {
+                        values[count++] = first;
+                        i++;
+                        j++;
+                    }
+                }
+            }
+            if (count == 0) {
+                return null;
+            }
+            Container container = new Container();
+            container.values = values;
+            container.cardinality = count;
+            return container;
+        }
+
+        private void orInto(long[] target) {
+            if (bitmap != null) {
+                for (int i = 0; i < BITMAP_WORDS; i++) {
+                    target[i] |= bitmap[i];
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    char low = values[i];
+                    target[low >>> 6] |= 1L << low;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.krish.type.array;
+
+import com.krish.type.AbstractHibernateType;
+import com.krish.type.array.internal.IntBitmapSetTypeDescriptor;
+import com.krish.type.util.Configuration;
+
+import org.hibernate.type.descriptor.sql.BinaryTypeDescriptor;
+import org.hibernate.usertype.DynamicParameterizedType;
+
+import java.util.Properties;
+
+/**
+ * Maps an {@link IntBitmapSet} on a PostgreSQL {@code bytea} column type, using the compact
+ * binary form given by {@link IntBitmapSet#toByteArray()}.
+ * <p>
+ * Like {@link IntBitmapSetType}, which maps the same attributes on an {@code integer[]} column type, this type is not
+ * registered under a name, so it must be referenced by its class name:
+ * <pre>{@code
+ * @Type(type = "com.krish.type.array.IntBitmapSetBinaryType")
+ * @Column(columnDefinition = "bytea")
+ * private IntBitmapSet tags;
+ * }</pre>
+ */
+public class IntBitmapSetBinaryType
+        extends AbstractHibernateType<IntBitmapSet>
+        implements DynamicParameterizedType {
+
+    public static final IntBitmapSetBinaryType INSTANCE = new IntBitmapSetBinaryType();
+
+    public IntBitmapSetBinaryType() {
+        super(
+            BinaryTypeDescriptor.INSTANCE,
+            new IntBitmapSetTypeDescriptor()
+        );
+    }
+
+    public IntBitmapSetBinaryType(Configuration configuration) {
+        super(
+            BinaryTypeDescriptor.INSTANCE,
+            new IntBitmapSetTypeDescriptor(), configuration
+        );
+    }
+
+    public String getName() {
+        return "int-bitmap-set-binary";
+    }
+
+    @Override
+    public void setParameterValues(Properties parameters) {
+        ((IntBitmapSetTypeDescriptor) getJavaTypeDescriptor()).setParameterValues(parameters);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.krish.type.array;
+
+import com.krish.type.AbstractHibernateType;
+import com.krish.type.array.internal.ArraySqlTypeDescriptor;
+import com.krish.type.array.internal.IntBitmapSetTypeDescriptor;
+import com.krish.type.util.Configuration;
+
+import org.hibernate.usertype.DynamicParameterizedType;
+
+import java.util.Properties;
+
+/**
+ * Maps an {@link IntBitmapSet} on a PostgreSQL {@code integer[]} column type.
+ */
+public class IntBitmapSetType
+        extends AbstractHibernateType<IntBitmapSet>
+        implements DynamicParameterizedType {
+
+    public static final IntBitmapSetType INSTANCE = new IntBitmapSetType();
+
+    public IntBitmapSetType() {
+        super(
+            ArraySqlTypeDescriptor.INSTANCE,
+            new IntBitmapSetTypeDescriptor()
+        );
+    }
+
+    public IntBitmapSetType(Configuration configuration) {
+        super(
+            ArraySqlTypeDescriptor.INSTANCE,
+            new IntBitmapSetTypeDescriptor(), configuration
+        );
+    }
+
+    public String getName() {
+        return "int-bitmap-set";
+    }
+
+    @Override
+    protected boolean registerUnderJavaType() {
+        return true;
+    }
+
+    @Override
+    public void setParameterValues(Properties parameters) {
+        ((IntBitmapSetTypeDescriptor) getJavaTypeDescriptor()).setParameterValues(parameters);
+    }
+}
\ No newline at end of file
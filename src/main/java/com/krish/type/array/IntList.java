@@ -0,0 +1,219 @@
+package com.krish.type.array;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * {@link java.util.List} of {@link Integer} elements backed by an {@code int[]} array, so elements are only boxed
+ * when accessed through the {@link java.util.List} methods. The {@link #getInt(int)}, {@link #setInt(int, int)}
+ * and {@link #addInt(int)} methods avoid boxing altogether.
+ * <p>
+ * Every change increments a version counter. Copies remember which list they were taken from, and at which version,
+ * so {@link IntListArrayType} can tell whether a managed list changed without comparing its elements.
+ * <p>
+ * {@code null} elements are not supported.
+ */
+public class IntList extends AbstractList<Integer> implements RandomAccess, Serializable {
+
+    private int[] values;
+
+    private int size;
+
+    private int version;
+
+    private transient IntList origin;
+
+    private transient int originVersion;
+
+    public IntList() {
+        this(10);
+    }
+
+    public IntList(int capacity) {
+        this.values = new int[capacity];
+    }
+
+    /**
+     * Create a list backed by the given array, which is not copied, so it must not be changed afterwards.
+     *
+     * @param values list elements
+     */
+    public IntList(int[] values) {
+        this.values = values;
+        this.size = values.length;
+    }
+
+    public static IntList of(int... values) {
+        return new IntList(values.clone());
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    public int getInt(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    @Override
+    public Integer set(int index, Integer element) {
+        return setInt(index, element);
+    }
+
+    public int setInt(int index, int value) {
+        checkIndex(index);
+        int previous = values[index];
+        values[index] = value;
+        version++;
+        return previous;
+    }
+
+    @Override
+    public void add(int index, Integer element) {
+        addInt(index, element);
+    }
+
+    public void addInt(int value) {
+        addInt(size, value);
+    }
+
+    public void addInt(int index, int value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, Math.max(8, size + (size >> 1)));
+        }
+        System.arraycopy(values, index, values, index + 1, size - index);
+        values[index] = value;
+        size++;
+        modCount++;
+        version++;
+    }
+
+    @Override
+    public Integer remove(int index) {
+        return removeInt(index);
+    }
+
+    public int removeInt(int index) {
+        checkIndex(index);
+        int previous = values[index];
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        modCount++;
+        version++;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+        version++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (o instanceof Integer) {
+            int value = (Integer) o;
+            for (int i = 0; i < size; i++) {
+                if (values[i] == value) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    public int[] toIntArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Get the number of changes made to this list since it was created.
+     *
+     * @return modification counter
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Copy this list, recording this list and its current version as the origin of the copy.
+     *
+     * @return list copy
+     */
+    public IntList copy() {
+        IntList copy = new IntList(toIntArray());
+        copy.origin = this;
+        copy.originVersion = version;
+        return copy;
+    }
+
+    /**
+     * Tell whether this list was created by calling {@link #copy()} on the given list.
+     *
+     * @param other list to check
+     * @return {@code true} if this list is a copy of the given list
+     */
+    public boolean isCopyOf(IntList other) {
+        return origin == other;
+    }
+
+    /**
+     * Tell whether this list is a copy of the given list and whether both lists
+     * are still unchanged since the copy was taken.
+     *
+     * @param other list to check
+     * @return {@code true} if this list is an unmodified copy of the given unmodified list
+     */
+    public boolean isUnmodifiedCopyOf(IntList other) {
+        return origin == other && originVersion == other.version && version == 0;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IntList)) return super.equals(o);
+        IntList that = (IntList) o;
+        if (size != that.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (values[i] != that.values[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (int i = 0; i < size; i++) {
+            hashCode = 31 * hashCode + Integer.hashCode(values[i]);
+        }
+        return hashCode;
+    }
+}
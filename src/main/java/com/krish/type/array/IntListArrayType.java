@@ -0,0 +1,50 @@
+package com.krish.type.array;
+
+import com.krish.type.AbstractHibernateType;
+import com.krish.type.array.internal.ArraySqlTypeDescriptor;
+import com.krish.type.array.internal.IntListTypeDescriptor;
+import com.krish.type.util.Configuration;
+
+import org.hibernate.usertype.DynamicParameterizedType;
+
+import java.util.Properties;
+
+/**
+ * Maps an {@link IntList} on a PostgreSQL {@code integer[]} column type.
+ * <p>
+ * Dirty checking relies on the {@link IntList} modification counter, so unchanged lists are not compared element by element.
+ */
+public class IntListArrayType
+        extends AbstractHibernateType<IntList>
+        implements DynamicParameterizedType {
+
+    public static final IntListArrayType INSTANCE = new IntListArrayType();
+
+    public IntListArrayType() {
+        super(
+            ArraySqlTypeDescriptor.INSTANCE,
+            new IntListTypeDescriptor()
+        );
+    }
+
+    public IntListArrayType(Configuration configuration) {
+        super(
+            ArraySqlTypeDescriptor.INSTANCE,
+            new IntListTypeDescriptor(), configuration
+        );
+    }
+
+    public String getName() {
+        return "int-list-array";
+    }
+
+    @Override
+    protected boolean registerUnderJavaType() {
+        return true;
+    }
+
+    @Override
+    public void setParameterValues(Properties parameters) {
+        ((IntListTypeDescriptor) getJavaTypeDescriptor()).setParameterValues(parameters);
+    }
+}
\ No newline at end of file
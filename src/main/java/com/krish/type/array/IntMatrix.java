@@ -0,0 +1,131 @@
+package com.krish.type.array;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Two-dimensional {@code int} array kept in a single row-major {@code int[]}, so that a matrix costs one
+ * array header instead of one per row, and its rows are laid out contiguously in memory.
+ * <p>
+ * It is mapped on a PostgreSQL {@code integer[][]} column by {@link IntMatrixType}.
+ */
+public final class IntMatrix implements Serializable {
+
+    private final int rows;
+
+    private final int columns;
+
+    private final int[] values;
+
+    public IntMatrix(int rows, int columns) {
+        this(rows, columns, new int[rows * columns]);
+    }
+
+    /**
+     * Create a matrix backed by the given row-major values.
+     * <p>
+     * A matrix without values must have no rows and no columns, since it is read back from PostgreSQL as such.
+     *
+     * @param rows    number of rows
+     * @param columns number of columns
+     * @param values  row-major values, which are not copied
+     */
+    public IntMatrix(int rows, int columns, int[] values) {
+        if (rows < 0 || columns < 0 || values.length != rows * columns) {
+            throw new IllegalArgumentException(
+                "The matrix values length: " + values.length + " does not match its " + rows + "x" + columns + " shape"
+            );
+        }
+        if ((rows == 0) != (columns == 0)) {
+            throw new IllegalArgumentException(
+                "The " + rows + "x" + columns + " matrix shape is not supported, as PostgreSQL stores an empty array without dimensions"
+            );
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.values = values;
+    }
+
+    /**
+     * Copy the given rectangular array into a new matrix.
+     *
+     * @param array rectangular two-dimensional array
+     * @return matrix holding a copy of the array values
+     */
+    public static IntMatrix of(int[][] array) {
+        int rows = array.length;
+        int columns = rows > 0 ? array[0].length : 0;
+        int[] values = new int[rows * columns];
+        for (int row = 0; row < rows; row++) {
+            if (array[row].length != columns) {
+                throw new IllegalArgumentException("The given array is not rectangular");
+            }
+            System.arraycopy(array[row], 0, values, row * columns, columns);
+        }
+        return new IntMatrix(rows, columns, values);
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int get(int row, int column) {
+        return values[index(row, column)];
+    }
+
+    public void set(int row, int column, int value) {
+        values[index(row, column)] = value;
+    }
+
+    /**
+     * Get the backing row-major values.
+     *
+     * @return backing array
+     */
+    public int[] getValues() {
+        return values;
+    }
+
+    public int[][] toArray() {
+        int[][] array = new int[rows][];
+        for (int row = 0; row < rows; row++) {
+            array[row] = Arrays.copyOfRange(values, row * columns, (row + 1) * columns);
+        }
+        return array;
+    }
+
+    public IntMatrix copy() {
+        return new IntMatrix(rows, columns, values.clone());
+    }
+
+    private int index(int row, int column) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            throw new IndexOutOfBoundsException(
+                "The [" + row + "," + column + "] position is outside the " + rows + "x" + columns + " matrix"
+            );
+        }
+        return row * columns + column;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IntMatrix)) return false;
+        IntMatrix that = (IntMatrix) o;
+        return rows == that.rows && columns == that.columns && Arrays.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * rows + columns) + Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.deepToString(toArray());
+    }
+}
@@ -0,0 +1,51 @@
+package com.krish.type.array;
+
+import com.krish.type.AbstractHibernateType;
+import com.krish.type.array.internal.ArraySqlTypeDescriptor;
+import com.krish.type.array.internal.IntMatrixTypeDescriptor;
+import com.krish.type.util.Configuration;
+
+import org.hibernate.usertype.DynamicParameterizedType;
+
+import java.util.Properties;
+
+/**
+ * Maps an {@link IntMatrix} on a two-dimensional PostgreSQL {@code integer[][]} column type.
+ * <p>
+ * Plain multi-dimensional Java arrays, like {@code int[][]}, can also be mapped with {@link IntArrayType},
+ * which resolves the number of dimensions from the entity attribute type.
+ */
+public class IntMatrixType
+        extends AbstractHibernateType<IntMatrix>
+        implements DynamicParameterizedType {
+
+    public static final IntMatrixType INSTANCE = new IntMatrixType();
+
+    public IntMatrixType() {
+        super(
+            ArraySqlTypeDescriptor.INSTANCE,
+            new IntMatrixTypeDescriptor()
+        );
+    }
+
+    public IntMatrixType(Configuration configuration) {
+        super(
+            ArraySqlTypeDescriptor.INSTANCE,
+            new IntMatrixTypeDescriptor(), configuration
+        );
+    }
+
+    public String getName() {
+        return "int-matrix";
+    }
+
+    @Override
+    protected boolean registerUnderJavaType() {
+        return true;
+    }
+
+    @Override
+    public void setParameterValues(Properties parameters) {
+        ((IntMatrixTypeDescriptor) getJavaTypeDescriptor()).setParameterValues(parameters);
+    }
+}
\ No newline at end of file
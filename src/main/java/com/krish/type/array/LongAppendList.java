@@ -0,0 +1,102 @@
+package com.krish.type.array;
+
+/**
+ * {@link LongList} that remembers how many of its elements were loaded from the database and whether the loaded
+ * elements were left untouched since, so that {@link LongAppendListType} can bind only the appended elements.
+ */
+public class LongAppendList extends LongList {
+
+    private int persistedSize;
+
+    private boolean appendOnly = true;
+
+    public LongAppendList() {
+    }
+
+    public LongAppendList(int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * Create a list backed by the given array, which is not copied, so it must not be changed afterwards.
+     *
+     * @param values list elements
+     */
+    public LongAppendList(long[] values) {
+        super(values);
+    }
+
+    public static LongAppendList of(long... values) {
+        return new LongAppendList(values.clone());
+    }
+
+    /**
+     * Get the number of leading elements that were loaded from the database.
+     *
+     * @return persisted elements count
+     */
+    public int getPersistedSize() {
+        return persistedSize;
+    }
+
+    /**
+     * Tell whether the persisted elements are unchanged, so that the list only differs
+     * from its persisted state by the elements appended after them.
+     *
+     * @return {@code true} if the list was only appended to
+     */
+    public boolean isAppendOnly() {
+        return appendOnly;
+    }
+
+    /**
+     * Record that all the current elements are persisted, like when the list is loaded from the database.
+     * Binding the list does not call this method, since the elements are only persisted once the transaction commits.
+     */
+    public void markPersisted() {
+        persistedSize = size();
+        appendOnly = true;
+    }
+
+    @Override
+    public long setLong(int index, long value) {
+        long previous = super.setLong(index, value);
+        if (index < persistedSize) {
+            appendOnly = false;
+        }
+        return previous;
+    }
+
+    @Override
+    public void addLong(int index, long value) {
+        super.addLong(index, value);
+        if (index < persistedSize) {
+            appendOnly = false;
+        }
+    }
+
+    @Override
+    public long removeLong(int index) {
+        long previous = super.removeLong(index);
+        if (index < persistedSize) {
+            appendOnly = false;
+        }
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        if (persistedSize > 0) {
+            appendOnly = false;
+        }
+    }
+
+    @Override
+    protected LongList newCopy(long[] values) {
+        LongAppendList copy = new LongAppendList(values);
+        copy.persistedSize = persistedSize;
+        copy.appendOnly = appendOnly;
+        return copy;
+    }
+}
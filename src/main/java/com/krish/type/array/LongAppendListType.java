@@ -0,0 +1,97 @@
+package com.krish.type.array;
+
+import com.krish.type.AbstractHibernateType;
+import com.krish.type.array.internal.ArraySqlTypeDescriptor;
+import com.krish.type.array.internal.LongAppendListTypeDescriptor;
+import com.krish.type.util.Configuration;
+
+import org.hibernate.usertype.DynamicParameterizedType;
+
+import java.util.Properties;
+
+/**
+ * Maps a {@link LongAppendList} on a PostgreSQL {@code bigint[]} column type, binding only the appended elements
+ * when the persisted ones were not changed.
+ * <p>
+ * The appended elements are bound with their position and the {@link #APPEND_PREFIX}, like
+ * {@code append:[4:5]={7,8}}, so the column must be updated with the {@link #updateExpression(String)} expression,
+ * which keeps the persisted prefix of the column and concatenates the bound elements. A full replacement is bound as
+ * a plain array literal, in which case the expression yields the bound array as-is. Since a column write expression
+ * would also apply to {@code INSERT} statements, where the column cannot be referenced, the expression is meant for
+ * an {@code @SQLUpdate} statement:
+ * <pre>{@code
+ * @SQLUpdate(sql =
+ *     "update event_log set " +
+ *     "    event_ids = (select case when d.v is null then null " +
+ *     "        else coalesce(event_ids[1:array_lower(d.a, 1) - 1], '{}') || d.a end " +
+ *     "        from (select v, cast(case when left(v, 7) = 'append:' then substr(v, 8) else v end as bigint[]) as a " +
+ *     "            from (select cast(? as text) as v) p) d) " +
+ *     "where id = ?")
+ * }</pre>
+ * <p>
+ * Anywhere else, the prefix makes PostgreSQL reject the appended elements as a malformed array literal. So, an
+ * {@code INSERT} of an entity holding a loaded and appended list, or of its {@link LongAppendList#copy()}, an
+ * {@code UPDATE} without the expression, or a query parameter fails instead of storing or comparing the appended
+ * elements only. Such a list is written in full once copied into a new list, like
+ * {@code new LongAppendList(list.toLongArray())}.
+ * <p>
+ * The appended elements are the ones found after the elements loaded from the database, so a list flushed several
+ * times in the same session binds the elements appended since it was loaded every time, which is idempotent.
+ * Binding a value does not change it, so a failed flush or a rolled back transaction leaves the list consistent
+ * with the column.
+ */
+public class LongAppendListType
+        extends AbstractHibernateType<LongAppendList>
+        implements DynamicParameterizedType {
+
+    public static final LongAppendListType INSTANCE = new LongAppendListType();
+
+    /**
+     * Prefix of the bound appended elements, which is not a valid array literal.
+     */
+    public static final String APPEND_PREFIX = "append:";
+
+    public LongAppendListType() {
+        super(
+            ArraySqlTypeDescriptor.INSTANCE,
+            new LongAppendListTypeDescriptor()
+        );
+    }
+
+    public LongAppendListType(Configuration configuration) {
+        super(
+            ArraySqlTypeDescriptor.INSTANCE,
+            new LongAppendListTypeDescriptor(), configuration
+        );
+    }
+
+    /**
+     * Get the {@code SET} clause expression merging the bound elements into the given column.
+     *
+     * @param column column name
+     * @return update expression
+     */
+    public static String updateExpression(String column) {
+        return String.format(
+            "(select case when d.v is null then null " +
+            "else coalesce(%1$s[1:array_lower(d.a, 1) - 1], '{}') || d.a end " +
+            "from (select v, cast(case when left(v, %2$d) = '%3$s' then substr(v, %4$d) else v end as bigint[]) as a " +
+            "from (select cast(? as text) as v) p) d)",
+            column, APPEND_PREFIX.length(), APPEND_PREFIX, APPEND_PREFIX.length() + 1
+        );
+    }
+
+    public String getName() {
+        return "long-append-list";
+    }
+
+    @Override
+    protected boolean registerUnderJavaType() {
+        return true;
+    }
+
+    @Override
+    public void setParameterValues(Properties parameters) {
+        ((LongAppendListTypeDescriptor) getJavaTypeDescriptor()).setParameterValues(parameters);
+    }
+}
\ No newline at end of file
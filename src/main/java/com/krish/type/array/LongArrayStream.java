@@ -0,0 +1,112 @@
+package com.krish.type.array;
+
+import com.krish.type.array.internal.ArrayLiteralTokenizer;
+import com.krish.type.array.internal.ArrayUtil;
+
+import java.io.Serializable;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Holds the text representation of a one-dimensional PostgreSQL {@code bigint[]} array, like {@code {1,2,3}},
+ * and parses it incrementally whenever it is iterated, so neither a {@link java.sql.Array}, nor boxed or primitive
+ * copies of all the elements are ever created. {@code NULL} elements are returned as {@code 0}.
+ * <p>
+ * It is mapped by {@link LongArrayStreamType}.
+ */
+public class LongArrayStream implements Iterable<Long>, Serializable {
+
+    private final String literal;
+
+    public LongArrayStream(String literal) {
+        this.literal = literal;
+    }
+
+    public static LongArrayStream of(long... values) {
+        return new LongArrayStream(ArrayUtil.toArrayLiteral(values));
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+            private final ArrayLiteralTokenizer tokenizer = start(literal);
+
+            private boolean hasNext = advance(tokenizer, literal);
+
+            @Override
+            public boolean hasNext() {
+                return hasNext;
+            }
+
+            @Override
+            public long nextLong() {
+                if (!hasNext) {
+                    throw new NoSuchElementException();
+                }
+                long value = tokenizer.isNull() ? 0L : tokenizer.longValue();
+                hasNext = advance(tokenizer, literal);
+                return value;
+            }
+        };
+    }
+
+    public LongStream stream() {
+        return StreamSupport.longStream(
+            Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL),
+            false
+        );
+    }
+
+    public long[] toLongArray() {
+        return ArrayUtil.fromString(literal, long[].class);
+    }
+
+    /**
+     * Get the array literal.
+     *
+     * @return array literal
+     */
+    public String toArrayLiteral() {
+        return literal;
+    }
+
+    static ArrayLiteralTokenizer start(String literal) {
+        ArrayLiteralTokenizer tokenizer = new ArrayLiteralTokenizer(literal);
+        if (tokenizer.next() != ArrayLiteralTokenizer.START_ARRAY) {
+            throw new IllegalArgumentException("The given string value: " + literal + " is not a valid array literal");
+        }
+        return tokenizer;
+    }
+
+    static boolean advance(ArrayLiteralTokenizer tokenizer, String literal) {
+        int token = tokenizer.next();
+        if (token == ArrayLiteralTokenizer.ELEMENT) {
+            return true;
+        }
+        if (token != ArrayLiteralTokenizer.END_ARRAY || tokenizer.next() != ArrayLiteralTokenizer.END) {
+            throw new IllegalArgumentException("The given string value: " + literal + " is not a one-dimensional array literal");
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LongArrayStream)) return false;
+        return literal.equals(((LongArrayStream) o).literal);
+    }
+
+    @Override
+    public int hashCode() {
+        return literal.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return literal;
+    }
+}
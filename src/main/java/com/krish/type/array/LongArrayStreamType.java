@@ -0,0 +1,48 @@
+package com.krish.type.array;
+
+import com.krish.type.ImmutableType;
+import com.krish.type.util.Configuration;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Maps a PostgreSQL {@code bigint[]} column on a {@link LongArrayStream} entity attribute, so that huge arrays
+ * are fetched in their text form and parsed element by element while being iterated.
+ */
+public class LongArrayStreamType extends ImmutableType<LongArrayStream> {
+
+    public static final LongArrayStreamType INSTANCE = new LongArrayStreamType();
+
+    public LongArrayStreamType() {
+        super(LongArrayStream.class);
+    }
+
+    public LongArrayStreamType(Configuration configuration) {
+        super(LongArrayStream.class, configuration);
+    }
+
+    @Override
+    public int[] sqlTypes() {
+        return new int[]{Types.ARRAY};
+    }
+
+    @Override
+    protected LongArrayStream get(ResultSet rs, String[] names, SharedSessionContractImplementor session, Object owner) throws SQLException {
+        String literal = rs.getString(names[0]);
+        return literal != null ? new LongArrayStream(literal) : null;
+    }
+
+    @Override
+    protected void set(PreparedStatement st, LongArrayStream value, int index, SharedSessionContractImplementor session) throws SQLException {
+        if (value == null) {
+            st.setNull(index, Types.ARRAY);
+        } else {
+            st.setObject(index, value.toArrayLiteral(), Types.OTHER);
+        }
+    }
+}
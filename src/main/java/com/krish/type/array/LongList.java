@@ -0,0 +1,229 @@
+package com.krish.type.array;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * {@link java.util.List} of {@link Long} elements backed by an {@code long[]} array, so elements are only boxed
+ * when accessed through the {@link java.util.List} methods. The {@link #getLong(int)}, {@link #setLong(int, long)}
+ * and {@link #addLong(long)} methods avoid boxing altogether.
+ * <p>
+ * Every change increments a version counter. Copies remember which list they were taken from, and at which version,
+ * so {@link LongListArrayType} can tell whether a managed list changed without comparing its elements.
+ * <p>
+ * {@code null} elements are not supported.
+ */
+public class LongList extends AbstractList<Long> implements RandomAccess, Serializable {
+
+    private long[] values;
+
+    private int size;
+
+    private int version;
+
+    private transient LongList origin;
+
+    private transient int originVersion;
+
+    public LongList() {
+        this(10);
+    }
+
+    public LongList(int capacity) {
+        this.values = new long[capacity];
+    }
+
+    /**
+     * Create a list backed by the given array, which is not copied, so it must not be changed afterwards.
+     *
+     * @param values list elements
+     */
+    public LongList(long[] values) {
+        this.values = values;
+        this.size = values.length;
+    }
+
+    public static LongList of(long... values) {
+        return new LongList(values.clone());
+    }
+
+    @Override
+    public Long get(int index) {
+        return getLong(index);
+    }
+
+    public long getLong(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    @Override
+    public Long set(int index, Long element) {
+        return setLong(index, element);
+    }
+
+    public long setLong(int index, long value) {
+        checkIndex(index);
+        long previous = values[index];
+        values[index] = value;
+        version++;
+        return previous;
+    }
+
+    @Override
+    public void add(int index, Long element) {
+        addLong(index, element);
+    }
+
+    public void addLong(long value) {
+        addLong(size, value);
+    }
+
+    public void addLong(int index, long value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, Math.max(8, size + (size >> 1)));
+        }
+        System.arraycopy(values, index, values, index + 1, size - index);
+        values[index] = value;
+        size++;
+        modCount++;
+        version++;
+    }
+
+    @Override
+    public Long remove(int index) {
+        return removeLong(index);
+    }
+
+    public long removeLong(int index) {
+        checkIndex(index);
+        long previous = values[index];
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        modCount++;
+        version++;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+        version++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (o instanceof Long) {
+            long value = (Long) o;
+            for (int i = 0; i < size; i++) {
+                if (values[i] == value) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    public long[] toLongArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Get the number of changes made to this list since it was created.
+     *
+     * @return modification counter
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Copy this list, recording this list and its current version as the origin of the copy.
+     *
+     * @return list copy
+     */
+    public LongList copy() {
+        LongList copy = newCopy(toLongArray());
+        copy.origin = this;
+        copy.originVersion = version;
+        return copy;
+    }
+
+    /**
+     * Create the list instance returned by {@link #copy()}, so that subclasses can copy their own state as well.
+     *
+     * @param values copied elements
+     * @return list copy
+     */
+    protected LongList newCopy(long[] values) {
+        return new LongList(values);
+    }
+
+    /**
+     * Tell whether this list was created by calling {@link #copy()} on the given list.
+     *
+     * @param other list to check
+     * @return {@code true} if this list is a copy of the given list
+     */
+    public boolean isCopyOf(LongList other) {
+        return origin == other;
+    }
+
+    /**
+     * Tell whether this list is a copy of the given list and whether both lists
+     * are still unchanged since the copy was taken.
+     *
+     * @param other list to check
+     * @return {@code true} if this list is an unmodified copy of the given unmodified list
+     */
+    public boolean isUnmodifiedCopyOf(LongList other) {
+        return origin == other && originVersion == other.version && version == 0;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LongList)) return super.equals(o);
+        LongList that = (LongList) o;
+        if (size != that.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (values[i] != that.values[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (int i = 0; i < size; i++) {
+            hashCode = 31 * hashCode + Long.hashCode(values[i]);
+        }
+        return hashCode;
+    }
+}
@@ -0,0 +1,50 @@
+package com.krish.type.array;
+
+import com.krish.type.AbstractHibernateType;
+import com.krish.type.array.internal.ArraySqlTypeDescriptor;
+import com.krish.type.array.internal.LongListTypeDescriptor;
+import com.krish.type.util.Configuration;
+
+import org.hibernate.usertype.DynamicParameterizedType;
+
+import java.util.Properties;
+
+/**
+ * Maps an {@link LongList} on a PostgreSQL {@code bigint[]} column type.
+ * <p>
+ * Dirty checking relies on the {@link LongList} modification counter, so unchanged lists are not compared element by element.
+ */
+public class LongListArrayType
+        extends AbstractHibernateType<LongList>
+        implements DynamicParameterizedType {
+
+    public static final LongListArrayType INSTANCE = new LongListArrayType();
+
+    public LongListArrayType() {
+        super(
+            ArraySqlTypeDescriptor.INSTANCE,
+            new LongListTypeDescriptor()
+        );
+    }
+
+    public LongListArrayType(Configuration configuration) {
+        super(
+            ArraySqlTypeDescriptor.INSTANCE,
+            new LongListTypeDescriptor(), configuration
+        );
+    }
+
+    public String getName() {
+        return "long-list-array";
+    }
+
+    @Override
+    protected boolean registerUnderJavaType() {
+        return true;
+    }
+
+    @Override
+    public void setParameterValues(Properties parameters) {
+        ((LongListTypeDescriptor) getJavaTypeDescriptor()).setParameterValues(parameters);
+    }
+}
\ No newline at end of file
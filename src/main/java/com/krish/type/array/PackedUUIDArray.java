@@ -0,0 +1,123 @@
+package com.krish.type.array;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Array of UUIDs packed in a single {@code long[]}, holding the most and least significant bits of every UUID
+ * next to each other, so that an array of {@code n} UUIDs costs one array header and {@code 16 * n} bytes,
+ * instead of {@code n} {@link UUID} objects.
+ * <p>
+ * It is mapped on a PostgreSQL {@code uuid[]} column by {@link PackedUUIDArrayType}. {@code null} elements are not supported.
+ */
+public final class PackedUUIDArray implements Serializable {
+
+    private final long[] bits;
+
+    /**
+     * Create an array backed by the given packed bits, which are not copied.
+     *
+     * @param bits most and least significant bits pairs
+     */
+    public PackedUUIDArray(long[] bits) {
+        if ((bits.length & 1) != 0) {
+            throw new IllegalArgumentException("The packed UUID bits must come in pairs");
+        }
+        this.bits = bits;
+    }
+
+    public static PackedUUIDArray of(UUID... uuids) {
+        long[] bits = new long[uuids.length << 1];
+        for (int i = 0; i < uuids.length; i++) {
+            bits[i << 1] = uuids[i].getMostSignificantBits();
+            bits[(i << 1) + 1] = uuids[i].getLeastSignificantBits();
+        }
+        return new PackedUUIDArray(bits);
+    }
+
+    public static PackedUUIDArray of(Collection<UUID> uuids) {
+        return of(uuids.toArray(new UUID[0]));
+    }
+
+    public int size() {
+        return bits.length >> 1;
+    }
+
+    public UUID get(int index) {
+        return new UUID(getMostSignificantBits(index), getLeastSignificantBits(index));
+    }
+
+    public long getMostSignificantBits(int index) {
+        checkIndex(index);
+        return bits[index << 1];
+    }
+
+    public long getLeastSignificantBits(int index) {
+        checkIndex(index);
+        return bits[(index << 1) + 1];
+    }
+
+    public void set(int index, UUID uuid) {
+        checkIndex(index);
+        bits[index << 1] = uuid.getMostSignificantBits();
+        bits[(index << 1) + 1] = uuid.getLeastSignificantBits();
+    }
+
+    public boolean contains(UUID uuid) {
+        long mostSignificantBits = uuid.getMostSignificantBits();
+        long leastSignificantBits = uuid.getLeastSignificantBits();
+        for (int i = 0; i < bits.length; i += 2) {
+            if (bits[i] == mostSignificantBits && bits[i + 1] == leastSignificantBits) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public UUID[] toArray() {
+        UUID[] uuids = new UUID[size()];
+        for (int i = 0; i < uuids.length; i++) {
+            uuids[i] = new UUID(bits[i << 1], bits[(i << 1) + 1]);
+        }
+        return uuids;
+    }
+
+    /**
+     * Get the backing most and least significant bits pairs.
+     *
+     * @return backing array
+     */
+    public long[] getBits() {
+        return bits;
+    }
+
+    public PackedUUIDArray copy() {
+        return new PackedUUIDArray(bits.clone());
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PackedUUIDArray)) return false;
+        PackedUUIDArray that = (PackedUUIDArray) o;
+        return Arrays.equals(bits, that.bits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bits);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
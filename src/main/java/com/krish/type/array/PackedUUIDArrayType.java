@@ -0,0 +1,48 @@
+package com.krish.type.array;
+
+import com.krish.type.AbstractHibernateType;
+import com.krish.type.array.internal.ArraySqlTypeDescriptor;
+import com.krish.type.array.internal.PackedUUIDArrayTypeDescriptor;
+import com.krish.type.util.Configuration;
+
+import org.hibernate.usertype.DynamicParameterizedType;
+
+import java.util.Properties;
+
+/**
+ * Maps a {@link PackedUUIDArray} on a PostgreSQL {@code uuid[]} column type.
+ */
+public class PackedUUIDArrayType
+        extends AbstractHibernateType<PackedUUIDArray>
+        implements DynamicParameterizedType {
+
+    public static final PackedUUIDArrayType INSTANCE = new PackedUUIDArrayType();
+
+    public PackedUUIDArrayType() {
+        super(
+            ArraySqlTypeDescriptor.INSTANCE,
+            new PackedUUIDArrayTypeDescriptor()
+        );
+    }
+
+    public PackedUUIDArrayType(Configuration configuration) {
+        super(
+            ArraySqlTypeDescriptor.INSTANCE,
+            new PackedUUIDArrayTypeDescriptor(), configuration
+        );
+    }
+
+    public String getName() {
+        return "packed-uuid-array";
+    }
+
+    @Override
+    protected boolean registerUnderJavaType() {
+        return true;
+    }
+
+    @Override
+    public void setParameterValues(Properties parameters) {
+        ((PackedUUIDArrayTypeDescriptor) getJavaTypeDescriptor()).setParameterValues(parameters);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.krish.type.array;
+
+import com.krish.type.AbstractHibernateType;
+import com.krish.type.array.internal.ArraySqlTypeDescriptor;
+import com.krish.type.array.internal.ShortArrayTypeDescriptor;
+import com.krish.type.util.Configuration;
+
+import org.hibernate.usertype.DynamicParameterizedType;
+
+import java.util.Properties;
+
+/**
+ * Maps a {@code short[]} array on a PostgreSQL {@code int2[]} column type.
+ * <p>
+ * For more details about how to use it, check out <a href="https://vladmihalcea.com/how-to-map-java-and-sql-arrays-with-jpa-and-hibernate/">this article</a> on <a href="https://vladmihalcea.com/">vladmihalcea.com</a>.
+ */
+public class ShortArrayType
+        extends AbstractHibernateType<short[]>
+        implements DynamicParameterizedType {
+
+    public static final ShortArrayType INSTANCE = new ShortArrayType();
+
+    public ShortArrayType() {
+        super(
+            ArraySqlTypeDescriptor.INSTANCE,
+            new ShortArrayTypeDescriptor()
+        );
+    }
+
+    public ShortArrayType(Configuration configuration) {
+        super(
+            ArraySqlTypeDescriptor.INSTANCE,
+            new ShortArrayTypeDescriptor(), configuration
+        );
+    }
+
+    public String getName() {
+        return "short-array";
+    }
+
+    @Override
+    protected boolean registerUnderJavaType() {
+        return true;
+    }
+
+    @Override
+    public void setParameterValues(Properties parameters) {
+        ((ShortArrayTypeDescriptor) getJavaTypeDescriptor()).setParameterValues(parameters);
+    }
+}
@@ -0,0 +1,90 @@
+package com.krish.type.array;
+
+import com.krish.type.array.internal.ArrayLiteralTokenizer;
+import com.krish.type.array.internal.ArrayUtil;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Holds the text representation of a one-dimensional PostgreSQL {@code text[]} array, like {@code {a,"b c",NULL}},
+ * and parses it incrementally whenever it is iterated, so only the element being visited is materialized.
+ * {@code NULL} elements are returned as {@code null}.
+ * <p>
+ * It is mapped by {@link TextArrayStreamType}.
+ */
+public class TextArrayStream implements Iterable<String>, Serializable {
+
+    private final String literal;
+
+    public TextArrayStream(String literal) {
+        this.literal = literal;
+    }
+
+    public static TextArrayStream of(String... values) {
+        return new TextArrayStream(ArrayUtil.toQuotedArrayLiteral(values));
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<String>() {
+            private final ArrayLiteralTokenizer tokenizer = LongArrayStream.start(literal);
+
+            private boolean hasNext = LongArrayStream.advance(tokenizer, literal);
+
+            @Override
+            public boolean hasNext() {
+                return hasNext;
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext) {
+                    throw new NoSuchElementException();
+                }
+                String value = tokenizer.isNull() ? null : tokenizer.stringValue();
+                hasNext = LongArrayStream.advance(tokenizer, literal);
+                return value;
+            }
+        };
+    }
+
+    public Stream<String> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED), false);
+    }
+
+    public String[] toArray() {
+        return ArrayUtil.fromString(literal, String[].class);
+    }
+
+    /**
+     * Get the array literal.
+     *
+     * @return array literal
+     */
+    public String toArrayLiteral() {
+        return literal;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TextArrayStream)) return false;
+        return literal.equals(((TextArrayStream) o).literal);
+    }
+
+    @Override
+    public int hashCode() {
+        return literal.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return literal;
+    }
+}
@@ -0,0 +1,48 @@
+package com.krish.type.array;
+
+import com.krish.type.ImmutableType;
+import com.krish.type.util.Configuration;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Maps a PostgreSQL {@code text[]} column on a {@link TextArrayStream} entity attribute, so that huge arrays
+ * are fetched in their text form and parsed element by element while being iterated.
+ */
+public class TextArrayStreamType extends ImmutableType<TextArrayStream> {
+
+    public static final TextArrayStreamType INSTANCE = new TextArrayStreamType();
+
+    public TextArrayStreamType() {
+        super(TextArrayStream.class);
+    }
+
+    public TextArrayStreamType(Configuration configuration) {
+        super(TextArrayStream.class, configuration);
+    }
+
+    @Override
+    public int[] sqlTypes() {
+        return new int[]{Types.ARRAY};
+    }
+
+    @Override
+    protected TextArrayStream get(ResultSet rs, String[] names, SharedSessionContractImplementor session, Object owner) throws SQLException {
+        String literal = rs.getString(names[0]);
+        return literal != null ? new TextArrayStream(literal) : null;
+    }
+
+    @Override
+    protected void set(PreparedStatement st, TextArrayStream value, int index, SharedSessionContractImplementor session) throws SQLException {
+        if (value == null) {
+            st.setNull(index, Types.ARRAY);
+        } else {
+            st.setObject(index, value.toArrayLiteral(), Types.OTHER);
+        }
+    }
+}
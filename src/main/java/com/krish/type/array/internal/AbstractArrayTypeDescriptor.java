@@ -10,6 +10,7 @@ import java.sql.Array;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Properties;
+import java.util.function.BiPredicate;
 
 /**
  * @author Vlad Mihalcea
@@ -17,8 +18,23 @@ import java.util.Properties;
 public abstract class AbstractArrayTypeDescriptor<T>
         extends AbstractTypeDescriptor<T> implements DynamicParameterizedType {
 
+    /**
+     * Type parameter defining how {@code NULL} elements are mapped on {@code int} and {@code long} arrays and lists:
+     * either a number used as a sentinel value, {@code 0} by default, or {@code fail} to reject such arrays.
+     * On the other primitive arrays, {@code NULL} elements are mapped to {@code 0} or {@code false}.
+     */
+    public static final String NULL_ELEMENT = "null_element";
+
+    private static final String NULL_ELEMENT_FAIL = "fail";
+
     private Class<T> arrayObjectClass;
 
+    private BiPredicate<Object, Object> equality;
+
+    private long nullElementValue;
+
+    private boolean failOnNullElement;
+
     public AbstractArrayTypeDescriptor(Class<T> arrayObjectClass) {
         super(arrayObjectClass, (MutabilityPlan<T>) new MutableMutabilityPlan<Object>() {
             @Override
@@ -27,28 +43,42 @@ public abstract class AbstractArrayTypeDescriptor<T>
             }
         });
         this.arrayObjectClass = arrayObjectClass;
+        this.equality = ArrayUtil.equality(arrayObjectClass);
+    }
+
+    protected AbstractArrayTypeDescriptor(Class<T> arrayObjectClass, MutabilityPlan<T> mutabilityPlan) {
+        super(arrayObjectClass, mutabilityPlan);
+        this.arrayObjectClass = arrayObjectClass;
+        this.equality = ArrayUtil.equality(arrayObjectClass);
     }
 
     @Override
     public void setParameterValues(Properties parameters) {
         arrayObjectClass = ((ParameterType) parameters.get(PARAMETER_TYPE)).getReturnedClass();
-
+        equality = ArrayUtil.equality(arrayObjectClass);
+        String nullElement = parameters.getProperty(NULL_ELEMENT);
+        if (nullElement != null) {
+            failOnNullElement = NULL_ELEMENT_FAIL.equalsIgnoreCase(nullElement);
+            nullElementValue = failOnNullElement ? 0 : Long.parseLong(nullElement);
+        }
     }
 
     @Override
-    public boolean areEqual(Object one, Object another) {
+    public boolean areEqual(T one, T another) {
         if (one == another) {
             return true;
         }
-        if (one == null || another == null) {
+        if (one == null || another == null || one.getClass() != another.getClass()) {
             return false;
         }
-        return ArrayUtil.isEquals(one, another);
+        return one.getClass() == arrayObjectClass ?
+            equality.test(one, another) :
+            ArrayUtil.isEquals(one, another);
     }
 
     @Override
-    public String toString(Object value) {
-        return Arrays.deepToString((Object[]) value);
+    public String toString(T value) {
+        return Arrays.deepToString(ArrayUtil.wrapArray(value));
     }
 
     @Override
@@ -72,9 +102,73 @@ public abstract class AbstractArrayTypeDescriptor<T>
                 throw new IllegalArgumentException(e);
             }
         }
+        if (value instanceof String) {
+            return fromArrayLiteral((String) value);
+        }
         return (T) value;
     }
 
+    /**
+     * Tell whether the column value should be fetched in its text form and parsed by {@link #fromArrayLiteral(String)},
+     * instead of going through {@link Array#getArray()} and a boxed copy of every element.
+     *
+     * @return {@code true} for primitive and multi-dimensional arrays
+     */
+    protected boolean isExtractedAsText() {
+        if (!arrayObjectClass.isArray()) {
+            return false;
+        }
+        Class componentType = arrayObjectClass.getComponentType();
+        return componentType.isPrimitive() || componentType.isArray();
+    }
+
+    /**
+     * Parse the PostgreSQL text representation of the array.
+     *
+     * @param literal array literal, for instance {@code {1,2,3}}
+     * @return parsed array
+     */
+    @SuppressWarnings({"unchecked"})
+    protected T fromArrayLiteral(String literal) {
+        if (int[].class.equals(arrayObjectClass)) {
+            return (T) parseIntArray(literal);
+        } else if (long[].class.equals(arrayObjectClass)) {
+            return (T) parseLongArray(literal);
+        }
+        return ArrayUtil.fromString(literal, arrayObjectClass);
+    }
+
+    /**
+     * Parse an {@code int} array literal according to the {@link #NULL_ELEMENT} setting.
+     *
+     * @param literal array literal
+     * @return parsed array
+     */
+    protected int[] parseIntArray(String literal) {
+        return ArrayLiteralParser.parseIntArray(literal, (int) nullElementValue, failOnNullElement);
+    }
+
+    /**
+     * Parse a {@code long} array literal according to the {@link #NULL_ELEMENT} setting.
+     *
+     * @param literal array literal
+     * @return parsed array
+     */
+    protected long[] parseLongArray(String literal) {
+        return ArrayLiteralParser.parseLongArray(literal, nullElementValue, failOnNullElement);
+    }
+
     protected abstract String getSqlArrayType();
 
+    /**
+     * Render the given array as a PostgreSQL array literal, so that it can be bound as a single
+     * {@link String} instead of being boxed element by element for {@link java.sql.Connection#createArrayOf(String, Object[])}.
+     *
+     * @param value array to render
+     * @return array literal, or {@code null} if the array has to be bound as a {@link Array}
+     */
+    protected String toArrayLiteral(Object value) {
+        return ArrayUtil.toArrayLiteral(value);
+    }
+
 }
@@ -0,0 +1,201 @@
+package com.krish.type.array.internal;
+
+/**
+ * Parses the PostgreSQL text representation of one-dimensional numeric arrays, such as {@code {1,2,NULL}},
+ * straight into primitive Java arrays, without creating intermediate {@link String} tokens or boxed elements.
+ */
+public final class ArrayLiteralParser {
+
+    private ArrayLiteralParser() {
+        throw new UnsupportedOperationException("ArrayLiteralParser is not instantiable!");
+    }
+
+    /**
+     * Parse an {@code int} array literal.
+     *
+     * @param literal    array literal, for instance {@code {1,2,3}}
+     * @param nullValue  value used for {@code NULL} elements
+     * @param failOnNull whether {@code NULL} elements should be rejected
+     * @return parsed array
+     */
+    public static int[] parseIntArray(String literal, int nullValue, boolean failOnNull) {
+        int start = elementsStart(literal);
+        int end = elementsEnd(literal, start);
+        int[] array = new int[countElements(literal, start, end)];
+        int position = start;
+        for (int i = 0; i < array.length; i++) {
+            position = skipWhitespace(literal, position, end);
+            if (isNull(literal, position, end)) {
+                checkNull(literal, failOnNull);
+                array[i] = nullValue;
+                position += 4;
+            } else {
+                int tokenEnd = tokenEnd(literal, position, end);
+                long value = parseLong(literal, position, tokenEnd);
+                if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                    throw invalidLiteral(literal);
+                }
+                array[i] = (int) value;
+                position = tokenEnd;
+            }
+            position = nextElement(literal, position, end);
+        }
+        return array;
+    }
+
+    /**
+     * Parse a {@code long} array literal.
+     *
+     * @param literal    array literal, for instance {@code {1,2,3}}
+     * @param nullValue  value used for {@code NULL} elements
+     * @param failOnNull whether {@code NULL} elements should be rejected
+     * @return parsed array
+     */
+    public static long[] parseLongArray(String literal, long nullValue, boolean failOnNull) {
+        int start = elementsStart(literal);
+        int end = elementsEnd(literal, start);
+        long[] array = new long[countElements(literal, start, end)];
+        int position = start;
+        for (int i = 0; i < array.length; i++) {
+            position = skipWhitespace(literal, position, end);
+            if (isNull(literal, position, end)) {
+                checkNull(literal, failOnNull);
+                array[i] = nullValue;
+                position += 4;
+            } else {
+                int tokenEnd = tokenEnd(literal, position, end);
+                array[i] = parseLong(literal, position, tokenEnd);
+                position = tokenEnd;
+            }
+            position = nextElement(literal, position, end);
+        }
+        return array;
+    }
+
+    /**
+     * Skip the optional dimension decoration, like {@code [0:2]=}, and the opening brace.
+     */
+    private static int elementsStart(String literal) {
+        int position = 0;
+        if (literal.length() > 0 && literal.charAt(0) == '[') {
+            position = literal.indexOf('=') + 1;
+            if (position == 0) {
+                throw invalidLiteral(literal);
+            }
+        }
+        if (position >= literal.length() || literal.charAt(position) != '{') {
+            throw invalidLiteral(literal);
+        }
+        return position + 1;
+    }
+
+    private static int elementsEnd(String literal, int start) {
+        int end = literal.length() - 1;
+        if (end < start || literal.charAt(end) != '}') {
+            throw invalidLiteral(literal);
+        }
+        return end;
+    }
+
+    private static int countElements(String literal, int start, int end) {
+        if (skipWhitespace(literal, start, end) == end) {
+            return 0;
+        }
+        int count = 1;
+        for (int i = start; i < end; i++) {
+            char c = literal.charAt(i);
+            if (c == ',') {
+                count++;
+            } else if (c == '{' || c == '"') {
+                throw new IllegalArgumentException(
+                    "The array literal: " + literal + " is not a one-dimensional numeric array"
+                );
+            }
+        }
+        return count;
+    }
+
+    private static int skipWhitespace(String literal, int position, int end) {
+        while (position < end && Character.isWhitespace(literal.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static int tokenEnd(String literal, int position, int end) {
+        while (position < end) {
+            char c = literal.charAt(position);
+            if (c == ',' || Character.isWhitespace(c)) {
+                break;
+            }
+            position++;
+        }
+        return position;
+    }
+
+    private static int nextElement(String literal, int position, int end) {
+        position = skipWhitespace(literal, position, end);
+        if (position < end) {
+            if (literal.charAt(position) != ',') {
+                throw invalidLiteral(literal);
+            }
+            position++;
+        }
+        return position;
+    }
+
+    private static boolean isNull(String literal, int position, int end) {
+        return position + 4 <= end &&
+            literal.regionMatches(true, position, "NULL", 0, 4) &&
+            (position + 4 == end || literal.charAt(position + 4) == ',' || Character.isWhitespace(literal.charAt(position + 4)));
+    }
+
+    private static void checkNull(String literal, boolean failOnNull) {
+        if (failOnNull) {
+            throw new IllegalArgumentException(
+                "The array literal: " + literal + " contains NULL elements which cannot be mapped to a primitive array"
+            );
+        }
+    }
+
+    /**
+     * Parse the decimal number found between the given positions, accumulating negatively
+     * like {@link Long#parseLong(String)} does, so that {@link Long#MIN_VALUE} can be parsed too.
+     */
+    static long parseLong(String literal, int start, int end) {
+        if (start == end) {
+            throw invalidLiteral(literal);
+        }
+        boolean negative = false;
+        long limit = -Long.MAX_VALUE;
+        int position = start;
+        char first = literal.charAt(position);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (negative) {
+                limit = Long.MIN_VALUE;
+            }
+            if (++position == end) {
+                throw invalidLiteral(literal);
+            }
+        }
+        long multiplyLimit = limit / 10;
+        long result = 0;
+        while (position < end) {
+            int digit = literal.charAt(position++) - '0';
+            if (digit < 0 || digit > 9 || result < multiplyLimit) {
+                throw invalidLiteral(literal);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw invalidLiteral(literal);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    private static IllegalArgumentException invalidLiteral(String literal) {
+        return new IllegalArgumentException("The given string value: " + literal + " is not a valid array literal");
+    }
+}
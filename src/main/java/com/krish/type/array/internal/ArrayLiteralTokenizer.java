@@ -0,0 +1,376 @@
+package com.krish.type.array.internal;
+
+/**
+ * Pull tokenizer for array literals, either in the PostgreSQL text representation,
+ * like {@code {1,"a,b",NULL}} or {@code [1:2]={{1,2},{3,4}}}, or in the {@link java.util.Arrays#deepToString(Object[])}
+ * format, like {@code [1, 2, null]}.
+ * <p>
+ * Like in PostgreSQL, an empty element of a {@code {...}} literal must be quoted, as in {@code {"",1}}, while the
+ * {@link java.util.Arrays#deepToString(Object[])} format renders empty strings unquoted.
+ * <p>
+ * Quoted and backslash-escaped elements are supported, and element boundaries are tracked by position,
+ * so numeric elements are parsed in place and only text elements allocate a {@link String}.
+ */
+public final class ArrayLiteralTokenizer {
+
+    /**
+     * No more tokens.
+     */
+    public static final int END = 0;
+
+    /**
+     * Opening brace of an array, or of a sub-array in a multi-dimensional array.
+     */
+    public static final int START_ARRAY = 1;
+
+    /**
+     * Closing brace of an array, or of a sub-array in a multi-dimensional array.
+     */
+    public static final int END_ARRAY = 2;
+
+    /**
+     * Array element, whose value is given by {@link #isNull()}, {@link #stringValue()}, {@link #intValue()}, etc.
+     */
+    public static final int ELEMENT = 3;
+
+    private final String literal;
+
+    private final int length;
+
+    private int position;
+
+    private char open;
+
+    private char close;
+
+    private int depth;
+
+    private boolean afterValue;
+
+    private boolean afterComma;
+
+    private int tokenStart;
+
+    private int tokenEnd;
+
+    private boolean quoted;
+
+    private boolean escaped;
+
+    public ArrayLiteralTokenizer(String literal) {
+        this.literal = literal;
+        this.length = literal.length();
+        this.position = skipDimensions();
+    }
+
+    /**
+     * Move to the next token.
+     *
+     * @return {@link #START_ARRAY}, {@link #END_ARRAY}, {@link #ELEMENT} or {@link #END}
+     */
+    public int next() {
+        position = skipWhitespace(position);
+        if (position >= length) {
+            if (depth != 0 || open == 0) {
+                throw invalidLiteral();
+            }
+            return END;
+        }
+        char c = literal.charAt(position);
+        if (afterValue) {
+            if (depth == 0) {
+                throw invalidLiteral();
+            }
+            if (c == ',') {
+                position = skipWhitespace(position + 1);
+                if (position >= length) {
+                    throw invalidLiteral();
+                }
+                c = literal.charAt(position);
+                afterValue = false;
+                afterComma = true;
+            } else if (c != close) {
+                throw invalidLiteral();
+            }
+        }
+        if (depth == 0) {
+            if (open == 0 && (c == '{' || c == '[')) {
+                open = c;
+                close = c == '{' ? '}' : ']';
+            } else if (c != open) {
+                throw invalidLiteral();
+            }
+        }
+        if (c == open) {
+            position++;
+            depth++;
+            afterComma = false;
+            return START_ARRAY;
+        }
+        if (c == close) {
+            if (afterComma) {
+                throw invalidLiteral();
+            }
+            position++;
+            depth--;
+            afterValue = true;
+            return END_ARRAY;
+        }
+        if (c == '"') {
+            readQuoted();
+        } else {
+            readUnquoted();
+        }
+        afterValue = true;
+        afterComma = false;
+        return ELEMENT;
+    }
+
+    /**
+     * Count the elements, or sub-arrays, of the array whose {@link #START_ARRAY} token was just returned,
+     * without consuming them.
+     *
+     * @return number of elements
+     */
+    public int countElements() {
+        int current = skipWhitespace(position);
+        if (current < length && literal.charAt(current) == close) {
+            return 0;
+        }
+        int count = 1;
+        int nested = 0;
+        boolean inQuotes = false;
+        for (; current < length; current++) {
+            char c = literal.charAt(current);
+            if (inQuotes) {
+                if (c == '\\') {
+                    current++;
+                } else if (c == '"') {
+                    inQuotes = false;
+                }
+            } else if (c == '"') {
+                inQuotes = true;
+            } else if (c == '\\') {
+                current++;
+            } else if (c == open) {
+                nested++;
+            } else if (c == close) {
+                if (nested == 0) {
+                    return count;
+                }
+                nested--;
+            } else if (c == ',' && nested == 0) {
+                count++;
+            }
+        }
+        throw invalidLiteral();
+    }
+
+    /**
+     * Tell whether the current element is an unquoted {@code NULL}.
+     *
+     * @return {@code true} for {@code NULL} elements
+     */
+    public boolean isNull() {
+        return !quoted && tokenEnd - tokenStart == 4 && literal.regionMatches(true, tokenStart, "NULL", 0, 4);
+    }
+
+    public String stringValue() {
+        if (!escaped) {
+            return literal.substring(tokenStart, tokenEnd);
+        }
+        StringBuilder builder = new StringBuilder(tokenEnd - tokenStart);
+        for (int i = tokenStart; i < tokenEnd; i++) {
+            char c = literal.charAt(i);
+            if (c == '\\') {
+                c = literal.charAt(++i);
+            }
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+
+    public long longValue() {
+        if (escaped) {
+            throw invalidLiteral();
+        }
+        return ArrayLiteralParser.parseLong(literal, tokenStart, tokenEnd);
+    }
+
+    public int intValue() {
+        long value = longValue();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw invalidLiteral();
+        }
+        return (int) value;
+    }
+
+    public short shortValue() {
+        long value = longValue();
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+            throw invalidLiteral();
+        }
+        return (short) value;
+    }
+
+    public byte byteValue() {
+        long value = longValue();
+        if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+            throw invalidLiteral();
+        }
+        return (byte) value;
+    }
+
+    public double doubleValue() {
+        try {
+            return Double.parseDouble(stringValue());
+        } catch (NumberFormatException e) {
+            throw invalidLiteral();
+        }
+    }
+
+    public float floatValue() {
+        try {
+            return Float.parseFloat(stringValue());
+        } catch (NumberFormatException e) {
+            throw invalidLiteral();
+        }
+    }
+
+    /**
+     * Parse the current element as a boolean, accepting both the PostgreSQL {@code t}/{@code f}
+     * and the Java {@code true}/{@code false} representations.
+     *
+     * @return boolean value
+     */
+    public boolean booleanValue() {
+        int tokenLength = tokenEnd - tokenStart;
+        if (tokenLength == 1) {
+            char c = Character.toLowerCase(literal.charAt(tokenStart));
+            if (c == 't') {
+                return true;
+            } else if (c == 'f') {
+                return false;
+            }
+        } else if (tokenLength == 4 && literal.regionMatches(true, tokenStart, "true", 0, 4)) {
+            return true;
+        } else if (tokenLength == 5 && literal.regionMatches(true, tokenStart, "false", 0, 5)) {
+            return false;
+        }
+        throw invalidLiteral();
+    }
+
+    public char charValue() {
+        if (tokenStart == tokenEnd) {
+            return Character.MIN_VALUE;
+        }
+        char c = literal.charAt(tokenStart);
+        return c == '\\' && escaped ? literal.charAt(tokenStart + 1) : c;
+    }
+
+    /**
+     * Tell whether the current element contains backslash escapes, in which case its raw text
+     * differs from {@link #stringValue()}.
+     *
+     * @return {@code true} for escaped elements
+     */
+    public boolean isEscaped() {
+        return escaped;
+    }
+
+    public String getLiteral() {
+        return literal;
+    }
+
+    public int getTokenStart() {
+        return tokenStart;
+    }
+
+    public int getTokenEnd() {
+        return tokenEnd;
+    }
+
+    /**
+     * Skip the optional dimension decoration, like {@code [1:2][1:3]=}, which PostgreSQL adds to arrays
+     * whose lower bound is not 1.
+     */
+    private int skipDimensions() {
+        int current = skipWhitespace(0);
+        while (current < length && literal.charAt(current) == '[') {
+            int dimensionEnd = current + 1;
+            while (dimensionEnd < length) {
+                char c = literal.charAt(dimensionEnd);
+                if (c != ':' && c != '-' && (c < '0' || c > '9')) {
+                    break;
+                }
+                dimensionEnd++;
+            }
+            if (dimensionEnd == current + 1 || dimensionEnd >= length || literal.charAt(dimensionEnd) != ']') {
+                return 0;
+            }
+            current = dimensionEnd + 1;
+        }
+        if (current > 0 && current < length && literal.charAt(current) == '=') {
+            return current + 1;
+        }
+        return 0;
+    }
+
+    private void readQuoted() {
+        quoted = true;
+        escaped = false;
+        tokenStart = ++position;
+        while (position < length) {
+            char c = literal.charAt(position);
+            if (c == '\\') {
+                escaped = true;
+                position += 2;
+            } else if (c == '"') {
+                tokenEnd = position++;
+                return;
+            } else {
+                position++;
+            }
+        }
+        throw invalidLiteral();
+    }
+
+    private void readUnquoted() {
+        quoted = false;
+        escaped = false;
+        tokenStart = position;
+        tokenEnd = position;
+        while (position < length) {
+            char c = literal.charAt(position);
+            if (c == ',' || c == close) {
+                if (tokenEnd == tokenStart && open == '{') {
+                    throw invalidLiteral();
+                }
+                return;
+            } else if (c == open || c == '"') {
+                throw invalidLiteral();
+            } else if (c == '\\') {
+                escaped = true;
+                position += 2;
+                tokenEnd = Math.min(position, length);
+            } else {
+                position++;
+                if (!Character.isWhitespace(c)) {
+                    tokenEnd = position;
+                }
+            }
+        }
+        throw invalidLiteral();
+    }
+
+    private int skipWhitespace(int current) {
+        while (current < length && Character.isWhitespace(literal.charAt(current))) {
+            current++;
+        }
+        return current;
+    }
+
+    private IllegalArgumentException invalidLiteral() {
+        return new IllegalArgumentException("The given string value: " + literal + " is not a valid array literal");
+    }
+}
@@ -33,36 +33,64 @@ public class ArraySqlTypeDescriptor implements SqlTypeDescriptor {
             @Override
             protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options) throws SQLException {
                 AbstractArrayTypeDescriptor<Object> abstractArrayTypeDescriptor = (AbstractArrayTypeDescriptor<Object>) javaTypeDescriptor;
-                st.setArray(index, st.getConnection().createArrayOf(
-                        abstractArrayTypeDescriptor.getSqlArrayType(),
-                        abstractArrayTypeDescriptor.unwrap(value, Object[].class, options)
-                ));
+                String arrayLiteral = abstractArrayTypeDescriptor.toArrayLiteral(value);
+                if (arrayLiteral != null) {
+                    st.setObject(index, arrayLiteral, Types.OTHER);
+                } else {
+                    st.setArray(index, createArray(st, abstractArrayTypeDescriptor, value, options));
+                }
             }
 
             @Override
             protected void doBind(CallableStatement st, X value, String name, WrapperOptions options)
                     throws SQLException {
-                throw new UnsupportedOperationException("Binding by name is not supported!");
+                AbstractArrayTypeDescriptor<Object> abstractArrayTypeDescriptor = (AbstractArrayTypeDescriptor<Object>) javaTypeDescriptor;
+                String arrayLiteral = abstractArrayTypeDescriptor.toArrayLiteral(value);
+                if (arrayLiteral != null) {
+                    st.setObject(name, arrayLiteral, Types.OTHER);
+                } else {
+                    st.setObject(name, createArray(st, abstractArrayTypeDescriptor, value, options), Types.ARRAY);
+                }
             }
         };
     }
 
+    /**
+     * Create the {@link Array} of the array types which cannot be rendered as an array literal.
+     * Arrays of numbers, booleans, strings, UUIDs and enums are bound as literals, so they don't create
+     * driver-side {@link Array} handles, which would otherwise be held by a JDBC batch until it is executed.
+     */
+    private static <X> Array createArray(PreparedStatement st, AbstractArrayTypeDescriptor<Object> abstractArrayTypeDescriptor,
+            X value, WrapperOptions options) throws SQLException {
+        return st.getConnection().createArrayOf(
+            abstractArrayTypeDescriptor.getSqlArrayType(),
+            abstractArrayTypeDescriptor.unwrap(value, Object[].class, options)
+        );
+    }
+
     @Override
     public <X> ValueExtractor<X> getExtractor(final JavaTypeDescriptor<X> javaTypeDescriptor) {
+        final AbstractArrayTypeDescriptor<X> abstractArrayTypeDescriptor = (AbstractArrayTypeDescriptor<X>) javaTypeDescriptor;
         return new BasicExtractor<X>(javaTypeDescriptor, this) {
             @Override
             protected X doExtract(ResultSet rs, String name, WrapperOptions options) throws SQLException {
-                return javaTypeDescriptor.wrap(rs.getArray(name), options);
+                return abstractArrayTypeDescriptor.isExtractedAsText() ?
+                    javaTypeDescriptor.wrap(rs.getString(name), options) :
+                    javaTypeDescriptor.wrap(rs.getArray(name), options);
             }
 
             @Override
             protected X doExtract(CallableStatement statement, int index, WrapperOptions options) throws SQLException {
-                return javaTypeDescriptor.wrap(statement.getArray(index), options);
+                return abstractArrayTypeDescriptor.isExtractedAsText() ?
+                    javaTypeDescriptor.wrap(statement.getString(index), options) :
+                    javaTypeDescriptor.wrap(statement.getArray(index), options);
             }
 
             @Override
             protected X doExtract(CallableStatement statement, String name, WrapperOptions options) throws SQLException {
-                return javaTypeDescriptor.wrap(statement.getArray(name), options);
+                return abstractArrayTypeDescriptor.isExtractedAsText() ?
+                    javaTypeDescriptor.wrap(statement.getString(name), options) :
+                    javaTypeDescriptor.wrap(statement.getArray(name), options);
             }
         };
     }
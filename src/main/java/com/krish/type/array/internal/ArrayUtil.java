@@ -1,13 +1,27 @@
 package com.krish.type.array.internal;
 
+import com.krish.type.array.IntList;
+import com.krish.type.array.LongList;
+
 import java.lang.reflect.Array;
+import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.BiPredicate;
 
 /**
  * @author Vlad Mihalcea
  */
 public class ArrayUtil {
 
+    private static final int LITERAL_BUILDER_CAPACITY = 256;
+
+    private static final int MAX_LITERAL_BUILDER_CAPACITY = 1 << 16;
+
+    private static final ThreadLocal<StringBuilder> LITERAL_BUILDER = ThreadLocal.withInitial(
+        () -> new StringBuilder(LITERAL_BUILDER_CAPACITY)
+    );
+
     public static <T> T deepCopy(Object objectArray) {
         Class arrayClass = objectArray.getClass();
 
@@ -37,7 +51,16 @@ public class ArrayUtil {
             return (T) Arrays.copyOf(array, array.length);
         } else {
             Object[] array = (Object[]) objectArray;
-            return (T) Arrays.copyOf(array, array.length);
+            Object[] copy = Arrays.copyOf(array, array.length);
+            Class componentType = arrayClass.getComponentType();
+            if (componentType.isArray() || Object.class.equals(componentType)) {
+                for (int i = 0; i < copy.length; i++) {
+                    if (copy[i] != null && copy[i].getClass().isArray()) {
+                        copy[i] = deepCopy(copy[i]);
+                    }
+                }
+            }
+            return (T) copy;
         }
     }
 
@@ -156,78 +179,465 @@ public class ArrayUtil {
             }
             return (T) array;
         } else if (Enum[].class.isAssignableFrom(arrayClass)) {
-          T array = arrayClass.cast(Array.newInstance(arrayClass.getComponentType(), objectArray.length));
+          EnumArrayCodec codec = EnumArrayCodec.of(arrayClass.getComponentType());
+          Enum[] array = (Enum[]) Array.newInstance(arrayClass.getComponentType(), objectArray.length);
           for (int i = 0; i < objectArray.length; i++) {
               Object objectValue = objectArray[i];
               if (objectValue != null) {
-                  String stringValue = (objectValue instanceof String) ? (String) objectValue : String.valueOf(objectValue);
-                  objectValue = Enum.valueOf((Class) arrayClass.getComponentType(), stringValue);
+                  array[i] = codec.decode((objectValue instanceof String) ? (String) objectValue : String.valueOf(objectValue));
               }
-              Array.set(array, i, objectValue);
           }
-          return array;
+          return (T) array;
         } else {
             return (T) objectArray;
         }
     }
 
+    /**
+     * Parse an array literal, either in the PostgreSQL text representation or in the
+     * {@link Arrays#deepToString(Object[])} format, into an array of the given class.
+     * Multi-dimensional arrays are parsed into nested Java arrays.
+     *
+     * @param string     array literal
+     * @param arrayClass array class
+     * @param <T>        array type
+     * @return parsed array
+     */
     public static <T> T fromString(String string, Class<T> arrayClass) {
-        String stringArray = string.replaceAll("[\\[\\]]", "");
-        String[] tokens = stringArray.split(",");
+        ArrayLiteralTokenizer tokenizer = new ArrayLiteralTokenizer(string);
+        if (tokenizer.next() != ArrayLiteralTokenizer.START_ARRAY) {
+            throw invalidLiteral(string);
+        }
+        T array = (T) readArray(tokenizer, arrayClass, string);
+        if (tokenizer.next() != ArrayLiteralTokenizer.END) {
+            throw invalidLiteral(string);
+        }
+        return array;
+    }
 
-        int length = tokens.length;
+    private static Object readArray(ArrayLiteralTokenizer tokenizer, Class arrayClass, String string) {
+        int length = tokenizer.countElements();
 
         if (boolean[].class.equals(arrayClass)) {
             boolean[] array = new boolean[length];
-            for (int i = 0; i < tokens.length; i++) {
-                array[i] = Boolean.valueOf(tokens[i]);
+            for (int i = 0; i < length; i++) {
+                nextElement(tokenizer, string);
+                array[i] = !tokenizer.isNull() && tokenizer.booleanValue();
             }
-            return (T) array;
+            endArray(tokenizer, string);
+            return array;
         } else if (byte[].class.equals(arrayClass)) {
             byte[] array = new byte[length];
-            for (int i = 0; i < tokens.length; i++) {
-                array[i] = Byte.valueOf(tokens[i]);
+            for (int i = 0; i < length; i++) {
+                nextElement(tokenizer, string);
+                array[i] = tokenizer.isNull() ? 0 : tokenizer.byteValue();
             }
-            return (T) array;
+            endArray(tokenizer, string);
+            return array;
         } else if (short[].class.equals(arrayClass)) {
             short[] array = new short[length];
-            for (int i = 0; i < tokens.length; i++) {
-                array[i] = Short.valueOf(tokens[i]);
+            for (int i = 0; i < length; i++) {
+                nextElement(tokenizer, string);
+                array[i] = tokenizer.isNull() ? 0 : tokenizer.shortValue();
             }
-            return (T) array;
+            endArray(tokenizer, string);
+            return array;
         } else if (int[].class.equals(arrayClass)) {
             int[] array = new int[length];
-            for (int i = 0; i < tokens.length; i++) {
-                array[i] = Integer.valueOf(tokens[i]);
+            for (int i = 0; i < length; i++) {
+                nextElement(tokenizer, string);
+                array[i] = tokenizer.isNull() ? 0 : tokenizer.intValue();
             }
-            return (T) array;
+            endArray(tokenizer, string);
+            return array;
         } else if (long[].class.equals(arrayClass)) {
             long[] array = new long[length];
-            for (int i = 0; i < tokens.length; i++) {
-                array[i] = Long.valueOf(tokens[i]);
+            for (int i = 0; i < length; i++) {
+                nextElement(tokenizer, string);
+                array[i] = tokenizer.isNull() ? 0L : tokenizer.longValue();
             }
-            return (T) array;
+            endArray(tokenizer, string);
+            return array;
         } else if (float[].class.equals(arrayClass)) {
             float[] array = new float[length];
-            for (int i = 0; i < tokens.length; i++) {
-                array[i] = Float.valueOf(tokens[i]);
+            for (int i = 0; i < length; i++) {
+                nextElement(tokenizer, string);
+                array[i] = tokenizer.isNull() ? 0f : tokenizer.floatValue();
             }
-            return (T) array;
+            endArray(tokenizer, string);
+            return array;
         } else if (double[].class.equals(arrayClass)) {
             double[] array = new double[length];
-            for (int i = 0; i < tokens.length; i++) {
-                array[i] = Double.valueOf(tokens[i]);
+            for (int i = 0; i < length; i++) {
+                nextElement(tokenizer, string);
+                array[i] = tokenizer.isNull() ? 0d : tokenizer.doubleValue();
             }
-            return (T) array;
+            endArray(tokenizer, string);
+            return array;
         } else if (char[].class.equals(arrayClass)) {
             char[] array = new char[length];
-            for (int i = 0; i < tokens.length; i++) {
-                array[i] = tokens[i].length() > 0 ? tokens[i].charAt(0) : Character.MIN_VALUE;
+            for (int i = 0; i < length; i++) {
+                nextElement(tokenizer, string);
+                array[i] = tokenizer.isNull() ? Character.MIN_VALUE : tokenizer.charValue();
             }
-            return (T) array;
+            endArray(tokenizer, string);
+            return array;
         } else {
-            return (T) tokens;
+            Class componentType = arrayClass.getComponentType();
+            Object[] array = (Object[]) Array.newInstance(componentType, length);
+            for (int i = 0; i < length; i++) {
+                int token = tokenizer.next();
+                if (token == ArrayLiteralTokenizer.START_ARRAY && componentType.isArray()) {
+                    array[i] = readArray(tokenizer, componentType, string);
+                } else if (token == ArrayLiteralTokenizer.ELEMENT && !componentType.isArray()) {
+                    array[i] = tokenizer.isNull() ? null : readElement(tokenizer, componentType);
+                } else {
+                    throw invalidLiteral(string);
+                }
+            }
+            endArray(tokenizer, string);
+            return array;
+        }
+    }
+
+    private static Object readElement(ArrayLiteralTokenizer tokenizer, Class componentType) {
+        if (String.class.equals(componentType) || Object.class.equals(componentType)) {
+            return tokenizer.stringValue();
+        } else if (UUID.class.equals(componentType)) {
+            return UUIDCodec.parse(tokenizer.getLiteral(), tokenizer.getTokenStart(), tokenizer.getTokenEnd());
+        } else if (componentType.isEnum()) {
+            return EnumArrayCodec.of(componentType).decode(tokenizer);
+        } else if (Integer.class.equals(componentType)) {
+            return tokenizer.intValue();
+        } else if (Long.class.equals(componentType)) {
+            return tokenizer.longValue();
+        } else if (Short.class.equals(componentType)) {
+            return tokenizer.shortValue();
+        } else if (Byte.class.equals(componentType)) {
+            return tokenizer.byteValue();
+        } else if (Double.class.equals(componentType)) {
+            return tokenizer.doubleValue();
+        } else if (Float.class.equals(componentType)) {
+            return tokenizer.floatValue();
+        } else if (Boolean.class.equals(componentType)) {
+            return tokenizer.booleanValue();
+        } else if (Character.class.equals(componentType)) {
+            return tokenizer.charValue();
+        } else if (BigDecimal.class.equals(componentType)) {
+            return new BigDecimal(tokenizer.stringValue());
+        }
+        throw new IllegalArgumentException("The array element type: " + componentType + " is not supported");
+    }
+
+    private static void nextElement(ArrayLiteralTokenizer tokenizer, String string) {
+        if (tokenizer.next() != ArrayLiteralTokenizer.ELEMENT) {
+            throw invalidLiteral(string);
+        }
+    }
+
+    private static void endArray(ArrayLiteralTokenizer tokenizer, String string) {
+        if (tokenizer.next() != ArrayLiteralTokenizer.END_ARRAY) {
+            throw invalidLiteral(string);
+        }
+    }
+
+    static IllegalArgumentException invalidLiteral(String string) {
+        return new IllegalArgumentException("The given string value: " + string + " is not a valid array literal");
+    }
+
+    public static String toArrayLiteral(Object objectArray) {
+        Class arrayClass = objectArray.getClass();
+
+        if (arrayClass.getComponentType().isArray()) {
+            Object[] array = (Object[]) objectArray;
+            StringBuilder builder = new StringBuilder();
+            return appendMultiDimensionalArrayLiteral(builder, array, dimensions(array), 0) ? builder.toString() : null;
+        } else if (int[].class.equals(arrayClass)) {
+            return toArrayLiteral((int[]) objectArray);
+        } else if (long[].class.equals(arrayClass)) {
+            return toArrayLiteral((long[]) objectArray);
+        } else if (short[].class.equals(arrayClass)) {
+            return toArrayLiteral((short[]) objectArray);
+        } else if (double[].class.equals(arrayClass)) {
+            return toArrayLiteral((double[]) objectArray);
+        } else if (float[].class.equals(arrayClass)) {
+            return toArrayLiteral((float[]) objectArray);
+        } else if (boolean[].class.equals(arrayClass)) {
+            return toArrayLiteral((boolean[]) objectArray);
+        } else if (isQuotableComponentType(arrayClass.getComponentType())) {
+            return toQuotedArrayLiteral((Object[]) objectArray);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Tell whether the elements of the given type have a {@link Object#toString()}, or {@link Enum#name()},
+     * representation accepted by PostgreSQL, so that their arrays can be bound as quoted literals
+     * instead of {@link java.sql.Array} instances.
+     */
+    private static boolean isQuotableComponentType(Class componentType) {
+        return String.class.equals(componentType) ||
+            UUID.class.equals(componentType) ||
+            Enum.class.isAssignableFrom(componentType) ||
+            Integer.class.equals(componentType) ||
+            Long.class.equals(componentType) ||
+            Short.class.equals(componentType) ||
+            Double.class.equals(componentType) ||
+            Float.class.equals(componentType) ||
+            BigDecimal.class.equals(componentType) ||
+            Boolean.class.equals(componentType);
+    }
+
+    /**
+     * Get the length of every dimension of the given multi-dimensional array, following its first sub-arrays.
+     * PostgreSQL stores an array without elements with no dimensions at all, so the sub-arrays cannot be empty.
+     */
+    private static int[] dimensions(Object[] array) {
+        int depth = 1;
+        for (Class componentType = array.getClass().getComponentType(); componentType.isArray(); componentType = componentType.getComponentType()) {
+            depth++;
+        }
+        int[] dimensions = new int[depth];
+        Object subArray = array;
+        for (int i = 0; i < depth; i++) {
+            if (subArray == null) {
+                throw new IllegalArgumentException("A multi-dimensional array cannot contain null sub-arrays");
+            }
+            dimensions[i] = Array.getLength(subArray);
+            if (dimensions[i] == 0) {
+                if (i > 0) {
+                    throw new IllegalArgumentException("A multi-dimensional array cannot contain empty sub-arrays");
+                }
+                break;
+            }
+            if (i + 1 < depth) {
+                subArray = ((Object[]) subArray)[0];
+            }
+        }
+        return dimensions;
+    }
+
+    /**
+     * Render the given multi-dimensional array, whose leaf arrays must all be rendered by {@link #toArrayLiteral(Object)}.
+     * The array must be rectangular, as PostgreSQL rejects sub-arrays of different lengths.
+     *
+     * @param dimensions length of every dimension, as found by {@link #dimensions(Object[])}
+     * @param depth      dimension of the given array
+     * @return {@code false} if a leaf array cannot be rendered as a literal, like an array of dates,
+     * in which case the array has to be bound as a {@link java.sql.Array}
+     */
+    private static boolean appendMultiDimensionalArrayLiteral(StringBuilder builder, Object[] array, int[] dimensions, int depth) {
+        builder.append('{');
+        for (int i = 0; i < array.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            Object subArray = array[i];
+            if (subArray == null) {
+                throw new IllegalArgumentException("A multi-dimensional array cannot contain null sub-arrays");
+            }
+            if (Array.getLength(subArray) != dimensions[depth + 1]) {
+                throw new IllegalArgumentException("A multi-dimensional array must be rectangular");
+            }
+            if (depth + 2 < dimensions.length) {
+                if (!appendMultiDimensionalArrayLiteral(builder, (Object[]) subArray, dimensions, depth + 1)) {
+                    return false;
+                }
+            } else {
+                String arrayLiteral = toArrayLiteral(subArray);
+                if (arrayLiteral == null) {
+                    return false;
+                }
+                builder.append(arrayLiteral);
+            }
+        }
+        builder.append('}');
+        return true;
+    }
+
+    /**
+     * Render the given array as a PostgreSQL array literal with every non-null element quoted.
+     *
+     * @param array array to render
+     * @return array literal
+     */
+    public static String toQuotedArrayLiteral(Object[] array) {
+        StringBuilder builder = literalBuilder();
+        appendQuotedArrayLiteral(builder, array);
+        return toLiteral(builder);
+    }
+
+    private static void appendQuotedArrayLiteral(StringBuilder builder, Object[] array) {
+        builder.append('{');
+        for (int i = 0; i < array.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            Object element = array[i];
+            if (element == null) {
+                builder.append("NULL");
+            } else {
+                String value = element instanceof Enum ? ((Enum) element).name() : element.toString();
+                builder.append('"');
+                for (int j = 0; j < value.length(); j++) {
+                    char c = value.charAt(j);
+                    if (c == '"' || c == '\\') {
+                        builder.append('\\');
+                    }
+                    builder.append(c);
+                }
+                builder.append('"');
+            }
+        }
+        builder.append('}');
+    }
+
+    /**
+     * Get the array literal buffer of the current thread, so that binding many arrays, like in a JDBC batch,
+     * does not allocate and grow a new buffer for every value. The buffer must be released with
+     * {@link #toLiteral(StringBuilder)} before rendering another literal.
+     *
+     * @return empty buffer
+     */
+    static StringBuilder literalBuilder() {
+        StringBuilder builder = LITERAL_BUILDER.get();
+        builder.setLength(0);
+        return builder;
+    }
+
+    /**
+     * Release the buffer given by {@link #literalBuilder()}, dropping it if a very large array made it grow
+     * beyond {@link #MAX_LITERAL_BUILDER_CAPACITY}, so that a single large value is not retained by the thread.
+     *
+     * @param builder buffer holding the array literal
+     * @return array literal
+     */
+    static String toLiteral(StringBuilder builder) {
+        String literal = builder.toString();
+        if (builder.capacity() > MAX_LITERAL_BUILDER_CAPACITY) {
+            LITERAL_BUILDER.remove();
+        }
+        return literal;
+    }
+
+    public static String toArrayLiteral(int[] array) {
+        StringBuilder builder = literalBuilder().append('{');
+        for (int i = 0; i < array.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(array[i]);
+        }
+        return toLiteral(builder.append('}'));
+    }
+
+    public static String toArrayLiteral(IntList list) {
+        StringBuilder builder = literalBuilder().append('{');
+        for (int i = 0; i < list.size(); i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(list.getInt(i));
+        }
+        return toLiteral(builder.append('}'));
+    }
+
+    public static String toArrayLiteral(long[] array) {
+        StringBuilder builder = literalBuilder().append('{');
+        for (int i = 0; i < array.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(array[i]);
+        }
+        return toLiteral(builder.append('}'));
+    }
+
+    public static String toArrayLiteral(LongList list) {
+        StringBuilder builder = literalBuilder().append('{');
+        for (int i = 0; i < list.size(); i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(list.getLong(i));
+        }
+        return toLiteral(builder.append('}'));
+    }
+
+    public static String toArrayLiteral(short[] array) {
+        StringBuilder builder = literalBuilder().append('{');
+        for (int i = 0; i < array.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(array[i]);
+        }
+        return toLiteral(builder.append('}'));
+    }
+
+    public static String toArrayLiteral(double[] array) {
+        StringBuilder builder = literalBuilder().append('{');
+        for (int i = 0; i < array.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(array[i]);
+        }
+        return toLiteral(builder.append('}'));
+    }
+
+    public static String toArrayLiteral(float[] array) {
+        StringBuilder builder = literalBuilder().append('{');
+        for (int i = 0; i < array.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(array[i]);
+        }
+        return toLiteral(builder.append('}'));
+    }
+
+    public static String toArrayLiteral(boolean[] array) {
+        StringBuilder builder = literalBuilder().append('{');
+        for (int i = 0; i < array.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(array[i] ? 't' : 'f');
+        }
+        return toLiteral(builder.append('}'));
+    }
+
+    /**
+     * Resolve the equality check of the given array class, so that callers comparing many arrays of the same class
+     * do not go through the class dispatch of {@link #isEquals(Object, Object)} on every call. Both arrays are expected
+     * to be instances of the given class.
+     *
+     * @param arrayClass array class
+     * @return equality check
+     */
+    public static BiPredicate<Object, Object> equality(Class arrayClass) {
+        if (boolean[].class.equals(arrayClass)) {
+            return (one, another) -> Arrays.equals((boolean[]) one, (boolean[]) another);
+        } else if (byte[].class.equals(arrayClass)) {
+            return (one, another) -> Arrays.equals((byte[]) one, (byte[]) another);
+        } else if (short[].class.equals(arrayClass)) {
+            return (one, another) -> Arrays.equals((short[]) one, (short[]) another);
+        } else if (int[].class.equals(arrayClass)) {
+            return (one, another) -> Arrays.equals((int[]) one, (int[]) another);
+        } else if (long[].class.equals(arrayClass)) {
+            return (one, another) -> Arrays.equals((long[]) one, (long[]) another);
+        } else if (float[].class.equals(arrayClass)) {
+            return (one, another) -> Arrays.equals((float[]) one, (float[]) another);
+        } else if (double[].class.equals(arrayClass)) {
+            return (one, another) -> Arrays.equals((double[]) one, (double[]) another);
+        } else if (char[].class.equals(arrayClass)) {
+            return (one, another) -> Arrays.equals((char[]) one, (char[]) another);
+        } else if (arrayClass.isArray()) {
+            return (one, another) -> Arrays.deepEquals((Object[]) one, (Object[]) another);
         }
+        return ArrayUtil::isEquals;
     }
 
     public static boolean isEquals(Object firstArray, Object secondArray) {
@@ -253,7 +663,7 @@ public class ArrayUtil {
         } else if (char[].class.equals(arrayClass)) {
             return Arrays.equals((char[]) firstArray, (char[]) secondArray);
         } else {
-            return Arrays.equals((Object[]) firstArray, (Object[]) secondArray);
+            return Arrays.deepEquals((Object[]) firstArray, (Object[]) secondArray);
         }
     }
 
@@ -0,0 +1,14 @@
+package com.krish.type.array.internal;
+
+public class BooleanArrayTypeDescriptor
+        extends AbstractArrayTypeDescriptor<boolean[]> {
+
+    public BooleanArrayTypeDescriptor() {
+        super(boolean[].class);
+    }
+
+    @Override
+    protected String getSqlArrayType() {
+        return "boolean";
+    }
+}
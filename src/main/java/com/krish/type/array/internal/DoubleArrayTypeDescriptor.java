@@ -0,0 +1,14 @@
+package com.krish.type.array.internal;
+
+public class DoubleArrayTypeDescriptor
+        extends AbstractArrayTypeDescriptor<double[]> {
+
+    public DoubleArrayTypeDescriptor() {
+        super(double[].class);
+    }
+
+    @Override
+    protected String getSqlArrayType() {
+        return "float8";
+    }
+}
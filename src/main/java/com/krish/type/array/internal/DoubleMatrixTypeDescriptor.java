@@ -0,0 +1,101 @@
+package com.krish.type.array.internal;
+
+import com.krish.type.array.DoubleMatrix;
+
+import org.hibernate.type.descriptor.java.MutableMutabilityPlan;
+
+public class DoubleMatrixTypeDescriptor
+        extends AbstractArrayTypeDescriptor<DoubleMatrix> {
+
+    public DoubleMatrixTypeDescriptor() {
+        super(DoubleMatrix.class, new MutableMutabilityPlan<DoubleMatrix>() {
+            @Override
+            protected DoubleMatrix deepCopyNotNull(DoubleMatrix value) {
+                return value.copy();
+            }
+        });
+    }
+
+    @Override
+    protected String getSqlArrayType() {
+        return "float8";
+    }
+
+    @Override
+    public boolean areEqual(DoubleMatrix one, DoubleMatrix another) {
+        return one == another || (one != null && one.equals(another));
+    }
+
+    @Override
+    public String toString(DoubleMatrix value) {
+        return toArrayLiteral(value);
+    }
+
+    @Override
+    public DoubleMatrix fromString(String string) {
+        return fromArrayLiteral(string);
+    }
+
+    @Override
+    protected boolean isExtractedAsText() {
+        return true;
+    }
+
+    @Override
+    protected DoubleMatrix fromArrayLiteral(String literal) {
+        ArrayLiteralTokenizer tokenizer = new ArrayLiteralTokenizer(literal);
+        if (tokenizer.next() != ArrayLiteralTokenizer.START_ARRAY) {
+            throw ArrayUtil.invalidLiteral(literal);
+        }
+        int rows = tokenizer.countElements();
+        int columns = 0;
+        double[] values = new double[0];
+        for (int row = 0; row < rows; row++) {
+            if (tokenizer.next() != ArrayLiteralTokenizer.START_ARRAY) {
+                throw ArrayUtil.invalidLiteral(literal);
+            }
+            int rowLength = tokenizer.countElements();
+            if (row == 0) {
+                columns = rowLength;
+                values = new double[rows * columns];
+            } else if (rowLength != columns) {
+                throw ArrayUtil.invalidLiteral(literal);
+            }
+            for (int i = row * columns; i < (row + 1) * columns; i++) {
+                if (tokenizer.next() != ArrayLiteralTokenizer.ELEMENT) {
+                    throw ArrayUtil.invalidLiteral(literal);
+                }
+                values[i] = tokenizer.isNull() ? 0d : tokenizer.doubleValue();
+            }
+            if (tokenizer.next() != ArrayLiteralTokenizer.END_ARRAY) {
+                throw ArrayUtil.invalidLiteral(literal);
+            }
+        }
+        if (tokenizer.next() != ArrayLiteralTokenizer.END_ARRAY || tokenizer.next() != ArrayLiteralTokenizer.END) {
+            throw ArrayUtil.invalidLiteral(literal);
+        }
+        return new DoubleMatrix(rows, columns, values);
+    }
+
+    @Override
+    protected String toArrayLiteral(Object value) {
+        DoubleMatrix matrix = (DoubleMatrix) value;
+        double[] values = matrix.getValues();
+        int columns = matrix.getColumns();
+        StringBuilder builder = ArrayUtil.literalBuilder().append('{');
+        for (int row = 0; row < matrix.getRows(); row++) {
+            if (row > 0) {
+                builder.append(',');
+            }
+            builder.append('{');
+            for (int i = row * columns; i < (row + 1) * columns; i++) {
+                if (i > row * columns) {
+                    builder.append(',');
+                }
+                builder.append(values[i]);
+            }
+            builder.append('}');
+        }
+        return ArrayUtil.toLiteral(builder.append('}'));
+    }
+}
@@ -0,0 +1,153 @@
+package com.krish.type.array.internal;
+
+import java.lang.reflect.Array;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Encodes and decodes the elements of an enum array using lookup tables computed once per enum class:
+ * the constant names and array literal forms indexed by ordinal, and an open-addressing hash table
+ * resolving a name found in an array literal to its constant without creating a {@link String}.
+ */
+public final class EnumArrayCodec {
+
+    private static final Map<Class, EnumArrayCodec> CODECS = new ConcurrentHashMap<>();
+
+    private final Class enumClass;
+
+    private final Enum[] constants;
+
+    private final String[] names;
+
+    private final String[] literals;
+
+    private final Enum[] table;
+
+    private final int mask;
+
+    private EnumArrayCodec(Class enumClass) {
+        this.enumClass = enumClass;
+        this.constants = (Enum[]) enumClass.getEnumConstants();
+        this.names = new String[constants.length];
+        this.literals = new String[constants.length];
+        int capacity = Integer.highestOneBit(Math.max(constants.length, 1) * 2 - 1) << 1;
+        this.table = new Enum[capacity];
+        this.mask = capacity - 1;
+        for (Enum constant : constants) {
+            String name = constant.name();
+            names[constant.ordinal()] = name;
+            literals[constant.ordinal()] = "NULL".equalsIgnoreCase(name) ? "\"" + name + "\"" : name;
+            int index = name.hashCode() & mask;
+            while (table[index] != null) {
+                index = (index + 1) & mask;
+            }
+            table[index] = constant;
+        }
+    }
+
+    /**
+     * Get the codec of the given enum class.
+     *
+     * @param enumClass enum class
+     * @return enum codec
+     */
+    public static EnumArrayCodec of(Class enumClass) {
+        return CODECS.computeIfAbsent(enumClass, EnumArrayCodec::new);
+    }
+
+    public String name(Enum constant) {
+        return names[constant.ordinal()];
+    }
+
+    /**
+     * Resolve the constant with the given name.
+     *
+     * @param name constant name
+     * @return enum constant
+     */
+    public Enum decode(String name) {
+        return decode(name, 0, name.length());
+    }
+
+    /**
+     * Resolve the constant whose name is the given region of the text.
+     *
+     * @param text  text holding the constant name
+     * @param start name start
+     * @param end   name end
+     * @return enum constant
+     */
+    public Enum decode(String text, int start, int end) {
+        int length = end - start;
+        int hashCode = 0;
+        for (int i = start; i < end; i++) {
+            hashCode = 31 * hashCode + text.charAt(i);
+        }
+        for (int index = hashCode & mask; ; index = (index + 1) & mask) {
+            Enum constant = table[index];
+            if (constant == null) {
+                throw new IllegalArgumentException(
+                    "No enum constant " + enumClass.getName() + "." + text.substring(start, end)
+                );
+            }
+            String name = names[constant.ordinal()];
+            if (name.length() == length && name.regionMatches(0, text, start, length)) {
+                return constant;
+            }
+        }
+    }
+
+    /**
+     * Resolve the constant of the current element of the given tokenizer.
+     *
+     * @param tokenizer array literal tokenizer
+     * @return enum constant
+     */
+    public Enum decode(ArrayLiteralTokenizer tokenizer) {
+        return tokenizer.isEscaped() ?
+            decode(tokenizer.stringValue()) :
+            decode(tokenizer.getLiteral(), tokenizer.getTokenStart(), tokenizer.getTokenEnd());
+    }
+
+    /**
+     * Parse an enum array literal.
+     *
+     * @param literal array literal, for instance {@code {ACTIVE,NULL,BLOCKED}}
+     * @return parsed array
+     */
+    public Enum[] fromArrayLiteral(String literal) {
+        ArrayLiteralTokenizer tokenizer = new ArrayLiteralTokenizer(literal);
+        if (tokenizer.next() != ArrayLiteralTokenizer.START_ARRAY) {
+            throw ArrayUtil.invalidLiteral(literal);
+        }
+        Enum[] array = (Enum[]) Array.newInstance(enumClass, tokenizer.countElements());
+        for (int i = 0; i < array.length; i++) {
+            if (tokenizer.next() != ArrayLiteralTokenizer.ELEMENT) {
+                throw ArrayUtil.invalidLiteral(literal);
+            }
+            array[i] = tokenizer.isNull() ? null : decode(tokenizer);
+        }
+        if (tokenizer.next() != ArrayLiteralTokenizer.END_ARRAY || tokenizer.next() != ArrayLiteralTokenizer.END) {
+            throw ArrayUtil.invalidLiteral(literal);
+        }
+        return array;
+    }
+
+    /**
+     * Render an enum array literal.
+     *
+     * @param array enum array
+     * @return array literal
+     */
+    public String toArrayLiteral(Enum[] array) {
+        StringBuilder builder = ArrayUtil.literalBuilder().append('{');
+        for (int i = 0; i < array.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            Enum constant = array[i];
+            builder.append(constant != null ? literals[constant.ordinal()] : "NULL");
+        }
+        return ArrayUtil.toLiteral(builder.append('}'));
+    }
+}
@@ -13,6 +13,8 @@ public class EnumArrayTypeDescriptor
 
     private String sqlArrayType;
 
+    private EnumArrayCodec codec;
+
     public EnumArrayTypeDescriptor() {
         super(Enum[].class);
     }
@@ -25,6 +27,24 @@ public class EnumArrayTypeDescriptor
     @Override
     public void setParameterValues(Properties parameters) {
         sqlArrayType = parameters.getProperty(EnumArrayType.SQL_ARRAY_TYPE);
+        Class returnedClass = ((ParameterType) parameters.get(PARAMETER_TYPE)).getReturnedClass();
+        Class enumClass = returnedClass.isArray() ? returnedClass.getComponentType() : returnedClass;
+        codec = enumClass.isEnum() ? EnumArrayCodec.of(enumClass) : null;
         super.setParameterValues(parameters);
     }
+
+    @Override
+    protected boolean isExtractedAsText() {
+        return codec != null || super.isExtractedAsText();
+    }
+
+    @Override
+    protected Enum[] fromArrayLiteral(String literal) {
+        return codec != null ? codec.fromArrayLiteral(literal) : super.fromArrayLiteral(literal);
+    }
+
+    @Override
+    protected String toArrayLiteral(Object value) {
+        return codec != null && value instanceof Enum[] ? codec.toArrayLiteral((Enum[]) value) : super.toArrayLiteral(value);
+    }
 }
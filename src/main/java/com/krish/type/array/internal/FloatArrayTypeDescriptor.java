@@ -0,0 +1,14 @@
+package com.krish.type.array.internal;
+
+public class FloatArrayTypeDescriptor
+        extends AbstractArrayTypeDescriptor<float[]> {
+
+    public FloatArrayTypeDescriptor() {
+        super(float[].class);
+    }
+
+    @Override
+    protected String getSqlArrayType() {
+        return "float4";
+    }
+}
@@ -0,0 +1,107 @@
+package com.krish.type.array.internal;
+
+import com.krish.type.util.Configuration;
+
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/**
+ * Allocates the values of {@link com.krish.type.array.FloatVector}s in direct memory, within a fixed memory budget.
+ * <p>
+ * Small vectors are carved out of shared {@link #SEGMENT_SIZE} segments, so that every vector does not pay for
+ * its own direct buffer allocation and bookkeeping. A segment is released by the garbage collector once all the
+ * vectors carved out of it are unreachable, and its size is then given back to the budget.
+ * <p>
+ * When the budget is exhausted, vectors are allocated on the Java heap instead.
+ */
+public class FloatVectorStore {
+
+    public static final long DEFAULT_BUDGET = 256L * 1024 * 1024;
+
+    public static final int SEGMENT_SIZE = 1024 * 1024;
+
+    private static final int MAX_SEGMENT_ALLOCATION = SEGMENT_SIZE >> 3;
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    public static final FloatVectorStore INSTANCE = new FloatVectorStore(budget(Configuration.INSTANCE));
+
+    private final long budget;
+
+    private long usedBytes;
+
+    private ByteBuffer segment;
+
+    public FloatVectorStore(long budget) {
+        this.budget = budget;
+    }
+
+    private static long budget(Configuration configuration) {
+        Long budget = configuration.longProperty(Configuration.PropertyKey.FLOAT_VECTOR_OFF_HEAP_BUDGET);
+        return budget != null ? budget : DEFAULT_BUDGET;
+    }
+
+    /**
+     * Allocate the values of a vector with the given dimension.
+     *
+     * @param dimension number of vector elements
+     * @return zero-filled buffer, positioned at {@code 0}, whose limit is the vector dimension
+     */
+    public FloatBuffer allocate(int dimension) {
+        if (dimension < 0 || dimension > Integer.MAX_VALUE / Float.BYTES) {
+            throw new IllegalArgumentException("The vector dimension: " + dimension + " is not supported");
+        }
+        int length = dimension * Float.BYTES;
+        ByteBuffer buffer;
+        synchronized (this) {
+            buffer = length > MAX_SEGMENT_ALLOCATION ? allocateDirect(length) : allocateFromSegment(length);
+        }
+        if (buffer == null) {
+            return FloatBuffer.allocate(dimension);
+        }
+        return buffer.order(ByteOrder.nativeOrder()).asFloatBuffer();
+    }
+
+    private ByteBuffer allocateFromSegment(int length) {
+        if (segment == null || segment.remaining() < length) {
+            segment = allocateDirect(SEGMENT_SIZE);
+            if (segment == null) {
+                return null;
+            }
+        }
+        int position = segment.position();
+        segment.limit(position + length);
+        ByteBuffer buffer = segment.slice();
+        segment.limit(segment.capacity()).position(position + length);
+        return buffer;
+    }
+
+    private ByteBuffer allocateDirect(int capacity) {
+        if (usedBytes + capacity > budget) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(capacity);
+        usedBytes += capacity;
+        CLEANER.register(buffer, () -> release(capacity));
+        return buffer;
+    }
+
+    private synchronized void release(int capacity) {
+        usedBytes -= capacity;
+    }
+
+    public long getBudget() {
+        return budget;
+    }
+
+    /**
+     * Get the amount of direct memory held by the store, including the unused part of the current segment.
+     *
+     * @return number of bytes
+     */
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+}
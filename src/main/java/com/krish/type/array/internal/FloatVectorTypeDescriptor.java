@@ -0,0 +1,90 @@
+package com.krish.type.array.internal;
+
+import com.krish.type.array.FloatVector;
+
+import org.hibernate.type.descriptor.java.ImmutableMutabilityPlan;
+import org.hibernate.type.descriptor.java.MutabilityPlan;
+
+import java.nio.FloatBuffer;
+
+public class FloatVectorTypeDescriptor
+        extends AbstractArrayTypeDescriptor<FloatVector> {
+
+    private final FloatVectorStore store;
+
+    public FloatVectorTypeDescriptor() {
+        this(FloatVectorStore.INSTANCE);
+    }
+
+    public FloatVectorTypeDescriptor(FloatVectorStore store) {
+        super(FloatVector.class, (MutabilityPlan<FloatVector>) ImmutableMutabilityPlan.INSTANCE);
+        this.store = store;
+    }
+
+    @Override
+    protected String getSqlArrayType() {
+        return "float4";
+    }
+
+    @Override
+    public boolean areEqual(FloatVector one, FloatVector another) {
+        return one == another || (one != null && one.equals(another));
+    }
+
+    @Override
+    public String toString(FloatVector value) {
+        return toArrayLiteral(value);
+    }
+
+    @Override
+    public FloatVector fromString(String string) {
+        return fromArrayLiteral(string);
+    }
+
+    @Override
+    protected boolean isExtractedAsText() {
+        return true;
+    }
+
+    /**
+     * Parse the array literal straight into a buffer allocated by the {@link FloatVectorStore},
+     * without going through an intermediate {@code float[]}.
+     */
+    @Override
+    protected FloatVector fromArrayLiteral(String literal) {
+        ArrayLiteralTokenizer tokenizer = new ArrayLiteralTokenizer(literal);
+        if (tokenizer.next() != ArrayLiteralTokenizer.START_ARRAY) {
+            throw ArrayUtil.invalidLiteral(literal);
+        }
+        int dimension = tokenizer.countElements();
+        FloatBuffer values = store.allocate(dimension);
+        for (int i = 0; i < dimension; i++) {
+            if (tokenizer.next() != ArrayLiteralTokenizer.ELEMENT) {
+                throw ArrayUtil.invalidLiteral(literal);
+            }
+            if (tokenizer.isNull()) {
+                throw new IllegalArgumentException(
+                    "The array literal: " + literal + " contains NULL elements which cannot be mapped to a FloatVector"
+                );
+            }
+            values.put(i, tokenizer.floatValue());
+        }
+        if (tokenizer.next() != ArrayLiteralTokenizer.END_ARRAY || tokenizer.next() != ArrayLiteralTokenizer.END) {
+            throw ArrayUtil.invalidLiteral(literal);
+        }
+        return new FloatVector(values);
+    }
+
+    @Override
+    protected String toArrayLiteral(Object value) {
+        FloatVector vector = (FloatVector) value;
+        StringBuilder builder = ArrayUtil.literalBuilder().append('{');
+        for (int i = 0; i < vector.dimension(); i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(vector.get(i));
+        }
+        return ArrayUtil.toLiteral(builder.append('}'));
+    }
+}
@@ -0,0 +1,94 @@
+package com.krish.type.array.internal;
+
+import com.krish.type.array.IntBitmapSet;
+
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.MutableMutabilityPlan;
+
+/**
+ * Describes an {@link IntBitmapSet} stored either as an {@code integer[]} array literal
+ * or, when unwrapped to {@code byte[]}, in its compact binary form.
+ */
+public class IntBitmapSetTypeDescriptor
+        extends AbstractArrayTypeDescriptor<IntBitmapSet> {
+
+    public IntBitmapSetTypeDescriptor() {
+        super(IntBitmapSet.class, new MutableMutabilityPlan<IntBitmapSet>() {
+            @Override
+            protected IntBitmapSet deepCopyNotNull(IntBitmapSet value) {
+                return value.copy();
+            }
+        });
+    }
+
+    @Override
+    protected String getSqlArrayType() {
+        return "integer";
+    }
+
+    /**
+     * When one set is the persistence context snapshot of the other, their version counters
+     * tell whether the managed set was changed, so the values are not compared.
+     */
+    @Override
+    public boolean areEqual(IntBitmapSet one, IntBitmapSet another) {
+        if (one == another) {
+            return true;
+        }
+        if (one == null || another == null) {
+            return false;
+        }
+        if (one.isCopyOf(another)) {
+            return one.isUnmodifiedCopyOf(another);
+        }
+        if (another.isCopyOf(one)) {
+            return another.isUnmodifiedCopyOf(one);
+        }
+        return one.equals(another);
+    }
+
+    @Override
+    public String toString(IntBitmapSet value) {
+        return toArrayLiteral(value);
+    }
+
+    @Override
+    public IntBitmapSet fromString(String string) {
+        return fromArrayLiteral(string);
+    }
+
+    @SuppressWarnings({"unchecked"})
+    @Override
+    public <X> X unwrap(IntBitmapSet value, Class<X> type, WrapperOptions options) {
+        if (value == null) {
+            return null;
+        }
+        if (byte[].class.isAssignableFrom(type)) {
+            return (X) value.toByteArray();
+        }
+        return (X) ArrayUtil.wrapArray(value.toArray());
+    }
+
+    @Override
+    public <X> IntBitmapSet wrap(X value, WrapperOptions options) {
+        if (value instanceof byte[]) {
+            return IntBitmapSet.fromByteArray((byte[]) value);
+        }
+        return super.wrap(value, options);
+    }
+
+    @Override
+    protected boolean isExtractedAsText() {
+        return true;
+    }
+
+    @Override
+    protected IntBitmapSet fromArrayLiteral(String literal) {
+        return IntBitmapSet.of(parseIntArray(literal));
+    }
+
+    @Override
+    protected String toArrayLiteral(Object value) {
+        return ArrayUtil.toArrayLiteral(((IntBitmapSet) value).toArray());
+    }
+}
@@ -0,0 +1,70 @@
+package com.krish.type.array.internal;
+
+import com.krish.type.array.IntList;
+
+import org.hibernate.type.descriptor.java.MutableMutabilityPlan;
+
+public class IntListTypeDescriptor
+        extends AbstractArrayTypeDescriptor<IntList> {
+
+    public IntListTypeDescriptor() {
+        super(IntList.class, new MutableMutabilityPlan<IntList>() {
+            @Override
+            protected IntList deepCopyNotNull(IntList value) {
+                return value.copy();
+            }
+        });
+    }
+
+    @Override
+    protected String getSqlArrayType() {
+        return "integer";
+    }
+
+    /**
+     * When one list is the persistence context snapshot of the other, their version counters
+     * tell whether the managed list was changed, so the elements are not compared.
+     */
+    @Override
+    public boolean areEqual(IntList one, IntList another) {
+        if (one == another) {
+            return true;
+        }
+        if (one == null || another == null) {
+            return false;
+        }
+        if (one.isCopyOf(another)) {
+            return one.isUnmodifiedCopyOf(another);
+        }
+        if (another.isCopyOf(one)) {
+            return another.isUnmodifiedCopyOf(one);
+        }
+        return one.equals(another);
+    }
+
+    @Override
+    public String toString(IntList value) {
+        return toArrayLiteral(value);
+    }
+
+    @Override
+    public IntList fromString(String string) {
+        return fromArrayLiteral(string);
+    }
+
+    @Override
+    protected boolean isExtractedAsText() {
+        return true;
+    }
+
+    @Override
+    protected IntList fromArrayLiteral(String literal) {
+        return new IntList(parseIntArray(literal));
+    }
+
+    @Override
+    protected String toArrayLiteral(Object value) {
+        IntList list = (IntList) value;
+        return ArrayUtil.toArrayLiteral(list);
+    }
+}
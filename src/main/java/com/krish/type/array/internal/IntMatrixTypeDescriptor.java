@@ -0,0 +1,101 @@
+package com.krish.type.array.internal;
+
+import com.krish.type.array.IntMatrix;
+
+import org.hibernate.type.descriptor.java.MutableMutabilityPlan;
+
+public class IntMatrixTypeDescriptor
+        extends AbstractArrayTypeDescriptor<IntMatrix> {
+
+    public IntMatrixTypeDescriptor() {
+        super(IntMatrix.class, new MutableMutabilityPlan<IntMatrix>() {
+            @Override
+            protected IntMatrix deepCopyNotNull(IntMatrix value) {
+                return value.copy();
+            }
+        });
+    }
+
+    @Override
+    protected String getSqlArrayType() {
+        return "integer";
+    }
+
+    @Override
+    public boolean areEqual(IntMatrix one, IntMatrix another) {
+        return one == another || (one != null && one.equals(another));
+    }
+
+    @Override
+    public String toString(IntMatrix value) {
+        return toArrayLiteral(value);
+    }
+
+    @Override
+    public IntMatrix fromString(String string) {
+        return fromArrayLiteral(string);
+    }
+
+    @Override
+    protected boolean isExtractedAsText() {
+        return true;
+    }
+
+    @Override
+    protected IntMatrix fromArrayLiteral(String literal) {
+        ArrayLiteralTokenizer tokenizer = new ArrayLiteralTokenizer(literal);
+        if (tokenizer.next() != ArrayLiteralTokenizer.START_ARRAY) {
+            throw ArrayUtil.invalidLiteral(literal);
+        }
+        int rows = tokenizer.countElements();
+        int columns = 0;
+        int[] values = new int[0];
+        for (int row = 0; row < rows; row++) {
+            if (tokenizer.next() != ArrayLiteralTokenizer.START_ARRAY) {
+                throw ArrayUtil.invalidLiteral(literal);
+            }
+            int rowLength = tokenizer.countElements();
+            if (row == 0) {
+                columns = rowLength;
+                values = new int[rows * columns];
+            } else if (rowLength != columns) {
+                throw ArrayUtil.invalidLiteral(literal);
+            }
+            for (int i = row * columns; i < (row + 1) * columns; i++) {
+                if (tokenizer.next() != ArrayLiteralTokenizer.ELEMENT) {
+                    throw ArrayUtil.invalidLiteral(literal);
+                }
+                values[i] = tokenizer.isNull() ? 0 : tokenizer.intValue();
+            }
+            if (tokenizer.next() != ArrayLiteralTokenizer.END_ARRAY) {
+                throw ArrayUtil.invalidLiteral(literal);
+            }
+        }
+        if (tokenizer.next() != ArrayLiteralTokenizer.END_ARRAY || tokenizer.next() != ArrayLiteralTokenizer.END) {
+            throw ArrayUtil.invalidLiteral(literal);
+        }
+        return new IntMatrix(rows, columns, values);
+    }
+
+    @Override
+    protected String toArrayLiteral(Object value) {
+        IntMatrix matrix = (IntMatrix) value;
+        int[] values = matrix.getValues();
+        int columns = matrix.getColumns();
+        StringBuilder builder = ArrayUtil.literalBuilder().append('{');
+        for (int row = 0; row < matrix.getRows(); row++) {
+            if (row > 0) {
+                builder.append(',');
+            }
+            builder.append('{');
+            for (int i = row * columns; i < (row + 1) * columns; i++) {
+                if (i > row * columns) {
+                    builder.append(',');
+                }
+                builder.append(values[i]);
+            }
+            builder.append('}');
+        }
+        return ArrayUtil.toLiteral(builder.append('}'));
+    }
+}
@@ -0,0 +1,88 @@
+package com.krish.type.array.internal;
+
+import com.krish.type.array.LongAppendList;
+import com.krish.type.array.LongAppendListType;
+
+import org.hibernate.type.descriptor.java.MutableMutabilityPlan;
+
+public class LongAppendListTypeDescriptor
+        extends AbstractArrayTypeDescriptor<LongAppendList> {
+
+    private final LongListTypeDescriptor longListTypeDescriptor = new LongListTypeDescriptor();
+
+    public LongAppendListTypeDescriptor() {
+        super(LongAppendList.class, new MutableMutabilityPlan<LongAppendList>() {
+            @Override
+            protected LongAppendList deepCopyNotNull(LongAppendList value) {
+                return (LongAppendList) value.copy();
+            }
+        });
+    }
+
+    @Override
+    protected String getSqlArrayType() {
+        return "bigint";
+    }
+
+    @Override
+    public boolean areEqual(LongAppendList one, LongAppendList another) {
+        return longListTypeDescriptor.areEqual(one, another);
+    }
+
+    @Override
+    public String toString(LongAppendList value) {
+        return ArrayUtil.toArrayLiteral(value);
+    }
+
+    @Override
+    public LongAppendList fromString(String string) {
+        return fromArrayLiteral(string);
+    }
+
+    @Override
+    protected boolean isExtractedAsText() {
+        return true;
+    }
+
+    @Override
+    protected LongAppendList fromArrayLiteral(String literal) {
+        LongAppendList list = new LongAppendList(parseLongArray(literal));
+        list.markPersisted();
+        return list;
+    }
+
+    /**
+     * Render the elements appended after the ones loaded from the database, using the {@code [lower:upper]=}
+     * decoration to carry their position, or all the elements if the loaded ones were changed.
+     * <p>
+     * The appended elements are prefixed with {@link LongAppendListType#APPEND_PREFIX}, so that they are only accepted
+     * by the {@link LongAppendListType#updateExpression(String)} expression. Binding them anywhere a {@code bigint[]}
+     * is expected, like in an {@code INSERT} statement or a query parameter, fails with a malformed array literal
+     * error instead of writing or comparing the appended elements only.
+     * <p>
+     * The list is not changed, so binding the same value again, or after a failed flush or a rolled back transaction,
+     * renders the same elements, which are still consistent with the column.
+     */
+    @Override
+    protected String toArrayLiteral(Object value) {
+        LongAppendList list = (LongAppendList) value;
+        int persistedSize = list.getPersistedSize();
+        int size = list.size();
+        String arrayLiteral;
+        if (list.isAppendOnly() && persistedSize > 0 && persistedSize < size) {
+            StringBuilder builder = ArrayUtil.literalBuilder()
+                .append(LongAppendListType.APPEND_PREFIX)
+                .append('[').append(persistedSize + 1).append(':').append(size).append("]={");
+            for (int i = persistedSize; i < size; i++) {
+                if (i > persistedSize) {
+                    builder.append(',');
+                }
+                builder.append(list.getLong(i));
+            }
+            arrayLiteral = ArrayUtil.toLiteral(builder.append('}'));
+        } else {
+            arrayLiteral = ArrayUtil.toArrayLiteral(list);
+        }
+        return arrayLiteral;
+    }
+}
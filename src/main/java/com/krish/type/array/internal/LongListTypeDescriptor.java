@@ -0,0 +1,70 @@
+package com.krish.type.array.internal;
+
+import com.krish.type.array.LongList;
+
+import org.hibernate.type.descriptor.java.MutableMutabilityPlan;
+
+public class LongListTypeDescriptor
+        extends AbstractArrayTypeDescriptor<LongList> {
+
+    public LongListTypeDescriptor() {
+        super(LongList.class, new MutableMutabilityPlan<LongList>() {
+            @Override
+            protected LongList deepCopyNotNull(LongList value) {
+                return value.copy();
+            }
+        });
+    }
+
+    @Override
+    protected String getSqlArrayType() {
+        return "bigint";
+    }
+
+    /**
+     * When one list is the persistence context snapshot of the other, their version counters
+     * tell whether the managed list was changed, so the elements are not compared.
+     */
+    @Override
+    public boolean areEqual(LongList one, LongList another) {
+        if (one == another) {
+            return true;
+        }
+        if (one == null || another == null) {
+            return false;
+        }
+        if (one.isCopyOf(another)) {
+            return one.isUnmodifiedCopyOf(another);
+        }
+        if (another.isCopyOf(one)) {
+            return another.isUnmodifiedCopyOf(one);
+        }
+        return one.equals(another);
+    }
+
+    @Override
+    public String toString(LongList value) {
+        return toArrayLiteral(value);
+    }
+
+    @Override
+    public LongList fromString(String string) {
+        return fromArrayLiteral(string);
+    }
+
+    @Override
+    protected boolean isExtractedAsText() {
+        return true;
+    }
+
+    @Override
+    protected LongList fromArrayLiteral(String literal) {
+        return new LongList(parseLongArray(literal));
+    }
+
+    @Override
+    protected String toArrayLiteral(Object value) {
+        LongList list = (LongList) value;
+        return ArrayUtil.toArrayLiteral(list);
+    }
+}
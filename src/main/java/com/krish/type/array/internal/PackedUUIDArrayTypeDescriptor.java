@@ -0,0 +1,53 @@
+package com.krish.type.array.internal;
+
+import com.krish.type.array.PackedUUIDArray;
+
+import org.hibernate.type.descriptor.java.MutableMutabilityPlan;
+
+public class PackedUUIDArrayTypeDescriptor
+        extends AbstractArrayTypeDescriptor<PackedUUIDArray> {
+
+    public PackedUUIDArrayTypeDescriptor() {
+        super(PackedUUIDArray.class, new MutableMutabilityPlan<PackedUUIDArray>() {
+            @Override
+            protected PackedUUIDArray deepCopyNotNull(PackedUUIDArray value) {
+                return value.copy();
+            }
+        });
+    }
+
+    @Override
+    protected String getSqlArrayType() {
+        return "uuid";
+    }
+
+    @Override
+    public boolean areEqual(PackedUUIDArray one, PackedUUIDArray another) {
+        return one == another || (one != null && one.equals(another));
+    }
+
+    @Override
+    public String toString(PackedUUIDArray value) {
+        return toArrayLiteral(value);
+    }
+
+    @Override
+    public PackedUUIDArray fromString(String string) {
+        return fromArrayLiteral(string);
+    }
+
+    @Override
+    protected boolean isExtractedAsText() {
+        return true;
+    }
+
+    @Override
+    protected PackedUUIDArray fromArrayLiteral(String literal) {
+        return new PackedUUIDArray(UUIDCodec.fromArrayLiteralPacked(literal));
+    }
+
+    @Override
+    protected String toArrayLiteral(Object value) {
+        return UUIDCodec.toArrayLiteral(((PackedUUIDArray) value).getBits());
+    }
+}
@@ -0,0 +1,14 @@
+package com.krish.type.array.internal;
+
+public class ShortArrayTypeDescriptor
+        extends AbstractArrayTypeDescriptor<short[]> {
+
+    public ShortArrayTypeDescriptor() {
+        super(short[].class);
+    }
+
+    @Override
+    protected String getSqlArrayType() {
+        return "int2";
+    }
+}
@@ -1,5 +1,6 @@
 package com.krish.type.array.internal;
 
+import java.util.Properties;
 import java.util.UUID;
 
 /**
@@ -8,6 +9,8 @@ import java.util.UUID;
 public class UUIDArrayTypeDescriptor
         extends AbstractArrayTypeDescriptor<UUID[]> {
 
+    private boolean oneDimensional = true;
+
     public UUIDArrayTypeDescriptor() {
         super(UUID[].class);
     }
@@ -16,4 +19,25 @@ public class UUIDArrayTypeDescriptor
     protected String getSqlArrayType() {
         return "uuid";
     }
+
+    @Override
+    public void setParameterValues(Properties parameters) {
+        oneDimensional = UUID[].class.equals(((ParameterType) parameters.get(PARAMETER_TYPE)).getReturnedClass());
+        super.setParameterValues(parameters);
+    }
+
+    @Override
+    protected boolean isExtractedAsText() {
+        return oneDimensional || super.isExtractedAsText();
+    }
+
+    @Override
+    protected UUID[] fromArrayLiteral(String literal) {
+        return oneDimensional ? UUIDCodec.fromArrayLiteral(literal) : super.fromArrayLiteral(literal);
+    }
+
+    @Override
+    protected String toArrayLiteral(Object value) {
+        return value instanceof UUID[] ? UUIDCodec.toArrayLiteral((UUID[]) value) : super.toArrayLiteral(value);
+    }
 }
@@ -0,0 +1,200 @@
+package com.krish.type.array.internal;
+
+import java.util.UUID;
+
+/**
+ * Converts between the canonical 36-character UUID text form and its two {@code long} halves
+ * using lookup tables, without the intermediate {@link String} tokens created by {@link UUID#fromString(String)}.
+ */
+public final class UUIDCodec {
+
+    private static final int UUID_LENGTH = 36;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static final byte[] HEX_VALUES = new byte[128];
+
+    static {
+        for (int i = 0; i < HEX_VALUES.length; i++) {
+            HEX_VALUES[i] = -1;
+        }
+        for (int i = 0; i < 10; i++) {
+            HEX_VALUES['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            HEX_VALUES['a' + i] = (byte) (10 + i);
+            HEX_VALUES['A' + i] = (byte) (10 + i);
+        }
+    }
+
+    private UUIDCodec() {
+        throw new UnsupportedOperationException("UUIDCodec is not instantiable!");
+    }
+
+    /**
+     * Tell whether the given region holds a UUID in the canonical {@code 8-4-4-4-12} form.
+     *
+     * @param text  text holding the UUID
+     * @param start UUID start
+     * @param end   UUID end
+     * @return {@code true} if the UUID is in canonical form
+     */
+    public static boolean isCanonical(String text, int start, int end) {
+        return end - start == UUID_LENGTH &&
+            text.charAt(start + 8) == '-' &&
+            text.charAt(start + 13) == '-' &&
+            text.charAt(start + 18) == '-' &&
+            text.charAt(start + 23) == '-';
+    }
+
+    public static long mostSignificantBits(String text, int start) {
+        return hex(text, start, 8) << 32 | hex(text, start + 9, 4) << 16 | hex(text, start + 14, 4);
+    }
+
+    public static long leastSignificantBits(String text, int start) {
+        return hex(text, start + 19, 4) << 48 | hex(text, start + 24, 12);
+    }
+
+    /**
+     * Parse the UUID found in the given region.
+     *
+     * @param text  text holding the UUID
+     * @param start UUID start
+     * @param end   UUID end
+     * @return parsed UUID
+     */
+    public static UUID parse(String text, int start, int end) {
+        if (!isCanonical(text, start, end)) {
+            return UUID.fromString(text.substring(start, end));
+        }
+        return new UUID(mostSignificantBits(text, start), leastSignificantBits(text, start));
+    }
+
+    /**
+     * Append the canonical form of the UUID with the given halves.
+     *
+     * @param builder              builder to append to
+     * @param mostSignificantBits  most significant 64 bits
+     * @param leastSignificantBits least significant 64 bits
+     */
+    public static void append(StringBuilder builder, long mostSignificantBits, long leastSignificantBits) {
+        appendHex(builder, mostSignificantBits >>> 32, 8);
+        builder.append('-');
+        appendHex(builder, mostSignificantBits >>> 16, 4);
+        builder.append('-');
+        appendHex(builder, mostSignificantBits, 4);
+        builder.append('-');
+        appendHex(builder, leastSignificantBits >>> 48, 4);
+        builder.append('-');
+        appendHex(builder, leastSignificantBits, 12);
+    }
+
+    public static String toArrayLiteral(UUID[] array) {
+        StringBuilder builder = ArrayUtil.literalBuilder().append('{');
+        for (int i = 0; i < array.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            UUID uuid = array[i];
+            if (uuid == null) {
+                builder.append("NULL");
+            } else {
+                append(builder, uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+            }
+        }
+        return ArrayUtil.toLiteral(builder.append('}'));
+    }
+
+    /**
+     * Render the UUIDs packed as most and least significant bits pairs.
+     *
+     * @param bits packed UUIDs
+     * @return array literal
+     */
+    public static String toArrayLiteral(long[] bits) {
+        StringBuilder builder = ArrayUtil.literalBuilder().append('{');
+        for (int i = 0; i < bits.length; i += 2) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            append(builder, bits[i], bits[i + 1]);
+        }
+        return ArrayUtil.toLiteral(builder.append('}'));
+    }
+
+    public static UUID[] fromArrayLiteral(String literal) {
+        ArrayLiteralTokenizer tokenizer = new ArrayLiteralTokenizer(literal);
+        if (tokenizer.next() != ArrayLiteralTokenizer.START_ARRAY) {
+            throw ArrayUtil.invalidLiteral(literal);
+        }
+        UUID[] array = new UUID[tokenizer.countElements()];
+        for (int i = 0; i < array.length; i++) {
+            if (tokenizer.next() != ArrayLiteralTokenizer.ELEMENT) {
+                throw ArrayUtil.invalidLiteral(literal);
+            }
+            array[i] = tokenizer.isNull() ? null : parse(literal, tokenizer.getTokenStart(), tokenizer.getTokenEnd());
+        }
+        endArray(tokenizer, literal);
+        return array;
+    }
+
+    /**
+     * Parse the UUIDs as most and least significant bits pairs.
+     *
+     * @param literal array literal
+     * @return packed UUIDs
+     */
+    public static long[] fromArrayLiteralPacked(String literal) {
+        ArrayLiteralTokenizer tokenizer = new ArrayLiteralTokenizer(literal);
+        if (tokenizer.next() != ArrayLiteralTokenizer.START_ARRAY) {
+            throw ArrayUtil.invalidLiteral(literal);
+        }
+        long[] bits = new long[tokenizer.countElements() << 1];
+        for (int i = 0; i < bits.length; i += 2) {
+            if (tokenizer.next() != ArrayLiteralTokenizer.ELEMENT) {
+                throw ArrayUtil.invalidLiteral(literal);
+            }
+            if (tokenizer.isNull()) {
+                throw new IllegalArgumentException(
+                    "The array literal: " + literal + " contains NULL elements which cannot be packed"
+                );
+            }
+            int start = tokenizer.getTokenStart();
+            if (isCanonical(literal, start, tokenizer.getTokenEnd())) {
+                bits[i] = mostSignificantBits(literal, start);
+                bits[i + 1] = leastSignificantBits(literal, start);
+            } else {
+                UUID uuid = parse(literal, start, tokenizer.getTokenEnd());
+                bits[i] = uuid.getMostSignificantBits();
+                bits[i + 1] = uuid.getLeastSignificantBits();
+            }
+        }
+        endArray(tokenizer, literal);
+        return bits;
+    }
+
+    private static void endArray(ArrayLiteralTokenizer tokenizer, String literal) {
+        if (tokenizer.next() != ArrayLiteralTokenizer.END_ARRAY || tokenizer.next() != ArrayLiteralTokenizer.END) {
+            throw ArrayUtil.invalidLiteral(literal);
+        }
+    }
+
+    private static long hex(String text, int start, int length) {
+        long value = 0;
+        for (int i = start; i < start + length; i++) {
+            char c = text.charAt(i);
+            int digit = c < HEX_VALUES.length ? HEX_VALUES[c] : -1;
+            if (digit < 0) {
+                throw new IllegalArgumentException("The given string value: " + text + " contains an invalid UUID");
+            }
+            value = value << 4 | digit;
+        }
+        return value;
+    }
+
+    private static void appendHex(StringBuilder builder, long value, int digits) {
+        for (int shift = (digits - 1) << 2; shift >= 0; shift -= 4) {
+            builder.append(HEX_DIGITS[(int) (value >>> shift) & 0xf]);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.krish.type.json;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.krish.type.util.ObjectMapperWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Holds a JSON array document as raw UTF-8 bytes and decodes its elements on demand.
+ * <p>
+ * Every {@link #iterator()} call opens an incremental Jackson parser over the stored bytes, so only the
+ * element being visited is materialized, and the memory footprint stays bounded by the size of the
+ * original document no matter how many elements it contains.
+ *
+ * @param <T> array element type
+ */
+public class JsonArrayStream<T> implements Iterable<T> {
+
+    private final byte[] json;
+
+    private final ObjectReader reader;
+
+    public JsonArrayStream(byte[] json, ObjectReader reader) {
+        this.json = json;
+        this.reader = reader;
+    }
+
+    /**
+     * Create a {@link JsonArrayStream} from the given elements using the default {@link ObjectMapperWrapper}.
+     *
+     * @param elements    array elements
+     * @param elementType array element type
+     * @param <T>         array element type
+     * @return {@link JsonArrayStream} holding the serialized elements
+     */
+    public static <T> JsonArrayStream<T> of(Collection<? extends T> elements, Class<T> elementType) {
+        return of(elements, elementType, ObjectMapperWrapper.INSTANCE);
+    }
+
+    /**
+     * Create a {@link JsonArrayStream} from the given elements using the provided {@link ObjectMapperWrapper}.
+     *
+     * @param elements            array elements
+     * @param elementType         array element type
+     * @param objectMapperWrapper {@link ObjectMapperWrapper} used to serialize and read the elements
+     * @param <T>                 array element type
+     * @return {@link JsonArrayStream} holding the serialized elements
+     */
+    public static <T> JsonArrayStream<T> of(Collection<? extends T> elements, Class<T> elementType, ObjectMapperWrapper objectMapperWrapper) {
+        return new JsonArrayStream<>(
+            objectMapperWrapper.toString(elements).getBytes(StandardCharsets.UTF_8),
+            objectMapperWrapper.getReader(elementType)
+        );
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        try {
+            MappingIterator<T> iterator = reader.readValues(json);
+            return iterator;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("The JSON array cannot be parsed", e);
+        }
+    }
+
+    /**
+     * Stream the array elements, decoding them one at a time.
+     *
+     * @return sequential {@link Stream} of array elements
+     */
+    public Stream<T> stream() {
+        Iterator<T> iterator = iterator();
+        Stream<T> stream = StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+        return stream.onClose(() -> {
+            try {
+                ((MappingIterator<T>) iterator).close();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    /**
+     * Get the raw JSON document.
+     *
+     * @return UTF-8 encoded JSON document
+     */
+    public byte[] toByteArray() {
+        return json.clone();
+    }
+
+    byte[] bytes() {
+        return json;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof JsonArrayStream)) return false;
+        return Arrays.equals(json, ((JsonArrayStream<?>) o).json);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(json);
+    }
+
+    @Override
+    public String toString() {
+        return new String(json, StandardCharsets.UTF_8);
+    }
+}
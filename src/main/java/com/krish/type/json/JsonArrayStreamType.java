@@ -0,0 +1,106 @@
+package com.krish.type.json;
+
+import com.krish.type.ImmutableType;
+import com.krish.type.util.Configuration;
+import com.krish.type.util.ObjectMapperWrapper;
+import com.krish.type.util.ReflectionUtils;
+
+import org.hibernate.annotations.common.reflection.XProperty;
+import org.hibernate.annotations.common.reflection.java.JavaXMember;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.usertype.DynamicParameterizedType;
+
+import java.io.Serializable;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Properties;
+
+/**
+ * Maps a JSON array column on a {@link JsonArrayStream} entity attribute, so that huge arrays can be
+ * iterated element by element instead of being fully deserialized into a {@link java.util.List} upon loading.
+ * <p>
+ * The column value is fetched as raw bytes, and the element type is resolved from the attribute generic type:
+ * <pre>{@code
+ * @Type(type = "com.krish.type.json.JsonArrayStreamType")
+ * @Column(columnDefinition = "jsonb")
+ * private JsonArrayStream<Event> events;
+ * }</pre>
+ * <p>
+ * If you are using <strong>PostgreSQL</strong>, you can use it for both <strong>{@code jsonb}</strong> and <strong>{@code json}</strong> column types.
+ */
+public class JsonArrayStreamType
+        extends ImmutableType<JsonArrayStream> implements DynamicParameterizedType {
+
+    public static final JsonArrayStreamType INSTANCE = new JsonArrayStreamType();
+
+    private final ObjectMapperWrapper objectMapperWrapper;
+
+    private Type elementType = Object.class;
+
+    public JsonArrayStreamType() {
+        super(JsonArrayStream.class);
+        this.objectMapperWrapper = getConfiguration().getObjectMapperWrapper();
+    }
+
+    public JsonArrayStreamType(Configuration configuration) {
+        super(JsonArrayStream.class, configuration);
+        this.objectMapperWrapper = configuration.getObjectMapperWrapper();
+    }
+
+    public JsonArrayStreamType(ObjectMapperWrapper objectMapperWrapper, Type elementType) {
+        super(JsonArrayStream.class);
+        this.objectMapperWrapper = objectMapperWrapper;
+        this.elementType = elementType;
+    }
+
+    @Override
+    public void setParameterValues(Properties parameters) {
+        final XProperty xProperty = (XProperty) parameters.get(DynamicParameterizedType.XPROPERTY);
+        if (xProperty instanceof JavaXMember) {
+            Type javaType = ReflectionUtils.invokeGetter(xProperty, "javaType");
+            if (javaType instanceof ParameterizedType) {
+                elementType = ((ParameterizedType) javaType).getActualTypeArguments()[0];
+            }
+        }
+    }
+
+    @Override
+    public int[] sqlTypes() {
+        return new int[]{Types.OTHER};
+    }
+
+    @Override
+    protected JsonArrayStream get(ResultSet rs, String[] names, SharedSessionContractImplementor session, Object owner) throws SQLException {
+        byte[] json = rs.getBytes(names[0]);
+
+        if (json == null) {
+            return null;
+        }
+
+        return new JsonArrayStream<>(json, objectMapperWrapper.getReader(elementType));
+    }
+
+    @Override
+    protected void set(PreparedStatement st, JsonArrayStream value, int index, SharedSessionContractImplementor session) throws SQLException {
+        if (value == null) {
+            st.setNull(index, Types.OTHER);
+        } else {
+            st.setObject(index, new String(value.bytes(), StandardCharsets.UTF_8), Types.OTHER);
+        }
+    }
+
+    @Override
+    public Serializable disassemble(Object o) {
+        return o != null ? ((JsonArrayStream) o).toByteArray() : null;
+    }
+
+    @Override
+    public Object assemble(Serializable cached, Object owner) {
+        return cached != null ? new JsonArrayStream<>((byte[]) cached, objectMapperWrapper.getReader(elementType)) : null;
+    }
+}
@@ -8,6 +8,10 @@ import com.krish.type.json.internal.JsonNodeTypeDescriptor;
 import com.krish.type.util.Configuration;
 import com.krish.type.util.ObjectMapperWrapper;
 
+import org.hibernate.usertype.ParameterizedType;
+
+import java.util.Properties;
+
 /**
  * Maps a Jackson {@link JsonNode} object on a JSON column type that is managed via {@link java.sql.PreparedStatement#setObject(int, Object)} at JDBC Driver level. For instance, if you are using PostgreSQL, you should be using {@link JsonNodeBinaryType} to map both {@code jsonb} and {@code json} column types to a Jackson {@link JsonNode} object.
  *
@@ -16,7 +20,7 @@ import com.krish.type.util.ObjectMapperWrapper;
  *
  * @author Vlad Mihalcea
  */
-public class JsonNodeBinaryType extends AbstractHibernateType<JsonNode> {
+public class JsonNodeBinaryType extends AbstractHibernateType<JsonNode> implements ParameterizedType {
 
     public static final JsonNodeBinaryType INSTANCE = new JsonNodeBinaryType();
 
@@ -52,4 +56,9 @@ public class JsonNodeBinaryType extends AbstractHibernateType<JsonNode> {
     public String getName() {
         return "jsonb-node";
     }
+
+    @Override
+    public void setParameterValues(Properties parameters) {
+        ((JsonNodeTypeDescriptor) getJavaTypeDescriptor()).setParameterValues(parameters);
+    }
 }
\ No newline at end of file
@@ -8,6 +8,10 @@ import com.krish.type.json.internal.JsonStringSqlTypeDescriptor;
 import com.krish.type.util.Configuration;
 import com.krish.type.util.ObjectMapperWrapper;
 
+import org.hibernate.usertype.ParameterizedType;
+
+import java.util.Properties;
+
 /**
  * Maps a Jackson {@link JsonNode} object on a JSON column type that is managed via {@link java.sql.PreparedStatement#setString(int, String)} at JDBC Driver level. For instance, if you are using MySQL, you should be using {@link JsonNodeStringType} to map the {@code json} column type to a Jackson {@link JsonNode} object.
  * <p>
@@ -15,7 +19,7 @@ import com.krish.type.util.ObjectMapperWrapper;
  *
  * @author Vlad Mihalcea
  */
-public class JsonNodeStringType extends AbstractHibernateType<JsonNode> {
+public class JsonNodeStringType extends AbstractHibernateType<JsonNode> implements ParameterizedType {
 
     public static final JsonNodeStringType INSTANCE = new JsonNodeStringType();
 
@@ -52,4 +56,9 @@ public class JsonNodeStringType extends AbstractHibernateType<JsonNode> {
     public String getName() {
         return "jsonb-node";
     }
+
+    @Override
+    public void setParameterValues(Properties parameters) {
+        ((JsonNodeTypeDescriptor) getJavaTypeDescriptor()).setParameterValues(parameters);
+    }
 }
\ No newline at end of file
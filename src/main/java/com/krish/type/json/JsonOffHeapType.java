@@ -0,0 +1,113 @@
+package com.krish.type.json;
+
+import com.krish.type.ImmutableType;
+import com.krish.type.json.internal.OffHeapJsonStore;
+import com.krish.type.util.Configuration;
+import com.krish.type.util.ObjectMapperWrapper;
+import com.krish.type.util.ReflectionUtils;
+
+import org.hibernate.annotations.common.reflection.XProperty;
+import org.hibernate.annotations.common.reflection.java.JavaXMember;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.usertype.DynamicParameterizedType;
+
+import java.io.Serializable;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Properties;
+
+/**
+ * Maps a JSON column on an {@link OffHeapJson} entity attribute, so that the raw payload is kept in
+ * off-heap memory and decoded only when the application accesses it.
+ * <p>
+ * The document type is resolved from the attribute generic type:
+ * <pre>{@code
+ * @Type(type = "com.krish.type.json.JsonOffHeapType")
+ * @Column(columnDefinition = "jsonb")
+ * private OffHeapJson<Configuration> configuration;
+ * }</pre>
+ * <p>
+ * The total amount of off-heap memory is bounded by the {@code hibernate.types.json.off.heap.budget} property,
+ * given in bytes, and the payloads loaded once the budget is exhausted are kept on the Java heap.
+ */
+public class JsonOffHeapType
+        extends ImmutableType<OffHeapJson> implements DynamicParameterizedType {
+
+    public static final JsonOffHeapType INSTANCE = new JsonOffHeapType();
+
+    private final ObjectMapperWrapper objectMapperWrapper;
+
+    private final OffHeapJsonStore store;
+
+    private Type javaType = Object.class;
+
+    public JsonOffHeapType() {
+        super(OffHeapJson.class);
+        this.objectMapperWrapper = getConfiguration().getObjectMapperWrapper();
+        this.store = OffHeapJsonStore.INSTANCE;
+    }
+
+    public JsonOffHeapType(Configuration configuration) {
+        super(OffHeapJson.class, configuration);
+        this.objectMapperWrapper = configuration.getObjectMapperWrapper();
+        this.store = OffHeapJsonStore.INSTANCE;
+    }
+
+    public JsonOffHeapType(ObjectMapperWrapper objectMapperWrapper, OffHeapJsonStore store, Type javaType) {
+        super(OffHeapJson.class);
+        this.objectMapperWrapper = objectMapperWrapper;
+        this.store = store;
+        this.javaType = javaType;
+    }
+
+    @Override
+    public void setParameterValues(Properties parameters) {
+        final XProperty xProperty = (XProperty) parameters.get(DynamicParameterizedType.XPROPERTY);
+        if (xProperty instanceof JavaXMember) {
+            Type attributeType = ReflectionUtils.invokeGetter(xProperty, "javaType");
+            if (attributeType instanceof ParameterizedType) {
+                javaType = ((ParameterizedType) attributeType).getActualTypeArguments()[0];
+            }
+        }
+    }
+
+    @Override
+    public int[] sqlTypes() {
+        return new int[]{Types.OTHER};
+    }
+
+    @Override
+    protected OffHeapJson get(ResultSet rs, String[] names, SharedSessionContractImplementor session, Object owner) throws SQLException {
+        byte[] json = rs.getBytes(names[0]);
+
+        if (json == null) {
+            return null;
+        }
+
+        return new OffHeapJson<>(json, objectMapperWrapper.getReader(javaType), store);
+    }
+
+    @Override
+    protected void set(PreparedStatement st, OffHeapJson value, int index, SharedSessionContractImplementor session) throws SQLException {
+        if (value == null) {
+            st.setNull(index, Types.OTHER);
+        } else {
+            st.setObject(index, new String(value.toByteArray(), StandardCharsets.UTF_8), Types.OTHER);
+        }
+    }
+
+    @Override
+    public Serializable disassemble(Object o) {
+        return o != null ? ((OffHeapJson) o).toByteArray() : null;
+    }
+
+    @Override
+    public Object assemble(Serializable cached, Object owner) {
+        return cached != null ? new OffHeapJson<>((byte[]) cached, objectMapperWrapper.getReader(javaType), store) : null;
+    }
+}
@@ -0,0 +1,146 @@
+package com.krish.type.json;
+
+import com.krish.type.ImmutableType;
+import com.krish.type.util.Configuration;
+import com.krish.type.util.ObjectMapperWrapper;
+import com.krish.type.util.ReflectionUtils;
+
+import org.hibernate.annotations.common.reflection.XProperty;
+import org.hibernate.annotations.common.reflection.java.JavaXMember;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.usertype.DynamicParameterizedType;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Properties;
+
+/**
+ * Maps a single value extracted from a JSON document on a read-only entity attribute or query projection,
+ * so that only the selected fragment is transferred and parsed instead of the whole JSON column.
+ * <p>
+ * The fragment is extracted by the database using the PostgreSQL {@code #>} operator, and the resulting
+ * JSON text is materialized using the cached {@link com.fasterxml.jackson.databind.ObjectReader}
+ * of the attribute type. For instance, to map the publisher name stored in a {@code jsonb} column:
+ * <pre>{@code
+ * @Formula("properties #> '{publisher,name}'")
+ * @Type(type = "com.krish.type.json.JsonPathType")
+ * private String publisherName;
+ * }</pre>
+ * <p>
+ * For native query projections, the path expression can be built with {@link #path(String, String...)}
+ * and the column can be registered via {@code addScalar("alias", new JsonPathType(String.class))}.
+ */
+public class JsonPathType
+        extends ImmutableType<Object> implements DynamicParameterizedType {
+
+    private final ObjectMapperWrapper objectMapperWrapper;
+
+    private Type javaType = Object.class;
+
+    public JsonPathType() {
+        super(Object.class);
+        this.objectMapperWrapper = getConfiguration().getObjectMapperWrapper();
+    }
+
+    public JsonPathType(Type javaType) {
+        this();
+        this.javaType = javaType;
+    }
+
+    public JsonPathType(Configuration configuration) {
+        super(Object.class, configuration);
+        this.objectMapperWrapper = configuration.getObjectMapperWrapper();
+    }
+
+    public JsonPathType(ObjectMapperWrapper objectMapperWrapper, Type javaType) {
+        super(Object.class);
+        this.objectMapperWrapper = objectMapperWrapper;
+        this.javaType = javaType;
+    }
+
+    /**
+     * Build the PostgreSQL expression extracting the JSON fragment located at the given path.
+     * <p>
+     * Each path element is double-quoted in the {@code text[]} literal, with {@code "} and {@code \} escaped,
+     * so keys holding commas, braces, quotes or blanks are matched as they are.
+     *
+     * @param column JSON column name
+     * @param path   path elements, object keys or array indexes
+     * @return SQL expression, for instance {@code properties #> '{"publisher","name"}'}
+     */
+    public static String path(String column, String... path) {
+        StringBuilder builder = new StringBuilder(column).append(" #> '{");
+        for (int i = 0; i < path.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append('"');
+            String element = path[i];
+            for (int j = 0; j < element.length(); j++) {
+                char c = element.charAt(j);
+                if (c == '"' || c == '\\') {
+                    builder.append('\\');
+                } else if (c == '\'') {
+                    builder.append('\'');
+                }
+                builder.append(c);
+            }
+            builder.append('"');
+        }
+        return builder.append("}'").toString();
+    }
+
+    @Override
+    public void setParameterValues(Properties parameters) {
+        final XProperty xProperty = (XProperty) parameters.get(DynamicParameterizedType.XPROPERTY);
+        if (xProperty instanceof JavaXMember) {
+            javaType = ReflectionUtils.invokeGetter(xProperty, "javaType");
+        } else {
+            javaType = ((ParameterType) parameters.get(PARAMETER_TYPE)).getReturnedClass();
+        }
+    }
+
+    @Override
+    public int[] sqlTypes() {
+        return new int[]{Types.OTHER};
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Class<Object> returnedClass() {
+        Type classType = javaType;
+        if (classType instanceof ParameterizedType) {
+            classType = ((ParameterizedType) classType).getRawType();
+        }
+        return (Class<Object>) classType;
+    }
+
+    @Override
+    protected Object get(ResultSet rs, String[] names, SharedSessionContractImplementor session, Object owner) throws SQLException {
+        String json = rs.getString(names[0]);
+
+        if (json == null) {
+            return null;
+        }
+
+        try {
+            return objectMapperWrapper.getReader(javaType).readValue(json);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("The given JSON fragment: " + json + " cannot be transformed to " + javaType, e);
+        }
+    }
+
+    @Override
+    protected void set(PreparedStatement st, Object value, int index, SharedSessionContractImplementor session) throws SQLException {
+        if (value == null) {
+            st.setNull(index, Types.OTHER);
+        } else {
+            st.setObject(index, objectMapperWrapper.toString(value), Types.OTHER);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.krish.type.json;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.krish.type.json.internal.OffHeapJsonStore;
+import com.krish.type.util.ObjectMapperWrapper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Holds a JSON document in off-heap memory managed by an {@link OffHeapJsonStore}, and decodes it on every access.
+ * <p>
+ * On the Java heap, the holder only keeps a reference to the off-heap payload, so long-lived entities
+ * with large, rarely accessed JSON documents no longer inflate the old generation. The off-heap memory is given back
+ * to the store once the holder is unreachable.
+ * <p>
+ * If the store budget is exhausted, the payload is kept on the Java heap instead, and {@link #isDirect()} returns
+ * {@code false}.
+ *
+ * @param <T> JSON document type
+ */
+public class OffHeapJson<T> {
+
+    private final ByteBuffer payload;
+
+    private final ObjectReader reader;
+
+    private int hash;
+
+    public OffHeapJson(byte[] json, ObjectReader reader, OffHeapJsonStore store) {
+        this.payload = store.store(json);
+        this.reader = reader;
+    }
+
+    /**
+     * Create an {@link OffHeapJson} from the given value using the default {@link ObjectMapperWrapper}
+     * and {@link OffHeapJsonStore}.
+     *
+     * @param value JSON document
+     * @param type  JSON document type
+     * @param <T>   JSON document type
+     * @return {@link OffHeapJson} holding the serialized document
+     */
+    public static <T> OffHeapJson<T> of(T value, Class<T> type) {
+        ObjectMapperWrapper objectMapperWrapper = ObjectMapperWrapper.INSTANCE;
+        return new OffHeapJson<>(
+            objectMapperWrapper.toString(value).getBytes(StandardCharsets.UTF_8),
+            objectMapperWrapper.getReader(type),
+            OffHeapJsonStore.INSTANCE
+        );
+    }
+
+    /**
+     * Decode the JSON document.
+     *
+     * @return a new instance of the JSON document
+     */
+    public T get() {
+        try {
+            return reader.readValue(new ByteBufferBackedInputStream(payload.duplicate()));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("The off-heap JSON payload cannot be transformed to a Json object", e);
+        }
+    }
+
+    /**
+     * Get a copy of the raw JSON document.
+     *
+     * @return UTF-8 encoded JSON document
+     */
+    public byte[] toByteArray() {
+        byte[] bytes = new byte[payload.remaining()];
+        payload.duplicate().get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Tell whether the payload is held in direct memory, or on the Java heap because
+     * the {@link OffHeapJsonStore} budget was exhausted.
+     *
+     * @return {@code true} for off-heap payloads
+     */
+    public boolean isDirect() {
+        return payload.isDirect();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OffHeapJson)) return false;
+        OffHeapJson<?> that = (OffHeapJson<?>) o;
+        return payload.equals(that.payload);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = payload.hashCode();
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return new String(toByteArray(), StandardCharsets.UTF_8);
+    }
+}
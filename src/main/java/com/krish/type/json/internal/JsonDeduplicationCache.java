@@ -0,0 +1,85 @@
+package com.krish.type.json.internal;
+
+import com.krish.type.util.Configuration;
+import com.krish.type.util.ContentHash;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Content-addressed cache returning the same Java object for identical JSON documents.
+ * <p>
+ * Documents are looked up by the {@link ContentHash} of the characters of their database representation, hashed
+ * as they are, without being copied or brought to their canonical form. Documents are therefore only deduplicated
+ * if their text is identical, which is the case for equal documents read from a PostgreSQL {@code jsonb} column,
+ * since its text output is already normalized. Since the hash is not collision-resistant, each entry also keeps its
+ * source document, and a cached object is only shared if the documents are equal.
+ * <p>
+ * Because the cached objects are shared between all the entities loading the same document, the cache is only used
+ * by the JSON attributes mapped with the {@link JsonTypeDescriptor#IMMUTABLE} type parameter.
+ */
+public class JsonDeduplicationCache {
+
+    private final Map<ContentHash, Document> documents;
+
+    public JsonDeduplicationCache(final int maxSize) {
+        this.documents = new LinkedHashMap<ContentHash, Document>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ContentHash, Document> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Create the cache configured by the {@code hibernate.types.json.deduplication.cache.size} property.
+     *
+     * @param configuration {@link Configuration} object
+     * @return the configured cache, or {@code null} if deduplication is disabled
+     */
+    public static JsonDeduplicationCache newInstance(Configuration configuration) {
+        Integer maxSize = configuration.integerProperty(Configuration.PropertyKey.JSON_DEDUPLICATION_CACHE_SIZE);
+        return maxSize != null && maxSize > 0 ? new JsonDeduplicationCache(maxSize) : null;
+    }
+
+    /**
+     * Get the shared object for the given JSON document, parsing it only if it was not cached already.
+     * <p>
+     * If another document having the same hash is cached, the given document is parsed, and the result is not shared.
+     *
+     * @param json   JSON document
+     * @param parser function transforming the JSON document to a Java object
+     * @return shared Java object
+     */
+    public Object get(String json, Function<String, Object> parser) {
+        ContentHash hash = ContentHash.of(json);
+        Document document;
+        synchronized (documents) {
+            document = documents.get(hash);
+        }
+        if (document != null) {
+            return document.json.equals(json) ? document.value : parser.apply(json);
+        }
+        document = new Document(json, parser.apply(json));
+        synchronized (documents) {
+            Document previous = documents.putIfAbsent(hash, document);
+            if (previous != null && previous.json.equals(json)) {
+                document = previous;
+            }
+        }
+        return document.value;
+    }
+
+    private static final class Document {
+
+        private final String json;
+
+        private final Object value;
+
+        private Document(String json, Object value) {
+            this.json = json;
+            this.value = value;
+        }
+    }
+}
@@ -5,9 +5,13 @@ import com.krish.type.util.ObjectMapperWrapper;
 
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.AbstractTypeDescriptor;
+import org.hibernate.type.descriptor.java.ImmutableMutabilityPlan;
+import org.hibernate.type.descriptor.java.MutabilityPlan;
 import org.hibernate.type.descriptor.java.MutableMutabilityPlan;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Properties;
 
 /**
  * @author Vlad Mihalcea
@@ -17,8 +21,22 @@ public class JsonNodeTypeDescriptor
 
     public static final JsonNodeTypeDescriptor INSTANCE = new JsonNodeTypeDescriptor();
 
+    private final MutabilityPlan<JsonNode> immutableMutabilityPlan = new ImmutableMutabilityPlan<JsonNode>() {
+        @Override
+        public Serializable disassemble(JsonNode value) {
+            return value != null ? objectMapperWrapper.toString(value) : null;
+        }
+
+        @Override
+        public JsonNode assemble(Serializable cached) {
+            return cached != null ? objectMapperWrapper.toJsonNode((String) cached) : null;
+        }
+    };
+
     private ObjectMapperWrapper objectMapperWrapper;
 
+    private boolean immutable;
+
     public JsonNodeTypeDescriptor() {
         super(JsonNode.class, new MutableMutabilityPlan<JsonNode>() {
             @Override
@@ -59,16 +77,31 @@ public class JsonNodeTypeDescriptor
         this.objectMapperWrapper = objectMapperWrapper;
     }
 
+    /**
+     * Apply the type parameters, such as the {@link JsonTypeDescriptor#IMMUTABLE} flag.
+     *
+     * @param parameters type parameters
+     */
+    public void setParameterValues(Properties parameters) {
+        immutable = Boolean.parseBoolean(parameters.getProperty(JsonTypeDescriptor.IMMUTABLE));
+    }
+
+    @Override
+    public MutabilityPlan<JsonNode> getMutabilityPlan() {
+        return immutable ? immutableMutabilityPlan : super.getMutabilityPlan();
+    }
+
     @Override
     public boolean areEqual(JsonNode one, JsonNode another) {
         if (one == another) {
             return true;
         }
-        if (one == null || another == null) {
+        if (one == null || another == null || immutable) {
             return false;
         }
-        return objectMapperWrapper.toJsonNode(objectMapperWrapper.toString(one)).equals(
-                objectMapperWrapper.toJsonNode(objectMapperWrapper.toString(another)));
+        return Arrays.equals(
+                objectMapperWrapper.toCanonicalBytes(one),
+                objectMapperWrapper.toCanonicalBytes(another));
     }
 
     @Override
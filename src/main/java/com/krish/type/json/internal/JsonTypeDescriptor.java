@@ -9,22 +9,31 @@ import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.AbstractTypeDescriptor;
 import org.hibernate.type.descriptor.java.BlobTypeDescriptor;
 import org.hibernate.type.descriptor.java.DataHelper;
+import org.hibernate.type.descriptor.java.ImmutableMutabilityPlan;
+import org.hibernate.type.descriptor.java.MutabilityPlan;
 import org.hibernate.type.descriptor.java.MutableMutabilityPlan;
 import org.hibernate.usertype.DynamicParameterizedType;
 
+import com.krish.type.util.Configuration;
 import com.krish.type.util.ObjectMapperWrapper;
 import com.krish.type.util.ReflectionUtils;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Serializable;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.sql.Blob;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
 
 /**
  * @author Vlad Mihalcea
@@ -32,10 +41,40 @@ import java.util.Properties;
 public class JsonTypeDescriptor
     extends AbstractTypeDescriptor<Object> implements DynamicParameterizedType {
 
+    /**
+     * Type parameter declaring that the JSON attribute is never modified in place, so loaded values
+     * are neither copied into the persistence context snapshot nor compared property by property at flush time.
+     */
+    public static final String IMMUTABLE = "immutable";
+
+    /**
+     * Type parameter wrapping the loaded values of an {@link #IMMUTABLE} attribute declared
+     * as a {@link List}, {@link Set}, {@link Map} or {@link Collection} in an unmodifiable view.
+     */
+    public static final String READ_ONLY_VIEW = "read_only_view";
+
+    private final MutabilityPlan<Object> immutableMutabilityPlan = new ImmutableMutabilityPlan<Object>() {
+        @Override
+        public Serializable disassemble(Object value) {
+            return value != null ? unwrap(value, String.class, null) : null;
+        }
+
+        @Override
+        public Object assemble(Serializable cached) {
+            return cached != null ? fromString((String) cached) : null;
+        }
+    };
+
+    private boolean immutable;
+
+    private boolean readOnlyView;
+
     private Type type;
 
     private ObjectMapperWrapper objectMapperWrapper;
 
+    private final JsonDeduplicationCache deduplicationCache = JsonDeduplicationCache.newInstance(Configuration.INSTANCE);
+
     public JsonTypeDescriptor() {
         super(Object.class, new MutableMutabilityPlan<Object>() {
             @Override
@@ -73,6 +112,13 @@ public class JsonTypeDescriptor
         } else {
             type = ((ParameterType) parameters.get(PARAMETER_TYPE)).getReturnedClass();
         }
+        immutable = Boolean.parseBoolean(parameters.getProperty(IMMUTABLE));
+        readOnlyView = immutable && Boolean.parseBoolean(parameters.getProperty(READ_ONLY_VIEW));
+    }
+
+    @Override
+    public MutabilityPlan<Object> getMutabilityPlan() {
+        return immutable ? immutableMutabilityPlan : super.getMutabilityPlan();
     }
 
     @Override
@@ -80,7 +126,7 @@ public class JsonTypeDescriptor
         if (one == another) {
             return true;
         }
-        if (one == null || another == null) {
+        if (one == null || another == null || immutable) {
             return false;
         }
         if (one instanceof String && another instanceof String) {
@@ -89,8 +135,9 @@ public class JsonTypeDescriptor
         if (one instanceof Collection && another instanceof Collection) {
             return Objects.equals(one, another);
         }
-        return objectMapperWrapper.toJsonNode(objectMapperWrapper.toString(one)).equals(
-            objectMapperWrapper.toJsonNode(objectMapperWrapper.toString(another))
+        return Arrays.equals(
+            objectMapperWrapper.toCanonicalBytes(one),
+            objectMapperWrapper.toCanonicalBytes(another)
         );
     }
 
@@ -104,7 +151,29 @@ public class JsonTypeDescriptor
         if (String.class.isAssignableFrom(typeToClass())) {
             return string;
         }
-        return objectMapperWrapper.fromString(string, type);
+        if (immutable && deduplicationCache != null) {
+            return deduplicationCache.get(string, this::parse);
+        }
+        return parse(string);
+    }
+
+    private Object parse(String string) {
+        Object value = objectMapperWrapper.fromString(string, type);
+        return readOnlyView ? toReadOnlyView(value) : value;
+    }
+
+    private Object toReadOnlyView(Object value) {
+        Class clazz = typeToClass();
+        if (List.class.equals(clazz)) {
+            return Collections.unmodifiableList((List) value);
+        } else if (Set.class.equals(clazz)) {
+            return Collections.unmodifiableSet((Set) value);
+        } else if (Map.class.equals(clazz)) {
+            return Collections.unmodifiableMap((Map) value);
+        } else if (Collection.class.equals(clazz)) {
+            return Collections.unmodifiableCollection((Collection) value);
+        }
+        return value;
     }
 
     @SuppressWarnings({"unchecked"})
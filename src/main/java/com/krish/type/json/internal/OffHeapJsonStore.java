@@ -0,0 +1,104 @@
+package com.krish.type.json.internal;
+
+import com.krish.type.util.Configuration;
+
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+
+/**
+ * Keeps JSON payloads in direct memory, outside of the Java heap, within a fixed memory budget.
+ * <p>
+ * Small payloads are carved out of shared {@link #SEGMENT_SIZE} segments, so that every payload does not pay for
+ * its own direct buffer allocation and bookkeeping. A segment is released by the garbage collector once all the
+ * payloads carved out of it are unreachable, and its size is then given back to the budget.
+ * <p>
+ * When the budget is exhausted, payloads are kept on the Java heap instead, so that a payload is never lost
+ * and its holder can always be decoded and written back.
+ */
+public class OffHeapJsonStore {
+
+    public static final long DEFAULT_BUDGET = 64L * 1024 * 1024;
+
+    public static final int SEGMENT_SIZE = 1024 * 1024;
+
+    private static final int MAX_SEGMENT_ALLOCATION = SEGMENT_SIZE >> 3;
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    public static final OffHeapJsonStore INSTANCE = new OffHeapJsonStore(budget(Configuration.INSTANCE));
+
+    private final long budget;
+
+    private long usedBytes;
+
+    private ByteBuffer segment;
+
+    public OffHeapJsonStore(long budget) {
+        this.budget = budget;
+    }
+
+    private static long budget(Configuration configuration) {
+        Long budget = configuration.longProperty(Configuration.PropertyKey.JSON_OFF_HEAP_BUDGET);
+        return budget != null ? budget : DEFAULT_BUDGET;
+    }
+
+    /**
+     * Copy the given payload into off-heap memory, or on the Java heap if the budget is exhausted.
+     *
+     * @param payload UTF-8 encoded JSON payload
+     * @return read-only buffer holding the payload copy, positioned at {@code 0}
+     */
+    public ByteBuffer store(byte[] payload) {
+        int length = payload.length;
+        ByteBuffer buffer;
+        synchronized (this) {
+            buffer = length > MAX_SEGMENT_ALLOCATION ? allocateDirect(length) : allocateFromSegment(length);
+        }
+        if (buffer == null) {
+            buffer = ByteBuffer.allocate(length);
+        }
+        buffer.put(payload).flip();
+        return buffer.asReadOnlyBuffer();
+    }
+
+    private ByteBuffer allocateFromSegment(int length) {
+        if (segment == null || segment.remaining() < length) {
+            segment = allocateDirect(SEGMENT_SIZE);
+            if (segment == null) {
+                return null;
+            }
+        }
+        int position = segment.position();
+        segment.limit(position + length);
+        ByteBuffer buffer = segment.slice();
+        segment.limit(segment.capacity()).position(position + length);
+        return buffer;
+    }
+
+    private ByteBuffer allocateDirect(int capacity) {
+        if (usedBytes + capacity > budget) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(capacity);
+        usedBytes += capacity;
+        CLEANER.register(buffer, () -> release(capacity));
+        return buffer;
+    }
+
+    private synchronized void release(int capacity) {
+        usedBytes -= capacity;
+    }
+
+    public long getBudget() {
+        return budget;
+    }
+
+    /**
+     * Get the amount of direct memory held by the store, including the unused part of the current segment.
+     *
+     * @return number of bytes
+     */
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+}
@@ -0,0 +1,55 @@
+package com.krish.type.range;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.postgresql.util.PGobject;
+
+import com.krish.type.ImmutableType;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Base class for the types mapping a primitive-specialized range, like {@link IntRange}, to the PostgreSQL range
+ * column type of the same element type.
+ */
+abstract class AbstractPostgreSQLPrimitiveRangeType<T> extends ImmutableType<T> {
+
+    private final String rangeType;
+
+    protected AbstractPostgreSQLPrimitiveRangeType(Class<T> clazz, String rangeType) {
+        super(clazz);
+        this.rangeType = rangeType;
+    }
+
+    @Override
+    public int[] sqlTypes() {
+        return new int[]{Types.OTHER};
+    }
+
+    @Override
+    protected T get(ResultSet rs, String[] names, SharedSessionContractImplementor session, Object owner) throws SQLException {
+        String value = rs.getString(names[0]);
+
+        return value == null ? null : fromString(value);
+    }
+
+    @Override
+    protected void set(PreparedStatement st, T range, int index, SharedSessionContractImplementor session) throws SQLException {
+
+        if (range == null) {
+            st.setNull(index, Types.OTHER);
+        } else {
+            PGobject object = new PGobject();
+            object.setType(rangeType);
+            object.setValue(toString(range));
+
+            st.setObject(index, object);
+        }
+    }
+
+    protected abstract T fromString(String value);
+
+    protected abstract String toString(T range);
+}
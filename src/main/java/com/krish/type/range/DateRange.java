@@ -0,0 +1,323 @@
+package com.krish.type.range;
+
+import com.krish.type.range.internal.RangeLiteralCodec;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Immutable range of dates, mapped on the PostgreSQL {@code daterange} column type by {@link PostgreSQLDateRangeType}.
+ * <p>
+ * Unlike {@code Range<LocalDate>}, the bounds are kept as {@code int} epoch days, and the range is kept in the canonical
+ * form PostgreSQL uses for discrete range types, so that {@code (2019-01-01,2019-01-31]} and {@code [2019-01-02,2019-02-01)}
+ * are the same range. Internally, the range holds its first and last days, which makes {@link #contains(int)}
+ * and {@link #overlaps(DateRange)} two comparisons each.
+ * <p>
+ * Like in PostgreSQL, a range whose bounds do not include any day, like {@code [2019-01-01,2019-01-01)}, is {@link #empty()}.
+ */
+public final class DateRange implements Serializable {
+
+    private static final byte LOWER_INFINITE = 1;
+    private static final byte UPPER_INFINITE = 1 << 1;
+
+    private static final DateRange EMPTY = new DateRange(0, -1, (byte) 0);
+
+    private static final DateRange INFINITE = new DateRange(
+        Integer.MIN_VALUE, Integer.MAX_VALUE, (byte) (LOWER_INFINITE | UPPER_INFINITE)
+    );
+
+    private final int first;
+
+    private final int last;
+
+    private final byte flags;
+
+    private DateRange(int first, int last, byte flags) {
+        this.first = first;
+        this.last = last;
+        this.flags = flags;
+    }
+
+    /**
+     * Create the {@code [lower, upper]} range.
+     *
+     * @param lower The lower bound.
+     * @param upper The upper bound.
+     *
+     * @return The range.
+     */
+    public static DateRange closed(LocalDate lower, LocalDate upper) {
+        return of(lower.toEpochDay(), true, upper.toEpochDay(), true, 0);
+    }
+
+    /**
+     * Create the {@code [lower, upper)} range.
+     *
+     * @param lower The lower bound.
+     * @param upper The upper bound.
+     *
+     * @return The range.
+     */
+    public static DateRange closedOpen(LocalDate lower, LocalDate upper) {
+        return of(lower.toEpochDay(), true, upper.toEpochDay(), false, 0);
+    }
+
+    /**
+     * Create the {@code (lower, upper]} range.
+     *
+     * @param lower The lower bound.
+     * @param upper The upper bound.
+     *
+     * @return The range.
+     */
+    public static DateRange openClosed(LocalDate lower, LocalDate upper) {
+        return of(lower.toEpochDay(), false, upper.toEpochDay(), true, 0);
+    }
+
+    /**
+     * Create the {@code (lower, upper)} range.
+     *
+     * @param lower The lower bound.
+     * @param upper The upper bound.
+     *
+     * @return The range.
+     */
+    public static DateRange open(LocalDate lower, LocalDate upper) {
+        return of(lower.toEpochDay(), false, upper.toEpochDay(), false, 0);
+    }
+
+    /**
+     * Create the {@code [lower, +∞)} range.
+     *
+     * @param lower The lower bound.
+     *
+     * @return The range.
+     */
+    public static DateRange closedInfinite(LocalDate lower) {
+        return of(lower.toEpochDay(), true, 0, false, UPPER_INFINITE);
+    }
+
+    /**
+     * Create the {@code (-∞, upper)} range.
+     *
+     * @param upper The upper bound.
+     *
+     * @return The range.
+     */
+    public static DateRange infiniteOpen(LocalDate upper) {
+        return of(0, false, upper.toEpochDay(), false, LOWER_INFINITE);
+    }
+
+    public static DateRange infinite() {
+        return INFINITE;
+    }
+
+    public static DateRange empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Create the range from its PostgreSQL text representation, like {@literal "[2019-01-01,2019-02-01)"} or {@literal "empty"}.
+     *
+     * @param range The range string.
+     *
+     * @return The range.
+     */
+    public static DateRange ofString(String range) {
+        return RangeLiteralCodec.parse(range, RangeLiteralCodec.EPOCH_DAY, DateRange::fromLiteral);
+    }
+
+    private static DateRange fromLiteral(long lower, long upper, int mask) {
+        if (mask == RangeLiteralCodec.EMPTY) {
+            return EMPTY;
+        }
+        int flags = 0;
+        if ((mask & RangeLiteralCodec.LOWER_INFINITE) == RangeLiteralCodec.LOWER_INFINITE) {
+            flags |= LOWER_INFINITE;
+        }
+        if ((mask & RangeLiteralCodec.UPPER_INFINITE) == RangeLiteralCodec.UPPER_INFINITE) {
+            flags |= UPPER_INFINITE;
+        }
+        return of(
+            lower, (mask & RangeLiteralCodec.LOWER_INCLUSIVE) != 0,
+            upper, (mask & RangeLiteralCodec.UPPER_INCLUSIVE) != 0,
+            flags
+        );
+    }
+
+    /**
+     * Bring the given bounds to the canonical {@code [first, last]} form.
+     */
+    private static DateRange of(long lower, boolean lowerInclusive, long upper, boolean upperInclusive, int flags) {
+        boolean lowerInfinite = (flags & LOWER_INFINITE) != 0;
+        boolean upperInfinite = (flags & UPPER_INFINITE) != 0;
+        if (lowerInfinite && upperInfinite) {
+            return INFINITE;
+        }
+        if (!lowerInfinite && !upperInfinite && lower > upper) {
+            throw new IllegalArgumentException("The lower bound is greater then upper!");
+        }
+        long first = lowerInfinite ? Integer.MIN_VALUE : lowerInclusive ? lower : lower + 1;
+        long last = upperInfinite ? Integer.MAX_VALUE : upperInclusive ? upper : upper - 1;
+        if (first > last) {
+            return EMPTY;
+        }
+        if (first < Integer.MIN_VALUE || (!upperInfinite && last >= Integer.MAX_VALUE)) {
+            throw new IllegalArgumentException(
+                "The range bounds must be between " + LocalDate.ofEpochDay(Integer.MIN_VALUE) +
+                " and " + LocalDate.ofEpochDay(Integer.MAX_VALUE)
+            );
+        }
+        return new DateRange((int) first, (int) last, (byte) flags);
+    }
+
+    public boolean isEmpty() {
+        return first > last;
+    }
+
+    public boolean hasLowerBound() {
+        return (flags & LOWER_INFINITE) == 0 && !isEmpty();
+    }
+
+    public boolean hasUpperBound() {
+        return (flags & UPPER_INFINITE) == 0 && !isEmpty();
+    }
+
+    /**
+     * Get the inclusive lower bound, like the PostgreSQL {@code lower} function does.
+     *
+     * @return The lower bound.
+     *
+     * @throws IllegalStateException when the range has no lower bound.
+     */
+    public LocalDate lower() {
+        return LocalDate.ofEpochDay(lowerEpochDay());
+    }
+
+    /**
+     * Get the inclusive lower bound as a number of days since {@code 1970-01-01}.
+     *
+     * @return The lower bound.
+     *
+     * @throws IllegalStateException when the range has no lower bound.
+     */
+    public int lowerEpochDay() {
+        if (!hasLowerBound()) {
+            throw new IllegalStateException("The range has no lower bound!");
+        }
+        return first;
+    }
+
+    /**
+     * Get the exclusive upper bound, like the PostgreSQL {@code upper} function does.
+     *
+     * @return The upper bound.
+     *
+     * @throws IllegalStateException when the range has no upper bound.
+     */
+    public LocalDate upper() {
+        return LocalDate.ofEpochDay(upperEpochDay());
+    }
+
+    /**
+     * Get the exclusive upper bound as a number of days since {@code 1970-01-01}.
+     *
+     * @return The upper bound.
+     *
+     * @throws IllegalStateException when the range has no upper bound.
+     */
+    public int upperEpochDay() {
+        if (!hasUpperBound()) {
+            throw new IllegalStateException("The range has no upper bound!");
+        }
+        return last + 1;
+    }
+
+    public boolean contains(LocalDate date) {
+        long epochDay = date.toEpochDay();
+        return first <= epochDay & epochDay <= last;
+    }
+
+    /**
+     * Tell whether this range contains the given day.
+     *
+     * @param epochDay The number of days since {@code 1970-01-01}.
+     *
+     * @return Whether the day is in this range or not.
+     */
+    public boolean contains(int epochDay) {
+        return first <= epochDay & epochDay <= last;
+    }
+
+    /**
+     * Tell whether this range contains the given range. Like in PostgreSQL, every range contains the empty range.
+     *
+     * @param range The range to check.
+     *
+     * @return Whether {@code range} is in this range or not.
+     */
+    public boolean contains(DateRange range) {
+        return range.first > range.last | (first <= range.first & range.last <= last);
+    }
+
+    /**
+     * Tell whether the two ranges have values in common.
+     *
+     * @param range The range to check.
+     *
+     * @return Whether the ranges overlap or not.
+     */
+    public boolean overlaps(DateRange range) {
+        return first <= range.last & range.first <= last & first <= last & range.first <= range.last;
+    }
+
+    /**
+     * Convert this range to a {@link Range}, in the {@code [lower, upper)} form.
+     *
+     * @return The range.
+     */
+    public Range<LocalDate> toRange() {
+        if (isEmpty()) {
+            return Range.empty(LocalDate.class);
+        }
+        if (!hasLowerBound()) {
+            return hasUpperBound() ? Range.infiniteOpen(upper()) : Range.infinite(LocalDate.class);
+        }
+        return hasUpperBound() ? Range.closedOpen(lower(), upper()) : Range.closedInfinite(lower());
+    }
+
+    /**
+     * Get the PostgreSQL text representation of the range, like {@literal "[2019-01-01,2019-02-01)"}.
+     *
+     * @return The range string.
+     */
+    public String asString() {
+        if (isEmpty()) {
+            return "empty";
+        }
+        return RangeLiteralCodec.toString(
+            hasLowerBound(),
+            hasLowerBound() ? lower() : null,
+            hasUpperBound() ? upper() : null,
+            false
+        );
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DateRange)) return false;
+        DateRange that = (DateRange) o;
+        return first == that.first && last == that.last && flags == that.flags;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * first + last) + flags;
+    }
+
+    @Override
+    public String toString() {
+        return asString();
+    }
+}
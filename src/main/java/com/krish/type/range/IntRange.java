@@ -0,0 +1,287 @@
+package com.krish.type.range;
+
+import com.krish.type.range.internal.RangeLiteralCodec;
+
+import java.io.Serializable;
+
+/**
+ * Immutable range of {@code int} values, mapped on the PostgreSQL {@code int4range} column type by {@link PostgreSQLIntRangeType}.
+ * <p>
+ * Unlike {@code Range<Integer>}, the bounds are not boxed, and the range is kept in the canonical form PostgreSQL uses
+ * for discrete range types, so that {@code (1,5]} and {@code [2,6)} are the same range. Internally, the range holds
+ * its first and last values, which makes {@link #contains(int)} and {@link #overlaps(IntRange)} two comparisons each.
+ * <p>
+ * Like in PostgreSQL, a range whose bounds do not include any value, like {@code [5,5)}, is {@link #empty()}.
+ */
+public final class IntRange implements Serializable {
+
+    private static final byte LOWER_INFINITE = 1;
+    private static final byte UPPER_INFINITE = 1 << 1;
+
+    private static final IntRange EMPTY = new IntRange(0, -1, (byte) 0);
+
+    private static final IntRange INFINITE = new IntRange(
+        Integer.MIN_VALUE, Integer.MAX_VALUE, (byte) (LOWER_INFINITE | UPPER_INFINITE)
+    );
+
+    private final int first;
+
+    private final int last;
+
+    private final byte flags;
+
+    private IntRange(int first, int last, byte flags) {
+        this.first = first;
+        this.last = last;
+        this.flags = flags;
+    }
+
+    /**
+     * Create the {@code [lower, upper]} range.
+     *
+     * @param lower The lower bound.
+     * @param upper The upper bound.
+     *
+     * @return The range.
+     */
+    public static IntRange closed(int lower, int upper) {
+        return of(lower, true, upper, true, 0);
+    }
+
+    /**
+     * Create the {@code [lower, upper)} range.
+     *
+     * @param lower The lower bound.
+     * @param upper The upper bound.
+     *
+     * @return The range.
+     */
+    public static IntRange closedOpen(int lower, int upper) {
+        return of(lower, true, upper, false, 0);
+    }
+
+    /**
+     * Create the {@code (lower, upper]} range.
+     *
+     * @param lower The lower bound.
+     * @param upper The upper bound.
+     *
+     * @return The range.
+     */
+    public static IntRange openClosed(int lower, int upper) {
+        return of(lower, false, upper, true, 0);
+    }
+
+    /**
+     * Create the {@code (lower, upper)} range.
+     *
+     * @param lower The lower bound.
+     * @param upper The upper bound.
+     *
+     * @return The range.
+     */
+    public static IntRange open(int lower, int upper) {
+        return of(lower, false, upper, false, 0);
+    }
+
+    /**
+     * Create the {@code [lower, +∞)} range.
+     *
+     * @param lower The lower bound.
+     *
+     * @return The range.
+     */
+    public static IntRange closedInfinite(int lower) {
+        return of(lower, true, 0, false, UPPER_INFINITE);
+    }
+
+    /**
+     * Create the {@code (-∞, upper)} range.
+     *
+     * @param upper The upper bound.
+     *
+     * @return The range.
+     */
+    public static IntRange infiniteOpen(int upper) {
+        return of(0, false, upper, false, LOWER_INFINITE);
+    }
+
+    public static IntRange infinite() {
+        return INFINITE;
+    }
+
+    public static IntRange empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Create the range from its PostgreSQL text representation, like {@literal "[1,5)"} or {@literal "empty"}.
+     *
+     * @param range The range string.
+     *
+     * @return The range.
+     */
+    public static IntRange ofString(String range) {
+        return RangeLiteralCodec.parse(range, RangeLiteralCodec.LONG_VALUE, IntRange::fromLiteral);
+    }
+
+    private static IntRange fromLiteral(long lower, long upper, int mask) {
+        if (mask == RangeLiteralCodec.EMPTY) {
+            return EMPTY;
+        }
+        if (lower < Integer.MIN_VALUE || lower > Integer.MAX_VALUE || upper < Integer.MIN_VALUE || upper > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The range bounds must be int values");
+        }
+        int flags = 0;
+        if ((mask & RangeLiteralCodec.LOWER_INFINITE) == RangeLiteralCodec.LOWER_INFINITE) {
+            flags |= LOWER_INFINITE;
+        }
+        if ((mask & RangeLiteralCodec.UPPER_INFINITE) == RangeLiteralCodec.UPPER_INFINITE) {
+            flags |= UPPER_INFINITE;
+        }
+        return of(
+            lower, (mask & RangeLiteralCodec.LOWER_INCLUSIVE) != 0,
+            upper, (mask & RangeLiteralCodec.UPPER_INCLUSIVE) != 0,
+            flags
+        );
+    }
+
+    /**
+     * Bring the given bounds to the canonical {@code [first, last]} form.
+     */
+    private static IntRange of(long lower, boolean lowerInclusive, long upper, boolean upperInclusive, int flags) {
+        boolean lowerInfinite = (flags & LOWER_INFINITE) != 0;
+        boolean upperInfinite = (flags & UPPER_INFINITE) != 0;
+        if (lowerInfinite && upperInfinite) {
+            return INFINITE;
+        }
+        if (!lowerInfinite && !upperInfinite && lower > upper) {
+            throw new IllegalArgumentException("The lower bound is greater then upper!");
+        }
+        long first = lowerInfinite ? Integer.MIN_VALUE : lowerInclusive ? lower : lower + 1;
+        long last = upperInfinite ? Integer.MAX_VALUE : upperInclusive ? upper : upper - 1;
+        if (first > last) {
+            return EMPTY;
+        }
+        if (!upperInfinite && last == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The upper bound of a bounded range must be lower than " + Integer.MAX_VALUE);
+        }
+        return new IntRange((int) first, (int) last, (byte) flags);
+    }
+
+    public boolean isEmpty() {
+        return first > last;
+    }
+
+    public boolean hasLowerBound() {
+        return (flags & LOWER_INFINITE) == 0 && !isEmpty();
+    }
+
+    public boolean hasUpperBound() {
+        return (flags & UPPER_INFINITE) == 0 && !isEmpty();
+    }
+
+    /**
+     * Get the inclusive lower bound, like the PostgreSQL {@code lower} function does.
+     *
+     * @return The lower bound.
+     *
+     * @throws IllegalStateException when the range has no lower bound.
+     */
+    public int lower() {
+        if (!hasLowerBound()) {
+            throw new IllegalStateException("The range has no lower bound!");
+        }
+        return first;
+    }
+
+    /**
+     * Get the exclusive upper bound, like the PostgreSQL {@code upper} function does.
+     *
+     * @return The upper bound.
+     *
+     * @throws IllegalStateException when the range has no upper bound.
+     */
+    public int upper() {
+        if (!hasUpperBound()) {
+            throw new IllegalStateException("The range has no upper bound!");
+        }
+        return last + 1;
+    }
+
+    public boolean contains(int point) {
+        return first <= point & point <= last;
+    }
+
+    /**
+     * Tell whether this range contains the given range. Like in PostgreSQL, every range contains the empty range.
+     *
+     * @param range The range to check.
+     *
+     * @return Whether {@code range} is in this range or not.
+     */
+    public boolean contains(IntRange range) {
+        return range.first > range.last | (first <= range.first & range.last <= last);
+    }
+
+    /**
+     * Tell whether the two ranges have values in common.
+     *
+     * @param range The range to check.
+     *
+     * @return Whether the ranges overlap or not.
+     */
+    public boolean overlaps(IntRange range) {
+        return first <= range.last & range.first <= last & first <= last & range.first <= range.last;
+    }
+
+    /**
+     * Convert this range to a {@link Range}, in the {@code [lower, upper)} form.
+     *
+     * @return The range.
+     */
+    public Range<Integer> toRange() {
+        if (isEmpty()) {
+            return Range.empty(Integer.class);
+        }
+        if (!hasLowerBound()) {
+            return hasUpperBound() ? Range.infiniteOpen(upper()) : Range.infinite(Integer.class);
+        }
+        return hasUpperBound() ? Range.closedOpen(first, upper()) : Range.closedInfinite(first);
+    }
+
+    /**
+     * Get the PostgreSQL text representation of the range, like {@literal "[1,5)"}.
+     *
+     * @return The range string.
+     */
+    public String asString() {
+        if (isEmpty()) {
+            return "empty";
+        }
+        return RangeLiteralCodec.toString(
+            hasLowerBound(),
+            hasLowerBound() ? first : null,
+            hasUpperBound() ? last + 1 : null,
+            false
+        );
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IntRange)) return false;
+        IntRange that = (IntRange) o;
+        return first == that.first && last == that.last && flags == that.flags;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * first + last) + flags;
+    }
+
+    @Override
+    public String toString() {
+        return asString();
+    }
+}
@@ -0,0 +1,297 @@
+package com.krish.type.range;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Immutable in-memory index answering which of many ranges overlap, contain or are contained in a given range,
+ * without scanning all of them.
+ * <p>
+ * The ranges are sorted by their lower bound, and the sorted array is seen as a balanced binary search tree whose
+ * root is the middle element. Each node is augmented with the greatest upper bound of its subtree, so that
+ * subtrees ending before the queried range are skipped. An {@link #overlapping(Range)} or {@link #containing(Range)}
+ * query runs in {@code O(log n)} time per reported range, and returns the ranges in the order of their lower bound.
+ * <p>
+ * A {@link #containedIn(Range)} query cannot skip subtrees by their greatest upper bound, so the tree also holds a
+ * secondary index of the ranges by upper bound, which makes that query run in {@code O(log n + k)} time for
+ * {@code k} reported ranges, at the cost of about {@code 16} more bytes per range.
+ * <p>
+ * The tree is built in {@code O(n log n)} time, and inputs of at least {@link #PARALLEL_SORT_THRESHOLD} ranges are
+ * sorted with {@link Arrays#parallelSort(Object[], Comparator)}.
+ * <p>
+ * Any object can be indexed by the range it maps to, like an entity by its period, through
+ * {@link #of(Collection, Function)}. Ranges are compared in their {@link Range#canonical()} form, and empty ranges,
+ * which overlap nothing but are contained in every range, are kept aside from the tree.
+ *
+ * @param <T> The type of bounds.
+ * @param <V> The type of indexed values.
+ */
+public final class IntervalTree<T extends Comparable, V> {
+
+    /**
+     * Number of ranges from which the bulk construction sorts them over the common
+     * {@link java.util.concurrent.ForkJoinPool}.
+     */
+    public static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+    private static final Comparator<Entry<?, ?>> LOWER_BOUND_ORDER = (one, another) -> {
+        int result = Range.compareLower(one.range, another.range);
+        return result != 0 ? result : Range.compareUpper(one.range, another.range);
+    };
+
+    private final Range<T>[] ranges;
+
+    private final Object[] values;
+
+    /**
+     * Index, for each node, of the range with the greatest upper bound within the subtree of that node.
+     */
+    private final int[] maxUpper;
+
+    private final UpperBoundIndex upperBoundIndex;
+
+    private final List<V> emptyValues;
+
+    @SuppressWarnings("unchecked")
+    private IntervalTree(Entry<T, V>[] entries, List<V> emptyValues) {
+        int size = entries.length;
+        this.emptyValues = emptyValues;
+        this.ranges = new Range[size];
+        this.values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            ranges[i] = entries[i].range;
+            values[i] = entries[i].value;
+        }
+        this.maxUpper = new int[size];
+        augment(0, size);
+        this.upperBoundIndex = new UpperBoundIndex(ranges);
+    }
+
+    /**
+     * Build the tree indexing the given ranges.
+     *
+     * @param ranges The ranges, never null.
+     * @param <T>    The type of bounds.
+     *
+     * @return The tree.
+     */
+    public static <T extends Comparable> IntervalTree<T, Range<T>> of(Collection<Range<T>> ranges) {
+        return of(ranges, Function.identity());
+    }
+
+    /**
+     * Build the tree indexing the given values by the range each of them maps to.
+     *
+     * @param values  The values, never null.
+     * @param toRange The function giving the range of a value, which must not return null.
+     * @param <T>     The type of bounds.
+     * @param <V>     The type of values.
+     *
+     * @return The tree.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable, V> IntervalTree<T, V> of(Collection<? extends V> values, Function<? super V, Range<T>> toRange) {
+        Entry<T, V>[] entries = new Entry[values.size()];
+        List<V> emptyValues = new ArrayList<>();
+        int i = 0;
+        for (V value : values) {
+            Range<T> range = toRange.apply(value);
+            if (range == null) {
+                throw new IllegalArgumentException("The value: " + value + " has no range!");
+            }
+            range = range.canonical();
+            if (range.isEmpty()) {
+                emptyValues.add(value);
+            } else {
+                entries[i++] = new Entry<>(range, value);
+            }
+        }
+        if (i < entries.length) {
+            entries = Arrays.copyOf(entries, i);
+        }
+        if (entries.length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(entries, LOWER_BOUND_ORDER);
+        } else {
+            Arrays.sort(entries, LOWER_BOUND_ORDER);
+        }
+        return new IntervalTree<>(entries, emptyValues);
+    }
+
+    public int size() {
+        return ranges.length + emptyValues.size();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Find the values whose range has at least one point in common with the given range,
+     * like the PostgreSQL {@code &&} operator does.
+     *
+     * @param range The range to check.
+     *
+     * @return The matching values, in the order of their lower bound.
+     */
+    public List<V> overlapping(Range<T> range) {
+        List<V> result = new ArrayList<>();
+        range = range.canonical();
+        if (range.isEmpty()) {
+            return result;
+        }
+        overlapping(0, ranges.length, range, result);
+        return result;
+    }
+
+    /**
+     * Find the values whose range contains the given point.
+     *
+     * @param point The point to check, never null.
+     *
+     * @return The matching values, in the order of their lower bound.
+     */
+    public List<V> containing(T point) {
+        return overlapping(Range.closed(point, point));
+    }
+
+    /**
+     * Find the values whose range contains the given range, like the PostgreSQL {@code @>} operator does.
+     *
+     * @param range The range to check.
+     *
+     * @return The matching values, in the order of their lower bound, followed by the values having an empty range
+     * if the given range is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public List<V> containing(Range<T> range) {
+        List<V> result = new ArrayList<>();
+        range = range.canonical();
+        if (range.isEmpty()) {
+            for (Object value : values) {
+                result.add((V) value);
+            }
+            result.addAll(emptyValues);
+            return result;
+        }
+        containing(0, ranges.length, range, result);
+        return result;
+    }
+
+    /**
+     * Find the values whose range is contained in the given range, like the PostgreSQL {@code <@} operator does.
+     * <p>
+     * The ranges starting within the given range are found by binary search, and those ending within it are then
+     * picked out of them by the {@link UpperBoundIndex}, in {@code O(log n + k)} time for {@code k} matching values.
+     *
+     * @param range The range to check.
+     *
+     * @return The matching values, in the order of their lower bound, followed by the values having an empty range.
+     */
+    @SuppressWarnings("unchecked")
+    public List<V> containedIn(Range<T> range) {
+        List<V> result = new ArrayList<>();
+        range = range.canonical();
+        if (range.isEmpty()) {
+            result.addAll(emptyValues);
+            return result;
+        }
+        int from = 0;
+        int high = ranges.length;
+        while (from < high) {
+            int mid = (from + high) >>> 1;
+            if (Range.compareLower(ranges[mid], range) < 0) {
+                from = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int to = from;
+        high = ranges.length;
+        while (to < high) {
+            int mid = (to + high) >>> 1;
+            if (Range.lowerPrecedesUpper(ranges[mid], range)) {
+                to = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        upperBoundIndex.forEachRankedBelow(from, to, upperBoundIndex.countNotAfter(range), i -> result.add((V) values[i]));
+        result.addAll(emptyValues);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void overlapping(int low, int high, Range<T> range, List<V> result) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (!Range.lowerPrecedesUpper(range, ranges[maxUpper[mid]])) {
+                return;
+            }
+            overlapping(low, mid, range, result);
+            if (!Range.lowerPrecedesUpper(ranges[mid], range)) {
+                return;
+            }
+            if (Range.lowerPrecedesUpper(range, ranges[mid])) {
+                result.add((V) values[mid]);
+            }
+            low = mid + 1;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void containing(int low, int high, Range<T> range, List<V> result) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Range.compareUpper(ranges[maxUpper[mid]], range) < 0) {
+                return;
+            }
+            containing(low, mid, range, result);
+            if (Range.compareLower(ranges[mid], range) > 0) {
+                return;
+            }
+            if (Range.compareUpper(ranges[mid], range) >= 0) {
+                result.add((V) values[mid]);
+            }
+            low = mid + 1;
+        }
+    }
+
+    /**
+     * Compute the greatest upper bound of the subtree rooted at the middle of the given slice.
+     *
+     * @return The index of the range having that upper bound, or {@code -1} for an empty slice.
+     */
+    private int augment(int low, int high) {
+        if (low >= high) {
+            return -1;
+        }
+        int mid = (low + high) >>> 1;
+        int max = mid;
+        int left = augment(low, mid);
+        if (left >= 0 && Range.compareUpper(ranges[left], ranges[max]) > 0) {
+            max = left;
+        }
+        int right = augment(mid + 1, high);
+        if (right >= 0 && Range.compareUpper(ranges[right], ranges[max]) > 0) {
+            max = right;
+        }
+        maxUpper[mid] = max;
+        return max;
+    }
+
+    private static final class Entry<T extends Comparable, V> {
+
+        private final Range<T> range;
+
+        private final V value;
+
+        private Entry(Range<T> range, V value) {
+            this.range = range;
+            this.value = value;
+        }
+    }
+}
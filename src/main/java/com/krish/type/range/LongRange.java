@@ -0,0 +1,296 @@
+package com.krish.type.range;
+
+import com.krish.type.range.internal.RangeLiteralCodec;
+
+import java.io.Serializable;
+
+/**
+ * Immutable range of {@code long} values, mapped on the PostgreSQL {@code int8range} column type by {@link PostgreSQLLongRangeType}.
+ * <p>
+ * Unlike {@code Range<Long>}, the bounds are not boxed, and the range is kept in the canonical form PostgreSQL uses
+ * for discrete range types, so that {@code (1,5]} and {@code [2,6)} are the same range. Internally, the range holds
+ * its first and last values, which makes {@link #contains(long)} and {@link #overlaps(LongRange)} two comparisons each.
+ * <p>
+ * Like in PostgreSQL, a range whose bounds do not include any value, like {@code [5,5)}, is {@link #empty()}.
+ */
+public final class LongRange implements Serializable {
+
+    private static final byte LOWER_INFINITE = 1;
+    private static final byte UPPER_INFINITE = 1 << 1;
+
+    private static final LongRange EMPTY = new LongRange(0, -1, (byte) 0);
+
+    private static final LongRange INFINITE = new LongRange(
+        Long.MIN_VALUE, Long.MAX_VALUE, (byte) (LOWER_INFINITE | UPPER_INFINITE)
+    );
+
+    private final long first;
+
+    private final long last;
+
+    private final byte flags;
+
+    private LongRange(long first, long last, byte flags) {
+        this.first = first;
+        this.last = last;
+        this.flags = flags;
+    }
+
+    /**
+     * Create the {@code [lower, upper]} range.
+     *
+     * @param lower The lower bound.
+     * @param upper The upper bound.
+     *
+     * @return The range.
+     */
+    public static LongRange closed(long lower, long upper) {
+        return of(lower, true, upper, true, 0);
+    }
+
+    /**
+     * Create the {@code [lower, upper)} range.
+     *
+     * @param lower The lower bound.
+     * @param upper The upper bound.
+     *
+     * @return The range.
+     */
+    public static LongRange closedOpen(long lower, long upper) {
+        return of(lower, true, upper, false, 0);
+    }
+
+    /**
+     * Create the {@code (lower, upper]} range.
+     *
+     * @param lower The lower bound.
+     * @param upper The upper bound.
+     *
+     * @return The range.
+     */
+    public static LongRange openClosed(long lower, long upper) {
+        return of(lower, false, upper, true, 0);
+    }
+
+    /**
+     * Create the {@code (lower, upper)} range.
+     *
+     * @param lower The lower bound.
+     * @param upper The upper bound.
+     *
+     * @return The range.
+     */
+    public static LongRange open(long lower, long upper) {
+        return of(lower, false, upper, false, 0);
+    }
+
+    /**
+     * Create the {@code [lower, +∞)} range.
+     *
+     * @param lower The lower bound.
+     *
+     * @return The range.
+     */
+    public static LongRange closedInfinite(long lower) {
+        return of(lower, true, 0, false, UPPER_INFINITE);
+    }
+
+    /**
+     * Create the {@code (-∞, upper)} range.
+     *
+     * @param upper The upper bound.
+     *
+     * @return The range.
+     */
+    public static LongRange infiniteOpen(long upper) {
+        return of(0, false, upper, false, LOWER_INFINITE);
+    }
+
+    public static LongRange infinite() {
+        return INFINITE;
+    }
+
+    public static LongRange empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Create the range from its PostgreSQL text representation, like {@literal "[1,5)"} or {@literal "empty"}.
+     *
+     * @param range The range string.
+     *
+     * @return The range.
+     */
+    public static LongRange ofString(String range) {
+        return RangeLiteralCodec.parse(range, RangeLiteralCodec.LONG_VALUE, LongRange::fromLiteral);
+    }
+
+    private static LongRange fromLiteral(long lower, long upper, int mask) {
+        if (mask == RangeLiteralCodec.EMPTY) {
+            return EMPTY;
+        }
+        int flags = 0;
+        if ((mask & RangeLiteralCodec.LOWER_INFINITE) == RangeLiteralCodec.LOWER_INFINITE) {
+            flags |= LOWER_INFINITE;
+        }
+        if ((mask & RangeLiteralCodec.UPPER_INFINITE) == RangeLiteralCodec.UPPER_INFINITE) {
+            flags |= UPPER_INFINITE;
+        }
+        return of(
+            lower, (mask & RangeLiteralCodec.LOWER_INCLUSIVE) != 0,
+            upper, (mask & RangeLiteralCodec.UPPER_INCLUSIVE) != 0,
+            flags
+        );
+    }
+
+    /**
+     * Bring the given bounds to the canonical {@code [first, last]} form.
+     */
+    private static LongRange of(long lower, boolean lowerInclusive, long upper, boolean upperInclusive, int flags) {
+        boolean lowerInfinite = (flags & LOWER_INFINITE) != 0;
+        boolean upperInfinite = (flags & UPPER_INFINITE) != 0;
+        if (lowerInfinite && upperInfinite) {
+            return INFINITE;
+        }
+        if (!lowerInfinite && !upperInfinite && lower > upper) {
+            throw new IllegalArgumentException("The lower bound is greater then upper!");
+        }
+        long first = Long.MIN_VALUE;
+        if (!lowerInfinite) {
+            if (!lowerInclusive && lower == Long.MAX_VALUE) {
+                return EMPTY;
+            }
+            first = lowerInclusive ? lower : lower + 1;
+        }
+        long last = Long.MAX_VALUE;
+        if (!upperInfinite) {
+            if (!upperInclusive && upper == Long.MIN_VALUE) {
+                return EMPTY;
+            }
+            last = upperInclusive ? upper : upper - 1;
+        }
+        if (first > last) {
+            return EMPTY;
+        }
+        if (!upperInfinite && last == Long.MAX_VALUE) {
+            throw new IllegalArgumentException("The upper bound of a bounded range must be lower than " + Long.MAX_VALUE);
+        }
+        return new LongRange(first, last, (byte) flags);
+    }
+
+    public boolean isEmpty() {
+        return first > last;
+    }
+
+    public boolean hasLowerBound() {
+        return (flags & LOWER_INFINITE) == 0 && !isEmpty();
+    }
+
+    public boolean hasUpperBound() {
+        return (flags & UPPER_INFINITE) == 0 && !isEmpty();
+    }
+
+    /**
+     * Get the inclusive lower bound, like the PostgreSQL {@code lower} function does.
+     *
+     * @return The lower bound.
+     *
+     * @throws IllegalStateException when the range has no lower bound.
+     */
+    public long lower() {
+        if (!hasLowerBound()) {
+            throw new IllegalStateException("The range has no lower bound!");
+        }
+        return first;
+    }
+
+    /**
+     * Get the exclusive upper bound, like the PostgreSQL {@code upper} function does.
+     *
+     * @return The upper bound.
+     *
+     * @throws IllegalStateException when the range has no upper bound.
+     */
+    public long upper() {
+        if (!hasUpperBound()) {
+            throw new IllegalStateException("The range has no upper bound!");
+        }
+        return last + 1;
+    }
+
+    public boolean contains(long point) {
+        return first <= point & point <= last;
+    }
+
+    /**
+     * Tell whether this range contains the given range. Like in PostgreSQL, every range contains the empty range.
+     *
+     * @param range The range to check.
+     *
+     * @return Whether {@code range} is in this range or not.
+     */
+    public boolean contains(LongRange range) {
+        return range.first > range.last | (first <= range.first & range.last <= last);
+    }
+
+    /**
+     * Tell whether the two ranges have values in common.
+     *
+     * @param range The range to check.
+     *
+     * @return Whether the ranges overlap or not.
+     */
+    public boolean overlaps(LongRange range) {
+        return first <= range.last & range.first <= last & first <= last & range.first <= range.last;
+    }
+
+    /**
+     * Convert this range to a {@link Range}, in the {@code [lower, upper)} form.
+     *
+     * @return The range.
+     */
+    public Range<Long> toRange() {
+        if (isEmpty()) {
+            return Range.empty(Long.class);
+        }
+        if (!hasLowerBound()) {
+            return hasUpperBound() ? Range.infiniteOpen(upper()) : Range.infinite(Long.class);
+        }
+        return hasUpperBound() ? Range.closedOpen(first, upper()) : Range.closedInfinite(first);
+    }
+
+    /**
+     * Get the PostgreSQL text representation of the range, like {@literal "[1,5)"}.
+     *
+     * @return The range string.
+     */
+    public String asString() {
+        if (isEmpty()) {
+            return "empty";
+        }
+        return RangeLiteralCodec.toString(
+            hasLowerBound(),
+            hasLowerBound() ? first : null,
+            hasUpperBound() ? last + 1 : null,
+            false
+        );
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LongRange)) return false;
+        LongRange that = (LongRange) o;
+        return first == that.first && last == that.last && flags == that.flags;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Long.hashCode(first) + Long.hashCode(last)) + flags;
+    }
+
+    @Override
+    public String toString() {
+        return asString();
+    }
+}
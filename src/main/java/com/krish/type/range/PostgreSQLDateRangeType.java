@@ -0,0 +1,24 @@
+package com.krish.type.range;
+
+/**
+ * Maps a {@link DateRange} object type to a PostgreSQL <a href="https://www.postgresql.org/docs/current/rangetypes.html">daterange</a>
+ * column type.
+ */
+public class PostgreSQLDateRangeType extends AbstractPostgreSQLPrimitiveRangeType<DateRange> {
+
+    public static final PostgreSQLDateRangeType INSTANCE = new PostgreSQLDateRangeType();
+
+    public PostgreSQLDateRangeType() {
+        super(DateRange.class, "daterange");
+    }
+
+    @Override
+    protected DateRange fromString(String value) {
+        return DateRange.ofString(value);
+    }
+
+    @Override
+    protected String toString(DateRange range) {
+        return range.asString();
+    }
+}
@@ -0,0 +1,24 @@
+package com.krish.type.range;
+
+/**
+ * Maps a {@link IntRange} object type to a PostgreSQL <a href="https://www.postgresql.org/docs/current/rangetypes.html">int4range</a>
+ * column type.
+ */
+public class PostgreSQLIntRangeType extends AbstractPostgreSQLPrimitiveRangeType<IntRange> {
+
+    public static final PostgreSQLIntRangeType INSTANCE = new PostgreSQLIntRangeType();
+
+    public PostgreSQLIntRangeType() {
+        super(IntRange.class, "int4range");
+    }
+
+    @Override
+    protected IntRange fromString(String value) {
+        return IntRange.ofString(value);
+    }
+
+    @Override
+    protected String toString(IntRange range) {
+        return range.asString();
+    }
+}
@@ -0,0 +1,24 @@
+package com.krish.type.range;
+
+/**
+ * Maps a {@link LongRange} object type to a PostgreSQL <a href="https://www.postgresql.org/docs/current/rangetypes.html">int8range</a>
+ * column type.
+ */
+public class PostgreSQLLongRangeType extends AbstractPostgreSQLPrimitiveRangeType<LongRange> {
+
+    public static final PostgreSQLLongRangeType INSTANCE = new PostgreSQLLongRangeType();
+
+    public PostgreSQLLongRangeType() {
+        super(LongRange.class, "int8range");
+    }
+
+    @Override
+    protected LongRange fromString(String value) {
+        return LongRange.ofString(value);
+    }
+
+    @Override
+    protected String toString(LongRange range) {
+        return range.asString();
+    }
+}
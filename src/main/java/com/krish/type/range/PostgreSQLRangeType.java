@@ -4,15 +4,12 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.postgresql.util.PGobject;
 
 import com.krish.type.ImmutableType;
+import com.krish.type.range.internal.RangeLiteralCodec;
 
-import java.math.BigDecimal;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.ZonedDateTime;
 
 /**
  * Maps a {@link Range} object type to a PostgreSQL <a href="https://www.postgresql.org/docs/current/rangetypes.html">range</a>
@@ -84,30 +81,10 @@ public class PostgreSQLRangeType extends ImmutableType<Range> {
             st.setNull(index, Types.OTHER);
         } else {
             PGobject object = new PGobject();
-            object.setType(determineRangeType(range));
+            object.setType(RangeLiteralCodec.rangeType(range.getClazz()));
             object.setValue(range.asString());
 
             st.setObject(index, object);
         }
     }
-
-    private static String determineRangeType(Range<?> range) {
-        Class<?> clazz = range.getClazz();
-
-        if (clazz.equals(Integer.class)) {
-            return "int4range";
-        } else if (clazz.equals(Long.class)) {
-            return "int8range";
-        } else if (clazz.equals(BigDecimal.class)) {
-            return "numrange";
-        } else if (clazz.equals(LocalDateTime.class)) {
-            return "tsrange";
-        } else if (clazz.equals(ZonedDateTime.class)) {
-            return "tstzrange";
-        } else if (clazz.equals(LocalDate.class)) {
-            return "daterange";
-        }
-
-        throw new IllegalStateException("The class [" + clazz.getName() + "] is not supported!");
-    }
 }
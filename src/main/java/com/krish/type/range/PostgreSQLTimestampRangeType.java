@@ -0,0 +1,24 @@
+package com.krish.type.range;
+
+/**
+ * Maps a {@link TimestampRange} object type to a PostgreSQL <a href="https://www.postgresql.org/docs/current/rangetypes.html">tsrange</a>
+ * column type.
+ */
+public class PostgreSQLTimestampRangeType extends AbstractPostgreSQLPrimitiveRangeType<TimestampRange> {
+
+    public static final PostgreSQLTimestampRangeType INSTANCE = new PostgreSQLTimestampRangeType();
+
+    public PostgreSQLTimestampRangeType() {
+        super(TimestampRange.class, "tsrange");
+    }
+
+    @Override
+    protected TimestampRange fromString(String value) {
+        return TimestampRange.ofString(value);
+    }
+
+    @Override
+    protected String toString(TimestampRange range) {
+        return range.asString();
+    }
+}
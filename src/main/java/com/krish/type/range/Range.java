@@ -1,12 +1,13 @@
 package com.krish.type.range;
 
+import com.krish.type.range.internal.RangeLiteralCodec;
+
 import java.io.Serializable;
 import java.math.BigDecimal;
-import java.time.*;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
-import java.time.temporal.ChronoField;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -28,35 +29,32 @@ import java.util.function.Function;
  * @author Vlad Mihalcea
  */
 public final class Range<T extends Comparable> implements Serializable {
-    private static final DateTimeFormatter LOCAL_DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss[.SSSSSS]");
-    private static final DateTimeFormatter ZONE_DATE_TIME = new DateTimeFormatterBuilder()
-														            .appendPattern("yyyy-MM-dd HH:mm:ss")
-														            .optionalStart()
-														            .appendPattern(".")
-														            .appendFraction(ChronoField.NANO_OF_SECOND, 1, 6, false)
-														            .optionalEnd()
-														            .appendPattern("X")
-														            .toFormatter();
-
-    private static final int LOWER_INCLUSIVE = 1 << 1;
-    private static final int LOWER_EXCLUSIVE = 1 << 2;
-    private static final int UPPER_INCLUSIVE = 1 << 3;
-    private static final int UPPER_EXCLUSIVE = 1 << 4;
-    private static final int LOWER_INFINITE = (1 << 5) | LOWER_EXCLUSIVE;
-    private static final int UPPER_INFINITE = (1 << 6) | UPPER_EXCLUSIVE;
+    private static final int LOWER_INCLUSIVE = RangeLiteralCodec.LOWER_INCLUSIVE;
+    private static final int LOWER_EXCLUSIVE = RangeLiteralCodec.LOWER_EXCLUSIVE;
+    private static final int UPPER_INCLUSIVE = RangeLiteralCodec.UPPER_INCLUSIVE;
+    private static final int UPPER_EXCLUSIVE = RangeLiteralCodec.UPPER_EXCLUSIVE;
+    private static final int LOWER_INFINITE = RangeLiteralCodec.LOWER_INFINITE;
+    private static final int UPPER_INFINITE = RangeLiteralCodec.UPPER_INFINITE;
+    private static final int EMPTY = RangeLiteralCodec.EMPTY;
 
     private final T lower;
     private final T upper;
     private final int mask;
     private final Class<T> clazz;
 
+    /**
+     * The {@link #canonical()} form, computed on first use, since {@link #equals(Object)}, {@link #hashCode()} and
+     * the range operations all compare canonical forms.
+     */
+    private transient Range<T> canonical;
+
     private Range(T lower, T upper, int mask, Class<T> clazz) {
         this.lower = lower;
         this.upper = upper;
         this.mask = mask;
         this.clazz = clazz;
 
-        if (isBounded() && lower.compareTo(upper) > 0) {
+        if (mask != EMPTY && isBounded(mask) && lower.compareTo(upper) > 0) {
             throw new IllegalArgumentException("The lower bound is greater then upper!");
         }
     }
@@ -239,40 +237,37 @@ public final class Range<T extends Comparable> implements Serializable {
         return new Range<>(null, null, LOWER_INFINITE | UPPER_INFINITE, cls);
     }
 
-    @SuppressWarnings("unchecked")
-    public static <T extends Comparable> Range<T> ofString(String str, Function<String, T> converter, Class<T> cls) {
-        int mask = str.charAt(0) == '[' ? LOWER_INCLUSIVE : LOWER_EXCLUSIVE;
-        mask |= str.charAt(str.length() - 1) == ']' ? UPPER_INCLUSIVE : UPPER_EXCLUSIVE;
-
-        int delim = str.indexOf(',');
-
-        if (delim == -1) {
-            throw new IllegalArgumentException("Cannot find comma character");
-        }
-
-        String lowerStr = str.substring(1, delim);
-        String upperStr = str.substring(delim + 1, str.length() - 1);
-
-        if (lowerStr.length() == 0) {
-            mask |= LOWER_INFINITE;
-        }
-
-        if (upperStr.length() == 0) {
-            mask |= UPPER_INFINITE;
-        }
-
-        T lower = null;
-        T upper = null;
-
-        if ((mask & LOWER_INFINITE) != LOWER_INFINITE) {
-            lower = converter.apply(lowerStr);
-        }
+    /**
+     * Creates the empty range, which contains no value, like the PostgreSQL {@literal 'empty'} range.
+     * <p>
+     * A range holding no value, like {@code [5,5)}, keeps its bounds, but it is also {@link #isEmpty()} and equal to
+     * the empty range.
+     *
+     * @param cls The range class, never null.
+     * @param <T> The type of bounds.
+     *
+     * @return The empty range.
+     */
+    public static <T extends Comparable<?>> Range<T> empty(Class<T> cls) {
+        return new Range<>(null, null, EMPTY, cls);
+    }
 
-        if ((mask & UPPER_INFINITE) != UPPER_INFINITE) {
-            upper = converter.apply(upperStr);
-        }
+    /**
+     * Creates the range from provided string, converting each bound, without its quotes, with the given converter.
+     *
+     * @param str       The range string, for example {@literal "[5,7]"}.
+     * @param converter The bound converter.
+     * @param cls       The range class.
+     * @param <T>       The type of bounds.
+     *
+     * @return The range.
+     */
+    public static <T extends Comparable> Range<T> ofString(String str, Function<String, T> converter, Class<T> cls) {
+        return ofString(str, RangeLiteralCodec.boundParser(converter), cls);
+    }
 
-        return new Range<>(lower, upper, mask, cls);
+    private static <T extends Comparable> Range<T> ofString(String str, RangeLiteralCodec.BoundParser<T> parser, Class<T> cls) {
+        return RangeLiteralCodec.parse(str, parser, cls, Range::new);
     }
 
     /**
@@ -291,7 +286,7 @@ public final class Range<T extends Comparable> implements Serializable {
      * @throws NumberFormatException when one of the bounds are invalid.
      */
     public static Range<BigDecimal> bigDecimalRange(String range) {
-        return ofString(range, BigDecimal::new, BigDecimal.class);
+        return ofString(range, RangeLiteralCodec.BIG_DECIMAL, BigDecimal.class);
     }
 
     /**
@@ -311,7 +306,7 @@ public final class Range<T extends Comparable> implements Serializable {
      * @throws NumberFormatException when one of the bounds are invalid.
      */
     public static Range<Integer> integerRange(String range) {
-        return ofString(range, Integer::parseInt, Integer.class);
+        return ofString(range, RangeLiteralCodec.INTEGER, Integer.class);
     }
 
     /**
@@ -331,7 +326,7 @@ public final class Range<T extends Comparable> implements Serializable {
      * @throws NumberFormatException when one of the bounds are invalid.
      */
     public static Range<Long> longRange(String range) {
-        return ofString(range, Long::parseLong, Long.class);
+        return ofString(range, RangeLiteralCodec.LONG, Long.class);
     }
 
     /**
@@ -355,7 +350,7 @@ public final class Range<T extends Comparable> implements Serializable {
      * @throws DateTimeParseException when one of the bounds are invalid.
      */
     public static Range<LocalDateTime> localDateTimeRange(String range) {
-        return ofString(range, parseLocalDateTime().compose(unquote()), LocalDateTime.class);
+        return ofString(range, RangeLiteralCodec.LOCAL_DATE_TIME, LocalDateTime.class);
     }
 
     /**
@@ -379,8 +374,7 @@ public final class Range<T extends Comparable> implements Serializable {
      * @throws DateTimeParseException when one of the bounds are invalid.
      */
     public static Range<LocalDate> localDateRange(String range) {
-        Function<String, LocalDate> parseLocalDate = LocalDate::parse;
-        return ofString(range, parseLocalDate.compose(unquote()), LocalDate.class);
+        return ofString(range, RangeLiteralCodec.LOCAL_DATE, LocalDate.class);
     }
 
     /**
@@ -405,78 +399,41 @@ public final class Range<T extends Comparable> implements Serializable {
      * @throws IllegalArgumentException when bounds time zones are different.
      */
     public static Range<ZonedDateTime> zonedDateTimeRange(String rangeStr) {
-        Range<ZonedDateTime> range = ofString(rangeStr, parseZonedDateTime().compose(unquote()), ZonedDateTime.class);
+        Range<ZonedDateTime> range = ofString(rangeStr, RangeLiteralCodec.ZONED_DATE_TIME, ZonedDateTime.class);
         if (range.hasLowerBound() && range.hasUpperBound()) {
-            ZoneId lowerZone = range.lower().getZone();
-            ZoneId upperZone = range.upper().getZone();
-            if (!lowerZone.equals(upperZone)) {
-                Duration lowerDst = ZoneId.systemDefault().getRules().getDaylightSavings(range.lower().toInstant());
-                Duration upperDst = ZoneId.systemDefault().getRules().getDaylightSavings(range.upper().toInstant());
-                long dstSeconds = upperDst.minus(lowerDst).getSeconds();
-                if(dstSeconds < 0 ) {
-                    dstSeconds *= -1;
-                }
-                long zoneDriftSeconds = ((ZoneOffset) lowerZone).getTotalSeconds() - ((ZoneOffset) upperZone).getTotalSeconds();
-                if (zoneDriftSeconds < 0) {
-                    zoneDriftSeconds *= -1;
-                }
-
-                if (dstSeconds != zoneDriftSeconds) {
-                    throw new IllegalArgumentException("The upper and lower bounds must be in same time zone!");
-                }
-            }
+            RangeLiteralCodec.checkSameTimeZone(range.lower(), range.upper());
         }
         return range;
     }
 
-    private static Function<String, LocalDateTime> parseLocalDateTime() {
-        return str -> {
-            try {
-                return LocalDateTime.parse(str, LOCAL_DATE_TIME);
-            } catch (DateTimeParseException e) {
-                return LocalDateTime.parse(str);
-            }
-        };
-    }
-
-    private static Function<String, ZonedDateTime> parseZonedDateTime() {
-        return s -> {
-            try {
-                return ZonedDateTime.parse(s, ZONE_DATE_TIME);
-            } catch (DateTimeParseException e) {
-                return ZonedDateTime.parse(s);
-            }
-        };
-    }
-
-    private static Function<String, String> unquote() {
-        return s -> {
-            if (s.charAt(0) == '\"' && s.charAt(s.length() - 1) == '\"') {
-                return s.substring(1, s.length() - 1);
-            }
-
-            return s;
-        };
-    }
-
-    private boolean isBounded() {
-        return !hasMask(LOWER_INFINITE) && !hasMask(UPPER_INFINITE);
+    private static boolean isBounded(int mask) {
+        return (mask & LOWER_INFINITE) != LOWER_INFINITE && (mask & UPPER_INFINITE) != UPPER_INFINITE;
     }
 
+    /**
+     * Two ranges are equal when they hold the same values, so their {@link #canonical()} forms are compared, like
+     * PostgreSQL does. For example, the {@code Integer} ranges {@code [1,5]} and {@code [1,6)} are equal, and so are
+     * all the empty ranges of a given class.
+     */
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof Range)) return false;
-        Range<?> range = (Range<?>) o;
-        return mask == range.mask &&
-                Objects.equals(lower, range.lower) &&
-                Objects.equals(upper, range.upper) &&
-                Objects.equals(clazz, range.clazz);
+        Range<?> self = canonical();
+        Range<?> range = ((Range<?>) o).canonical();
+        return self.mask == range.mask &&
+                Objects.equals(self.lower, range.lower) &&
+                Objects.equals(self.upper, range.upper) &&
+                Objects.equals(self.clazz, range.clazz);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(lower, upper, mask, clazz);
+        Range<T> self = canonical();
+        int result = 31 + Objects.hashCode(self.lower);
+        result = 31 * result + Objects.hashCode(self.upper);
+        result = 31 * result + self.mask;
+        return 31 * result + Objects.hashCode(self.clazz);
     }
 
     @Override
@@ -492,16 +449,45 @@ public final class Range<T extends Comparable> implements Serializable {
         return (mask & lowerInclusive) == lowerInclusive;
     }
 
+    /**
+     * Determines whether this range holds no value, like the {@link #empty(Class)} range, or a range whose bounds are
+     * equal and not both inclusive, like {@code [5,5)}. A discrete range without any value in between its bounds,
+     * like the {@code Integer} range {@code (1,2)}, is empty too.
+     *
+     * @return Whether this range is empty or not.
+     */
+    @SuppressWarnings("unchecked")
+    public boolean isEmpty() {
+        if (mask == EMPTY) {
+            return true;
+        }
+        boolean discreteLower = hasLowerBound() && !hasMask(LOWER_INCLUSIVE) && isDiscrete(clazz);
+        if (!isBounded(mask)) {
+            return discreteLower && next(lower) == null;
+        }
+        T first = lower;
+        boolean firstInclusive = hasMask(LOWER_INCLUSIVE);
+        if (discreteLower) {
+            first = (T) next(lower);
+            if (first == null) {
+                return true;
+            }
+            firstInclusive = true;
+        }
+        int result = first.compareTo(upper);
+        return result > 0 || (result == 0 && !(firstInclusive && hasMask(UPPER_INCLUSIVE)));
+    }
+
     public boolean hasLowerBound() {
-        return !hasMask(LOWER_INFINITE);
+        return mask != EMPTY && !hasMask(LOWER_INFINITE);
     }
 
     public boolean hasUpperBound() {
-        return !hasMask(UPPER_INFINITE);
+        return mask != EMPTY && !hasMask(UPPER_INFINITE);
     }
 
     /**
-     * Returns the lower bound of this range. If {@code null} is returned then this range is left-unbounded.
+     * Returns the lower bound of this range. If {@code null} is returned then this range is left-unbounded or empty.
      *
      * @return The lower bound.
      */
@@ -510,7 +496,7 @@ public final class Range<T extends Comparable> implements Serializable {
     }
 
     /**
-     * Returns the upper bound of this range. If {@code null} is returned then this range is right-unbounded.
+     * Returns the upper bound of this range. If {@code null} is returned then this range is right-unbounded or empty.
      *
      * @return The upper bound.
      */
@@ -540,6 +526,9 @@ public final class Range<T extends Comparable> implements Serializable {
      */
     @SuppressWarnings("unchecked")
     public boolean contains(T point) {
+        if (mask == EMPTY) {
+            return false;
+        }
         boolean l = hasLowerBound();
         boolean u = hasUpperBound();
 
@@ -575,29 +564,296 @@ public final class Range<T extends Comparable> implements Serializable {
      * @return Whether {@code range} in this range or not.
      */
     public boolean contains(Range<T> range) {
-        return (!range.hasLowerBound() || contains(range.lower)) && (!range.hasUpperBound() || contains(range.upper));
+        Range<T> self = canonical();
+        Range<T> other = range.canonical();
+        if (other.isEmpty()) {
+            return true;
+        }
+        return !self.isEmpty() && compareLower(self, other) <= 0 && compareUpper(self, other) >= 0;
+    }
+
+    /**
+     * Determines whether the two ranges have at least one value in common, like the PostgreSQL {@code &&} operator.
+     * <p>
+     * For example:
+     * <pre>{@code
+     *     assertTrue(integerRange("[1,5)").overlaps(integerRange("[4,8)")))
+     *
+     *     assertFalse(integerRange("[1,5)").overlaps(integerRange("[5,8)")))
+     *     assertFalse(integerRange("(1,2)").overlaps(integerRange("[1,5)")))
+     * }</pre>
+     *
+     * @param range The range to check.
+     *
+     * @return Whether the ranges overlap or not.
+     */
+    public boolean overlaps(Range<T> range) {
+        Range<T> self = canonical();
+        Range<T> other = range.canonical();
+        return !self.isEmpty() && !other.isEmpty() && lowerPrecedesUpper(self, other) && lowerPrecedesUpper(other, self);
+    }
+
+    /**
+     * Determines whether the two ranges do not overlap and have no value in between them, like the PostgreSQL
+     * {@code -|-} operator.
+     * <p>
+     * For example:
+     * <pre>{@code
+     *     assertTrue(integerRange("[1,5)").isAdjacent(integerRange("[5,8)")))
+     *     assertTrue(integerRange("[1,4]").isAdjacent(integerRange("[5,8)")))
+     *
+     *     assertFalse(localDateTimeRange("[2019-01-01 00:00:00,2019-01-02 00:00:00)")
+     *         .isAdjacent(localDateTimeRange("(2019-01-02 00:00:00,2019-01-03 00:00:00)")))
+     * }</pre>
+     *
+     * @param range The range to check.
+     *
+     * @return Whether the ranges are adjacent or not.
+     */
+    public boolean isAdjacent(Range<T> range) {
+        Range<T> self = canonical();
+        Range<T> other = range.canonical();
+        return !self.isEmpty() && !other.isEmpty() && (upperMeetsLower(self, other) || upperMeetsLower(other, self));
+    }
+
+    /**
+     * Computes the values both ranges have in common, like the PostgreSQL {@code *} operator.
+     *
+     * @param range The other range.
+     *
+     * @return The intersection, which is empty when the ranges do not overlap.
+     */
+    public Range<T> intersection(Range<T> range) {
+        Range<T> self = canonical();
+        Range<T> other = range.canonical();
+        if (!self.overlaps(other)) {
+            return empty();
+        }
+        Range<T> lowerRange = compareLower(self, other) >= 0 ? self : other;
+        Range<T> upperRange = compareUpper(self, other) <= 0 ? self : other;
+        return bounds(lowerRange, upperRange);
+    }
+
+    /**
+     * Computes the smallest range containing both ranges, like the PostgreSQL {@code range_merge} function.
+     *
+     * @param range The other range.
+     *
+     * @return The span, which contains the values in between the ranges too.
+     */
+    public Range<T> span(Range<T> range) {
+        Range<T> self = canonical();
+        Range<T> other = range.canonical();
+        if (self.isEmpty()) {
+            return other;
+        }
+        if (other.isEmpty()) {
+            return self;
+        }
+        Range<T> lowerRange = compareLower(self, other) <= 0 ? self : other;
+        Range<T> upperRange = compareUpper(self, other) >= 0 ? self : other;
+        return bounds(lowerRange, upperRange);
+    }
+
+    /**
+     * Computes the values of either range, like the PostgreSQL {@code +} operator.
+     *
+     * @param range The other range.
+     *
+     * @return The union.
+     *
+     * @throws IllegalArgumentException when the ranges neither overlap nor are adjacent, since the union would not be
+     *                                  a single range. Use {@link RangeSet} for such ranges.
+     */
+    public Range<T> union(Range<T> range) {
+        Range<T> self = canonical();
+        Range<T> other = range.canonical();
+        if (!self.isEmpty() && !other.isEmpty() && !self.overlaps(other) && !self.isAdjacent(other)) {
+            throw new IllegalArgumentException("The union of " + self.asString() + " and " + other.asString() + " would not be contiguous!");
+        }
+        return self.span(other);
+    }
+
+    /**
+     * Computes the values of this range which are not in the given range, like the PostgreSQL {@code -} operator.
+     *
+     * @param range The range to remove.
+     *
+     * @return The difference.
+     *
+     * @throws IllegalArgumentException when the given range is strictly inside this range, since the difference would
+     *                                  not be a single range. Use {@link RangeSet} for such ranges.
+     */
+    public Range<T> difference(Range<T> range) {
+        Range<T> self = canonical();
+        Range<T> other = range.canonical();
+        if (!self.overlaps(other)) {
+            return self;
+        }
+        boolean below = compareLower(self, other) < 0;
+        boolean above = compareUpper(self, other) > 0;
+        if (below && above) {
+            throw new IllegalArgumentException("The difference of " + self.asString() + " and " + other.asString() + " would not be contiguous!");
+        }
+        return below ? self.below(other) : above ? self.above(other) : empty();
+    }
+
+    /**
+     * Returns the canonical form of this range, like PostgreSQL does for the discrete {@code int4range},
+     * {@code int8range} and {@code daterange} types, whose bounds are then either inclusive lower and exclusive upper
+     * bounds, or infinite. So, {@code [1,5]} and {@code (0,6)} both become {@code [1,6)}, and {@code (1,2)} becomes
+     * the empty range. An inclusive upper bound which has no next value, like {@link Integer#MAX_VALUE}, stays
+     * inclusive.
+     * <p>
+     * Any {@link #isEmpty()} range becomes the empty range, and other ranges are returned as they are.
+     *
+     * @return The canonical range.
+     */
+    public Range<T> canonical() {
+        Range<T> range = canonical;
+        if (range == null) {
+            range = toCanonical();
+            range.canonical = range;
+            canonical = range;
+        }
+        return range;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Range<T> toCanonical() {
+        if (mask == EMPTY) {
+            return this;
+        }
+        if (isEmpty()) {
+            return empty();
+        }
+        if (!isDiscrete(clazz)) {
+            return this;
+        }
+        boolean lowerCanonical = !hasLowerBound() || hasMask(LOWER_INCLUSIVE);
+        T nextUpper = !hasUpperBound() || !hasMask(UPPER_INCLUSIVE) ? null : (T) next(upper);
+        if (lowerCanonical && nextUpper == null) {
+            return this;
+        }
+        T canonicalLower = lowerCanonical ? lower : (T) next(lower);
+        int canonicalMask = (hasLowerBound() ? LOWER_INCLUSIVE : LOWER_INFINITE) |
+            (nextUpper != null ? UPPER_EXCLUSIVE : upperMask());
+        return new Range<>(canonicalLower, nextUpper != null ? nextUpper : upper, canonicalMask, clazz);
     }
 
     public String asString() {
-        StringBuilder sb = new StringBuilder();
+        if (mask == EMPTY) {
+            return "empty";
+        }
+        return RangeLiteralCodec.toString(hasMask(LOWER_INCLUSIVE), lower, upper, hasMask(UPPER_INCLUSIVE));
+    }
 
-        sb.append(hasMask(LOWER_INCLUSIVE) ? '[' : '(')
-                .append(hasLowerBound() ? boundToString().apply(lower) : "")
-                .append(",")
-                .append(hasUpperBound() ? boundToString().apply(upper) : "")
-                .append(hasMask(UPPER_INCLUSIVE) ? ']' : ')');
+    private Range<T> empty() {
+        return new Range<>(null, null, EMPTY, clazz);
+    }
 
-        return sb.toString();
+    /**
+     * Returns the part of this range below the lower bound of the given range.
+     */
+    Range<T> below(Range<T> range) {
+        int upperMask = (range.mask & LOWER_INCLUSIVE) != 0 ? UPPER_EXCLUSIVE : UPPER_INCLUSIVE;
+        return new Range<>(lower, range.lower, lowerMask() | upperMask, clazz).canonical();
     }
 
-    private Function<T, String> boundToString() {
-        return t -> {
-            if (clazz.equals(ZonedDateTime.class)) {
-                return ZONE_DATE_TIME.format((ZonedDateTime) t);
-            }
+    /**
+     * Returns the part of this range above the upper bound of the given range.
+     */
+    Range<T> above(Range<T> range) {
+        int lowerMask = (range.mask & UPPER_INCLUSIVE) != 0 ? LOWER_EXCLUSIVE : LOWER_INCLUSIVE;
+        return new Range<>(range.upper, upper, lowerMask | upperMask(), clazz).canonical();
+    }
+
+    /**
+     * Returns the range starting like the first range and ending like the second one, reusing any of them when
+     * possible.
+     */
+    static <T extends Comparable> Range<T> bounds(Range<T> lowerRange, Range<T> upperRange) {
+        if (lowerRange == upperRange) {
+            return lowerRange;
+        }
+        return new Range<>(lowerRange.lower, upperRange.upper, lowerRange.lowerMask() | upperRange.upperMask(), lowerRange.clazz);
+    }
+
+    /**
+     * Tells whether the upper bound of the first range is right before the lower bound of the second range, with no
+     * value in between.
+     */
+    @SuppressWarnings("unchecked")
+    static boolean upperMeetsLower(Range<?> lowerRange, Range<?> upperRange) {
+        return lowerRange.hasUpperBound() && upperRange.hasLowerBound() &&
+            lowerRange.upper.compareTo(upperRange.lower) == 0 &&
+            lowerRange.hasMask(UPPER_INCLUSIVE) != upperRange.hasMask(LOWER_INCLUSIVE);
+    }
+
+    private int lowerMask() {
+        return mask & (LOWER_INCLUSIVE | LOWER_INFINITE);
+    }
+
+    private int upperMask() {
+        return mask & (UPPER_INCLUSIVE | UPPER_INFINITE);
+    }
+
+    private static boolean isDiscrete(Class<?> clazz) {
+        return clazz == Integer.class || clazz == Long.class || clazz == LocalDate.class;
+    }
 
-            return t.toString();
-        };
+    /**
+     * Returns the value following the given discrete value, or {@code null} if it is the greatest one.
+     */
+    private static Object next(Object value) {
+        if (value instanceof Integer) {
+            int number = (Integer) value;
+            return number != Integer.MAX_VALUE ? (Object) (number + 1) : null;
+        } else if (value instanceof Long) {
+            long number = (Long) value;
+            return number != Long.MAX_VALUE ? (Object) (number + 1) : null;
+        }
+        LocalDate date = (LocalDate) value;
+        return !date.equals(LocalDate.MAX) ? date.plusDays(1) : null;
+    }
+
+    /**
+     * Compares the lower bounds of the two ranges. An infinite bound comes first, and an inclusive bound comes before
+     * an exclusive bound of the same value.
+     */
+    @SuppressWarnings("unchecked")
+    static int compareLower(Range<?> one, Range<?> another) {
+        if (!one.hasLowerBound() || !another.hasLowerBound()) {
+            return Boolean.compare(one.hasLowerBound(), another.hasLowerBound());
+        }
+        int result = one.lower.compareTo(another.lower);
+        return result != 0 ? result : Boolean.compare(!one.hasMask(LOWER_INCLUSIVE), !another.hasMask(LOWER_INCLUSIVE));
+    }
+
+    /**
+     * Compares the upper bounds of the two ranges. An infinite bound comes last, and an inclusive bound comes after
+     * an exclusive bound of the same value.
+     */
+    @SuppressWarnings("unchecked")
+    static int compareUpper(Range<?> one, Range<?> another) {
+        if (!one.hasUpperBound() || !another.hasUpperBound()) {
+            return Boolean.compare(!one.hasUpperBound(), !another.hasUpperBound());
+        }
+        int result = one.upper.compareTo(another.upper);
+        return result != 0 ? result : Boolean.compare(one.hasMask(UPPER_INCLUSIVE), another.hasMask(UPPER_INCLUSIVE));
+    }
+
+    /**
+     * Tells whether some value is both above the lower bound of the first range and below the upper bound of the
+     * second range, which is how two ranges overlap when checked both ways.
+     */
+    @SuppressWarnings("unchecked")
+    static boolean lowerPrecedesUpper(Range<?> lowerRange, Range<?> upperRange) {
+        if (!lowerRange.hasLowerBound() || !upperRange.hasUpperBound()) {
+            return true;
+        }
+        int result = lowerRange.lower.compareTo(upperRange.upper);
+        return result < 0 || (result == 0 && lowerRange.hasMask(LOWER_INCLUSIVE) && upperRange.hasMask(UPPER_INCLUSIVE));
     }
 
     Class<T> getClazz() {
@@ -0,0 +1,316 @@
+package com.krish.type.range;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable set of values made of disjoint ranges, like a PostgreSQL multirange.
+ * <p>
+ * The ranges are normalized in {@code O(n log n)} time: they are brought to their {@link Range#canonical()} form,
+ * empty ranges are dropped, and overlapping or adjacent ranges are merged, so that the remaining ranges are sorted,
+ * disjoint and not adjacent. Hence, two sets holding the same values are equal, and a value or range is looked up
+ * by binary search.
+ * <p>
+ * For example:
+ * <pre>{@code
+ *     RangeSet.of(integerRange("[1,5)"), integerRange("[5,7]"), integerRange("[10,12)")) = {[1,8),[10,12)}
+ * }</pre>
+ *
+ * @param <T> The type of bounds.
+ */
+public final class RangeSet<T extends Comparable> implements Serializable {
+
+    private static final RangeSet<?> EMPTY = new RangeSet<>(new Range[0]);
+
+    private static final Comparator<Range<?>> LOWER_BOUND_ORDER = Range::compareLower;
+
+    private final Range<T>[] ranges;
+
+    private RangeSet(Range<T>[] ranges) {
+        this.ranges = ranges;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable> RangeSet<T> empty() {
+        return (RangeSet<T>) EMPTY;
+    }
+
+    @SafeVarargs
+    public static <T extends Comparable> RangeSet<T> of(Range<T>... ranges) {
+        return of(Arrays.asList(ranges));
+    }
+
+    /**
+     * Create the set holding the values of the given ranges.
+     *
+     * @param ranges The ranges, never null.
+     * @param <T>    The type of bounds.
+     *
+     * @return The set.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable> RangeSet<T> of(Collection<Range<T>> ranges) {
+        Range<T>[] sorted = new Range[ranges.size()];
+        int size = 0;
+        for (Range<T> range : ranges) {
+            Range<T> canonical = range.canonical();
+            if (!canonical.isEmpty()) {
+                sorted[size++] = canonical;
+            }
+        }
+        if (size >= IntervalTree.PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(sorted, 0, size, LOWER_BOUND_ORDER);
+        } else {
+            Arrays.sort(sorted, 0, size, LOWER_BOUND_ORDER);
+        }
+        return coalesce(sorted, size);
+    }
+
+    public boolean isEmpty() {
+        return ranges.length == 0;
+    }
+
+    /**
+     * Get the disjoint ranges of this set, sorted by their bounds.
+     *
+     * @return The ranges.
+     */
+    public List<Range<T>> ranges() {
+        return Collections.unmodifiableList(Arrays.asList(ranges));
+    }
+
+    /**
+     * Get the smallest range containing all the values of this set.
+     *
+     * @return The span, or {@code null} for the empty set.
+     */
+    public Range<T> span() {
+        return isEmpty() ? null : Range.bounds(ranges[0], ranges[ranges.length - 1]);
+    }
+
+    /**
+     * Determines whether this set contains the given point, in {@code O(log n)} time.
+     *
+     * @param point The point to check.
+     *
+     * @return Whether {@code point} is in this set or not.
+     */
+    public boolean contains(T point) {
+        int index = indexOf(Range.closed(point, point));
+        return index >= 0 && ranges[index].contains(point);
+    }
+
+    /**
+     * Determines whether this set contains all the values of the given range, in {@code O(log n)} time.
+     *
+     * @param range The range to check.
+     *
+     * @return Whether {@code range} is in this set or not.
+     */
+    public boolean contains(Range<T> range) {
+        Range<T> canonical = range.canonical();
+        if (canonical.isEmpty()) {
+            return true;
+        }
+        int index = indexOf(canonical);
+        return index >= 0 && ranges[index].contains(canonical);
+    }
+
+    /**
+     * Determines whether this set has at least one value in common with the given range, in {@code O(log n)} time.
+     *
+     * @param range The range to check.
+     *
+     * @return Whether the set and the range overlap or not.
+     */
+    public boolean overlaps(Range<T> range) {
+        Range<T> canonical = range.canonical();
+        if (canonical.isEmpty()) {
+            return false;
+        }
+        int low = 0;
+        int high = ranges.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Range.lowerPrecedesUpper(ranges[mid], canonical)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low > 0 && Range.lowerPrecedesUpper(canonical, ranges[low - 1]);
+    }
+
+    /**
+     * Compute the set of the values found in this set or in the other set, in linear time.
+     *
+     * @param other The other set.
+     *
+     * @return The union.
+     */
+    @SuppressWarnings("unchecked")
+    public RangeSet<T> union(RangeSet<T> other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        Range<T>[] merged = new Range[ranges.length + other.ranges.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < ranges.length || j < other.ranges.length) {
+            if (j == other.ranges.length || (i < ranges.length && Range.compareLower(ranges[i], other.ranges[j]) <= 0)) {
+                merged[size++] = ranges[i++];
+            } else {
+                merged[size++] = other.ranges[j++];
+            }
+        }
+        return coalesce(merged, size);
+    }
+
+    /**
+     * Compute the set of the values found in both this set and the other set, in linear time.
+     *
+     * @param other The other set.
+     *
+     * @return The intersection.
+     */
+    public RangeSet<T> intersection(RangeSet<T> other) {
+        List<Range<T>> result = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < ranges.length && j < other.ranges.length) {
+            Range<T> range = ranges[i];
+            Range<T> otherRange = other.ranges[j];
+            if (range.overlaps(otherRange)) {
+                result.add(range.intersection(otherRange));
+            }
+            if (Range.compareUpper(range, otherRange) <= 0) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return of(result);
+    }
+
+    /**
+     * Compute the set of the values found in this set but not in the other set, in linear time.
+     * <p>
+     * Unlike {@link Range#difference(Range)}, removing a range from the middle of another range is supported,
+     * and leaves the two remaining parts in the set.
+     *
+     * @param other The set of values to remove.
+     *
+     * @return The difference.
+     */
+    public RangeSet<T> difference(RangeSet<T> other) {
+        if (isEmpty() || other.isEmpty()) {
+            return this;
+        }
+        List<Range<T>> result = new ArrayList<>();
+        int j = 0;
+        for (Range<T> range : ranges) {
+            Range<T> remaining = range;
+            while (remaining != null && j < other.ranges.length) {
+                Range<T> removed = other.ranges[j];
+                if (!Range.lowerPrecedesUpper(removed, remaining)) {
+                    break;
+                }
+                if (!Range.lowerPrecedesUpper(remaining, removed)) {
+                    j++;
+                    continue;
+                }
+                if (Range.compareLower(remaining, removed) < 0) {
+                    result.add(remaining.below(removed));
+                }
+                if (Range.compareUpper(remaining, removed) > 0) {
+                    remaining = remaining.above(removed);
+                    j++;
+                } else {
+                    remaining = null;
+                }
+            }
+            if (remaining != null) {
+                result.add(remaining);
+            }
+        }
+        return of(result);
+    }
+
+    /**
+     * Find the only range which may contain the given range, the last one whose lower bound is not after it.
+     *
+     * @return The range index, or {@code -1} if there is none.
+     */
+    private int indexOf(Range<T> range) {
+        int low = 0;
+        int high = ranges.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Range.compareLower(ranges[mid], range) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+
+    /**
+     * Merge the overlapping or adjacent ranges of the given array sorted by lower bound, in place.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable> RangeSet<T> coalesce(Range<T>[] sorted, int size) {
+        if (size == 0) {
+            return empty();
+        }
+        int count = 0;
+        Range<T> current = sorted[0];
+        for (int i = 1; i < size; i++) {
+            Range<T> range = sorted[i];
+            if (Range.lowerPrecedesUpper(range, current) || Range.upperMeetsLower(current, range)) {
+                if (Range.compareUpper(range, current) > 0) {
+                    current = Range.bounds(current, range);
+                }
+            } else {
+                sorted[count++] = current;
+                current = range;
+            }
+        }
+        sorted[count++] = current;
+        return new RangeSet<>(count == sorted.length ? sorted : Arrays.copyOf(sorted, count));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RangeSet)) return false;
+        RangeSet<?> that = (RangeSet<?>) o;
+        return Arrays.equals(ranges, that.ranges);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(ranges);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder().append('{');
+        for (int i = 0; i < ranges.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(ranges[i].asString());
+        }
+        return builder.append('}').toString();
+    }
+}
@@ -0,0 +1,350 @@
+package com.krish.type.range;
+
+import com.krish.type.range.internal.RangeLiteralCodec;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Immutable range of timestamps, mapped on the PostgreSQL {@code tsrange} column type by {@link PostgreSQLTimestampRangeType}.
+ * <p>
+ * Unlike {@code Range<LocalDateTime>}, the bounds are kept as {@code long} numbers of microseconds since
+ * {@code 1970-01-01T00:00:00}, which is the resolution of the PostgreSQL {@code timestamp} type. Sub-microsecond
+ * digits of the {@link LocalDateTime} bounds are truncated.
+ * <p>
+ * Since {@code tsrange} is not a discrete range type, the bounds are kept as given, so that the range is written back
+ * unchanged. Internally, the range also holds its first and last microseconds, which makes {@link #contains(long)}
+ * and {@link #overlaps(TimestampRange)} two comparisons each.
+ * <p>
+ * Like in PostgreSQL, a range whose bounds are equal and not both inclusive, like
+ * {@code [2019-01-01 00:00:00,2019-01-01 00:00:00)}, is {@link #empty()}.
+ */
+public final class TimestampRange implements Serializable {
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+
+    private static final byte LOWER_INFINITE = 1;
+    private static final byte UPPER_INFINITE = 1 << 1;
+    private static final byte LOWER_EXCLUSIVE = 1 << 2;
+    private static final byte UPPER_EXCLUSIVE = 1 << 3;
+    private static final byte EMPTY_RANGE = 1 << 4;
+
+    private static final TimestampRange EMPTY = new TimestampRange(0, -1, EMPTY_RANGE);
+
+    private static final TimestampRange INFINITE = new TimestampRange(
+        Long.MIN_VALUE, Long.MAX_VALUE, (byte) (LOWER_INFINITE | UPPER_INFINITE | LOWER_EXCLUSIVE | UPPER_EXCLUSIVE)
+    );
+
+    private final long first;
+
+    private final long last;
+
+    private final byte flags;
+
+    private TimestampRange(long first, long last, byte flags) {
+        this.first = first;
+        this.last = last;
+        this.flags = flags;
+    }
+
+    /**
+     * Create the {@code [lower, upper]} range.
+     *
+     * @param lower The lower bound.
+     * @param upper The upper bound.
+     *
+     * @return The range.
+     */
+    public static TimestampRange closed(LocalDateTime lower, LocalDateTime upper) {
+        return of(toEpochMicros(lower), toEpochMicros(upper), 0);
+    }
+
+    /**
+     * Create the {@code [lower, upper)} range.
+     *
+     * @param lower The lower bound.
+     * @param upper The upper bound.
+     *
+     * @return The range.
+     */
+    public static TimestampRange closedOpen(LocalDateTime lower, LocalDateTime upper) {
+        return of(toEpochMicros(lower), toEpochMicros(upper), UPPER_EXCLUSIVE);
+    }
+
+    /**
+     * Create the {@code (lower, upper]} range.
+     *
+     * @param lower The lower bound.
+     * @param upper The upper bound.
+     *
+     * @return The range.
+     */
+    public static TimestampRange openClosed(LocalDateTime lower, LocalDateTime upper) {
+        return of(toEpochMicros(lower), toEpochMicros(upper), LOWER_EXCLUSIVE);
+    }
+
+    /**
+     * Create the {@code (lower, upper)} range.
+     *
+     * @param lower The lower bound.
+     * @param upper The upper bound.
+     *
+     * @return The range.
+     */
+    public static TimestampRange open(LocalDateTime lower, LocalDateTime upper) {
+        return of(toEpochMicros(lower), toEpochMicros(upper), LOWER_EXCLUSIVE | UPPER_EXCLUSIVE);
+    }
+
+    /**
+     * Create the {@code [lower, +∞)} range.
+     *
+     * @param lower The lower bound.
+     *
+     * @return The range.
+     */
+    public static TimestampRange closedInfinite(LocalDateTime lower) {
+        return of(toEpochMicros(lower), 0, UPPER_INFINITE | UPPER_EXCLUSIVE);
+    }
+
+    /**
+     * Create the {@code (-∞, upper)} range.
+     *
+     * @param upper The upper bound.
+     *
+     * @return The range.
+     */
+    public static TimestampRange infiniteOpen(LocalDateTime upper) {
+        return of(0, toEpochMicros(upper), LOWER_INFINITE | LOWER_EXCLUSIVE | UPPER_EXCLUSIVE);
+    }
+
+    /**
+     * Create the {@code [lower, upper)} range out of microseconds since {@code 1970-01-01T00:00:00}.
+     *
+     * @param lower The lower bound.
+     * @param upper The upper bound.
+     *
+     * @return The range.
+     */
+    public static TimestampRange ofEpochMicros(long lower, long upper) {
+        return of(lower, upper, UPPER_EXCLUSIVE);
+    }
+
+    public static TimestampRange infinite() {
+        return INFINITE;
+    }
+
+    public static TimestampRange empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Create the range from its PostgreSQL text representation,
+     * like {@literal "[\"2019-01-01 00:00:00\",\"2019-02-01 00:00:00\")"} or {@literal "empty"}.
+     *
+     * @param range The range string.
+     *
+     * @return The range.
+     */
+    public static TimestampRange ofString(String range) {
+        return RangeLiteralCodec.parse(range, RangeLiteralCodec.EPOCH_MICROS, TimestampRange::fromLiteral);
+    }
+
+    private static TimestampRange fromLiteral(long lower, long upper, int mask) {
+        if (mask == RangeLiteralCodec.EMPTY) {
+            return EMPTY;
+        }
+        int flags = 0;
+        if ((mask & RangeLiteralCodec.LOWER_INFINITE) == RangeLiteralCodec.LOWER_INFINITE) {
+            flags |= LOWER_INFINITE;
+        }
+        if ((mask & RangeLiteralCodec.UPPER_INFINITE) == RangeLiteralCodec.UPPER_INFINITE) {
+            flags |= UPPER_INFINITE;
+        }
+        if ((mask & RangeLiteralCodec.LOWER_INCLUSIVE) == 0) {
+            flags |= LOWER_EXCLUSIVE;
+        }
+        if ((mask & RangeLiteralCodec.UPPER_INCLUSIVE) == 0) {
+            flags |= UPPER_EXCLUSIVE;
+        }
+        return of(lower, upper, flags);
+    }
+
+    /**
+     * Compute the first and last microseconds of the range out of the given bounds.
+     */
+    private static TimestampRange of(long lower, long upper, int flags) {
+        boolean lowerInfinite = (flags & LOWER_INFINITE) != 0;
+        boolean upperInfinite = (flags & UPPER_INFINITE) != 0;
+        if (lowerInfinite && upperInfinite) {
+            return INFINITE;
+        }
+        if (!lowerInfinite && (lower == Long.MIN_VALUE || lower == Long.MAX_VALUE) ||
+            !upperInfinite && (upper == Long.MIN_VALUE || upper == Long.MAX_VALUE)) {
+            throw new IllegalArgumentException("The range bounds are out of the timestamp range!");
+        }
+        if (!lowerInfinite && !upperInfinite) {
+            if (lower > upper) {
+                throw new IllegalArgumentException("The lower bound is greater then upper!");
+            }
+            if (lower == upper && (flags & (LOWER_EXCLUSIVE | UPPER_EXCLUSIVE)) != 0) {
+                return EMPTY;
+            }
+        }
+        long first = lowerInfinite ? Long.MIN_VALUE : (flags & LOWER_EXCLUSIVE) != 0 ? lower + 1 : lower;
+        long last = upperInfinite ? Long.MAX_VALUE : (flags & UPPER_EXCLUSIVE) != 0 ? upper - 1 : upper;
+        return new TimestampRange(first, last, (byte) flags);
+    }
+
+    public boolean isEmpty() {
+        return (flags & EMPTY_RANGE) != 0;
+    }
+
+    public boolean hasLowerBound() {
+        return (flags & (LOWER_INFINITE | EMPTY_RANGE)) == 0;
+    }
+
+    public boolean hasUpperBound() {
+        return (flags & (UPPER_INFINITE | EMPTY_RANGE)) == 0;
+    }
+
+    public boolean isLowerInclusive() {
+        return hasLowerBound() && (flags & LOWER_EXCLUSIVE) == 0;
+    }
+
+    public boolean isUpperInclusive() {
+        return hasUpperBound() && (flags & UPPER_EXCLUSIVE) == 0;
+    }
+
+    public LocalDateTime lower() {
+        return toLocalDateTime(lowerEpochMicros());
+    }
+
+    public LocalDateTime upper() {
+        return toLocalDateTime(upperEpochMicros());
+    }
+
+    /**
+     * Get the lower bound as a number of microseconds since {@code 1970-01-01T00:00:00}.
+     *
+     * @return The lower bound.
+     *
+     * @throws IllegalStateException when the range has no lower bound.
+     */
+    public long lowerEpochMicros() {
+        if (!hasLowerBound()) {
+            throw new IllegalStateException("The range has no lower bound!");
+        }
+        return (flags & LOWER_EXCLUSIVE) != 0 ? first - 1 : first;
+    }
+
+    /**
+     * Get the upper bound as a number of microseconds since {@code 1970-01-01T00:00:00}.
+     *
+     * @return The upper bound.
+     *
+     * @throws IllegalStateException when the range has no upper bound.
+     */
+    public long upperEpochMicros() {
+        if (!hasUpperBound()) {
+            throw new IllegalStateException("The range has no upper bound!");
+        }
+        return (flags & UPPER_EXCLUSIVE) != 0 ? last + 1 : last;
+    }
+
+    public boolean contains(LocalDateTime timestamp) {
+        return contains(toEpochMicros(timestamp));
+    }
+
+    /**
+     * Tell whether this range contains the given timestamp.
+     *
+     * @param epochMicros The number of microseconds since {@code 1970-01-01T00:00:00}.
+     *
+     * @return Whether the timestamp is in this range or not.
+     */
+    public boolean contains(long epochMicros) {
+        return first <= epochMicros & epochMicros <= last;
+    }
+
+    /**
+     * Tell whether this range contains the given range. Like in PostgreSQL, every range contains the empty range.
+     *
+     * @param range The range to check.
+     *
+     * @return Whether {@code range} is in this range or not.
+     */
+    public boolean contains(TimestampRange range) {
+        return range.first > range.last | (first <= range.first & range.last <= last);
+    }
+
+    /**
+     * Tell whether the two ranges have timestamps in common.
+     *
+     * @param range The range to check.
+     *
+     * @return Whether the ranges overlap or not.
+     */
+    public boolean overlaps(TimestampRange range) {
+        return first <= range.last & range.first <= last & first <= last & range.first <= range.last;
+    }
+
+    /**
+     * Convert this range to a {@link Range}, keeping its bounds.
+     *
+     * @return The range.
+     */
+    public Range<LocalDateTime> toRange() {
+        return Range.ofString(asString(), LocalDateTime::parse, LocalDateTime.class);
+    }
+
+    /**
+     * Get the PostgreSQL text representation of the range, like {@literal "[2019-01-01T00:00,2019-02-01T00:00)"}.
+     *
+     * @return The range string.
+     */
+    public String asString() {
+        if (isEmpty()) {
+            return "empty";
+        }
+        return RangeLiteralCodec.toString(
+            isLowerInclusive(),
+            hasLowerBound() ? lower() : null,
+            hasUpperBound() ? upper() : null,
+            isUpperInclusive()
+        );
+    }
+
+    private static long toEpochMicros(LocalDateTime timestamp) {
+        return Math.addExact(
+            Math.multiplyExact(timestamp.toEpochSecond(ZoneOffset.UTC), MICROS_PER_SECOND),
+            timestamp.getNano() / 1000
+        );
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMicros) {
+        return LocalDateTime.ofEpochSecond(
+            Math.floorDiv(epochMicros, MICROS_PER_SECOND),
+            (int) Math.floorMod(epochMicros, MICROS_PER_SECOND) * 1000,
+            ZoneOffset.UTC
+        );
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TimestampRange)) return false;
+        TimestampRange that = (TimestampRange) o;
+        return first == that.first && last == that.last && flags == that.flags;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Long.hashCode(first) + Long.hashCode(last)) + flags;
+    }
+
+    @Override
+    public String toString() {
+        return asString();
+    }
+}
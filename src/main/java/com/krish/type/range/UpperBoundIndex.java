@@ -0,0 +1,185 @@
+package com.krish.type.range;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.IntConsumer;
+
+/**
+ * Secondary index of the {@link IntervalTree} ranges, which finds the ranges of a slice of the tree array whose upper
+ * bound is not after a given one, in {@code O(1)} time per found range.
+ * <p>
+ * Each range is given its rank in the order of upper bounds, and the slice is searched for its least rank with a
+ * constant-time range minimum query: the array is cut into blocks of {@code 64} ranges, each range keeps a bit mask
+ * of the positions of its block holding the minima of the suffixes ending at it, and a sparse table holds the minima
+ * of every run of {@code 2^k} blocks. On top of the two {@code int} arrays holding the ranks and the order of upper
+ * bounds, the masks take {@code 8} bytes per range, and the sparse table a fraction of a byte.
+ */
+final class UpperBoundIndex {
+
+    private static final int BLOCK_SHIFT = 6;
+
+    private static final int BLOCK_MASK = (1 << BLOCK_SHIFT) - 1;
+
+    private final Range<?>[] ranges;
+
+    /**
+     * Indexes of the ranges, in the order of their upper bound.
+     */
+    private final int[] order;
+
+    /**
+     * Rank of each range in {@link #order}.
+     */
+    private final int[] ranks;
+
+    /**
+     * For each range, the positions within its block of the ranges having the least rank of a suffix ending at it.
+     */
+    private final long[] suffixMinima;
+
+    /**
+     * Index of the range having the least rank of the blocks {@code [block, block + 2^level)}, by level and block.
+     */
+    private final int[][] blockMinima;
+
+    UpperBoundIndex(Range<?>[] ranges) {
+        int size = ranges.length;
+        this.ranges = ranges;
+        Integer[] sorted = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = i;
+        }
+        Comparator<Integer> upperBoundOrder = (one, another) -> Range.compareUpper(ranges[one], ranges[another]);
+        if (size >= IntervalTree.PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(sorted, upperBoundOrder);
+        } else {
+            Arrays.sort(sorted, upperBoundOrder);
+        }
+        this.order = new int[size];
+        this.ranks = new int[size];
+        for (int rank = 0; rank < size; rank++) {
+            order[rank] = sorted[rank];
+            ranks[sorted[rank]] = rank;
+        }
+        this.suffixMinima = new long[size];
+        int blocks = (size + BLOCK_MASK) >>> BLOCK_SHIFT;
+        int levels = blocks > 0 ? 32 - Integer.numberOfLeadingZeros(blocks) : 0;
+        this.blockMinima = new int[levels][];
+        if (levels > 0) {
+            blockMinima[0] = new int[blocks];
+            int[] stack = new int[1 << BLOCK_SHIFT];
+            for (int block = 0; block < blocks; block++) {
+                int start = block << BLOCK_SHIFT;
+                int end = Math.min(start + stack.length, size);
+                int top = 0;
+                for (int i = start; i < end; i++) {
+                    while (top > 0 && ranks[stack[top - 1]] > ranks[i]) {
+                        top--;
+                    }
+                    suffixMinima[i] = (top > 0 ? suffixMinima[stack[top - 1]] : 0L) | 1L << (i & BLOCK_MASK);
+                    stack[top++] = i;
+                }
+                blockMinima[0][block] = minimumWithinBlock(start, end - 1);
+            }
+            for (int level = 1; level < levels; level++) {
+                int[] previous = blockMinima[level - 1];
+                int[] current = new int[blocks - (1 << level) + 1];
+                for (int block = 0; block < current.length; block++) {
+                    current[block] = least(previous[block], previous[block + (1 << (level - 1))]);
+                }
+                blockMinima[level] = current;
+            }
+        }
+    }
+
+    /**
+     * Count the ranges whose upper bound is not after the upper bound of the given range, in {@code O(log n)} time.
+     *
+     * @param range The range to check.
+     *
+     * @return The number of ranges, which is also the least rank of the ranges whose upper bound is after.
+     */
+    int countNotAfter(Range<?> range) {
+        int low = 0;
+        int high = order.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Range.compareUpper(ranges[order[mid]], range) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Pass the indexes from {@code from}, inclusive, to {@code to}, exclusive, of the ranges ranked below
+     * {@code rank} to the given consumer, in increasing order.
+     * <p>
+     * Each range minimum query either finds a range or closes a sub-slice, so the time is linear in the number of
+     * found ranges.
+     */
+    void forEachRankedBelow(int from, int to, int rank, IntConsumer consumer) {
+        int[] pending = new int[16];
+        int top = 0;
+        int low = from;
+        int high = to;
+        while (true) {
+            while (low < high) {
+                int minimum = minimum(low, high - 1);
+                if (ranks[minimum] >= rank) {
+                    break;
+                }
+                if (top + 2 > pending.length) {
+                    pending = Arrays.copyOf(pending, pending.length << 1);
+                }
+                pending[top++] = minimum;
+                pending[top++] = high;
+                high = minimum;
+            }
+            if (top == 0) {
+                return;
+            }
+            high = pending[--top];
+            int found = pending[--top];
+            consumer.accept(found);
+            low = found + 1;
+        }
+    }
+
+    /**
+     * Find the index of the range having the least rank between {@code low} and {@code high}, both inclusive.
+     */
+    private int minimum(int low, int high) {
+        int lowBlock = low >>> BLOCK_SHIFT;
+        int highBlock = high >>> BLOCK_SHIFT;
+        if (lowBlock == highBlock) {
+            return minimumWithinBlock(low, high);
+        }
+        int minimum = least(
+            minimumWithinBlock(low, low | BLOCK_MASK),
+            minimumWithinBlock(highBlock << BLOCK_SHIFT, high)
+        );
+        if (lowBlock + 1 < highBlock) {
+            int first = lowBlock + 1;
+            int last = highBlock - 1;
+            int level = 31 - Integer.numberOfLeadingZeros(last - first + 1);
+            minimum = least(minimum, least(blockMinima[level][first], blockMinima[level][last - (1 << level) + 1]));
+        }
+        return minimum;
+    }
+
+    /**
+     * The suffix minima ending at {@code high} are ranked in increasing order of their position, so the first of them
+     * not before {@code low} is the minimum of the slice.
+     */
+    private int minimumWithinBlock(int low, int high) {
+        long positions = suffixMinima[high] & (-1L << (low & BLOCK_MASK));
+        return (high & ~BLOCK_MASK) + Long.numberOfTrailingZeros(positions);
+    }
+
+    private int least(int one, int another) {
+        return ranks[one] <= ranks[another] ? one : another;
+    }
+}
@@ -0,0 +1,68 @@
+package com.krish.type.range.guava;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import com.krish.type.range.IntervalTree;
+
+import java.util.Collection;
+
+/**
+ * Bridges Guava {@link Range} objects to the {@link com.krish.type.range.Range} utilities, like {@link IntervalTree}.
+ */
+public class GuavaRangeUtil {
+
+    private GuavaRangeUtil() {
+        throw new UnsupportedOperationException("GuavaRangeUtil is not instantiable!");
+    }
+
+    /**
+     * Build an {@link IntervalTree} indexing the given Guava ranges, which the tree queries return.
+     *
+     * @param ranges The Guava ranges, never null.
+     * @param <T>    The type of bounds.
+     *
+     * @return The tree.
+     */
+    public static <T extends Comparable> IntervalTree<T, Range<T>> intervalTree(Collection<Range<T>> ranges) {
+        return IntervalTree.of(ranges, GuavaRangeUtil::toRange);
+    }
+
+    /**
+     * Convert the given Guava range to a {@link com.krish.type.range.Range} with the same bounds.
+     *
+     * @param range The Guava range, never null.
+     * @param <T>   The type of bounds.
+     *
+     * @return The range.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable> com.krish.type.range.Range<T> toRange(Range<T> range) {
+        return (com.krish.type.range.Range<T>) convert(range);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static com.krish.type.range.Range convert(Range range) {
+        if (!range.hasLowerBound() && !range.hasUpperBound()) {
+            return com.krish.type.range.Range.infinite((Class) Comparable.class);
+        }
+        if (!range.hasLowerBound()) {
+            return range.upperBoundType() == BoundType.CLOSED ?
+                com.krish.type.range.Range.infiniteClosed(range.upperEndpoint()) :
+                com.krish.type.range.Range.infiniteOpen(range.upperEndpoint());
+        }
+        boolean lowerClosed = range.lowerBoundType() == BoundType.CLOSED;
+        if (!range.hasUpperBound()) {
+            return lowerClosed ?
+                com.krish.type.range.Range.closedInfinite(range.lowerEndpoint()) :
+                com.krish.type.range.Range.openInfinite(range.lowerEndpoint());
+        }
+        if (range.upperBoundType() == BoundType.CLOSED) {
+            return lowerClosed ?
+                com.krish.type.range.Range.closed(range.lowerEndpoint(), range.upperEndpoint()) :
+                com.krish.type.range.Range.openClosed(range.lowerEndpoint(), range.upperEndpoint());
+        }
+        return lowerClosed ?
+            com.krish.type.range.Range.closedOpen(range.lowerEndpoint(), range.upperEndpoint()) :
+            com.krish.type.range.Range.open(range.lowerEndpoint(), range.upperEndpoint());
+    }
+}
@@ -3,6 +3,7 @@ package com.krish.type.range.guava;
 import com.google.common.collect.BoundType;
 import com.google.common.collect.Range;
 import com.krish.type.ImmutableType;
+import com.krish.type.range.internal.RangeLiteralCodec;
 
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.postgresql.util.PGobject;
@@ -12,16 +13,10 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
-import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
-import java.time.temporal.ChronoField;
 import java.util.function.Function;
 
 /**
@@ -44,17 +39,6 @@ import java.util.function.Function;
  */
 public class PostgreSQLGuavaRangeType extends ImmutableType<Range> {
 
-    private static final DateTimeFormatter LOCAL_DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss[.SSSSSS]");
-
-    private static final DateTimeFormatter ZONE_DATE_TIME = new DateTimeFormatterBuilder()
-            .appendPattern("yyyy-MM-dd HH:mm:ss")
-            .optionalStart()
-            .appendPattern(".")
-            .appendFraction(ChronoField.NANO_OF_SECOND, 1, 6, false)
-            .optionalEnd()
-            .appendPattern("X")
-            .toFormatter();
-
     public static final PostgreSQLGuavaRangeType INSTANCE = new PostgreSQLGuavaRangeType();
 
     public PostgreSQLGuavaRangeType() {
@@ -102,68 +86,50 @@ public class PostgreSQLGuavaRangeType extends ImmutableType<Range> {
             st.setNull(index, Types.OTHER);
         } else {
             PGobject object = new PGobject();
-            object.setType(determineRangeType(range));
+            object.setType(RangeLiteralCodec.rangeType(endpointClass(range)));
             object.setValue(asString(range));
 
             st.setObject(index, object);
         }
     }
 
-    private static String determineRangeType(Range<?> range) {
+    private static Class<?> endpointClass(Range<?> range) {
         Object anyEndpoint = range.hasLowerBound() ? range.lowerEndpoint() : range.upperEndpoint();
-        Class<?> clazz = anyEndpoint.getClass();
-
-        if (clazz.equals(Integer.class)) {
-            return "int4range";
-        } else if (clazz.equals(Long.class)) {
-            return "int8range";
-        } else if (clazz.equals(BigDecimal.class)) {
-            return "numrange";
-        } else if (clazz.equals(LocalDateTime.class)) {
-            return "tsrange";
-        } else if (clazz.equals(ZonedDateTime.class)) {
-            return "tstzrange";
-        } else if (clazz.equals(LocalDate.class)) {
-            return "daterange";
-        }
-
-        throw new IllegalStateException("The class [" + clazz.getName() + "] is not supported!");
+        return anyEndpoint.getClass();
     }
 
-
-    @SuppressWarnings("unchecked")
+    /**
+     * Creates the range from provided string, converting each bound, without its quotes, with the given converter.
+     *
+     * @param str       The range string, for example {@literal "[5,7]"}.
+     * @param converter The bound converter.
+     * @param cls       The range class.
+     * @param <T>       The type of bounds.
+     *
+     * @return The range.
+     */
     public static <T extends Comparable> Range<T> ofString(String str, Function<String, T> converter, Class<T> cls) {
-        BoundType lowerBound = str.charAt(0) == '[' ? BoundType.CLOSED : BoundType.OPEN;
-        BoundType upperBound = str.charAt(str.length() - 1) == ']' ? BoundType.CLOSED : BoundType.OPEN;
-
-        int delim = str.indexOf(',');
-
-        if (delim == -1) {
-            throw new IllegalArgumentException("Cannot find comma character");
-        }
-
-        String lowerStr = str.substring(1, delim);
-        String upperStr = str.substring(delim + 1, str.length() - 1);
-
-        T lower = null;
-        T upper = null;
+        return ofString(str, RangeLiteralCodec.boundParser(converter), cls);
+    }
 
-        if (lowerStr.length() > 0) {
-            lower = converter.apply(lowerStr);
-        }
+    private static <T extends Comparable> Range<T> ofString(String str, RangeLiteralCodec.BoundParser<T> parser, Class<T> cls) {
+        return RangeLiteralCodec.parse(str, parser, cls, PostgreSQLGuavaRangeType::newRange);
+    }
 
-        if (upperStr.length() > 0) {
-            upper = converter.apply(upperStr);
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable> Range<T> newRange(T lower, T upper, int mask, Class<T> cls) {
+        if (mask == RangeLiteralCodec.EMPTY) {
+            throw new IllegalArgumentException("The empty range is not supported!");
         }
-
-        if (lowerStr.length() == 0) {
-            return upperBound == BoundType.CLOSED ?
-                    Range.atMost(upper) :
-                    Range.lessThan(upper);
-        } else if (upperStr.length() == 0) {
-            return lowerBound == BoundType.CLOSED ?
-                    Range.atLeast(upper) :
-                    Range.greaterThan(upper);
+        BoundType lowerBound = (mask & RangeLiteralCodec.LOWER_INCLUSIVE) != 0 ? BoundType.CLOSED : BoundType.OPEN;
+        BoundType upperBound = (mask & RangeLiteralCodec.UPPER_INCLUSIVE) != 0 ? BoundType.CLOSED : BoundType.OPEN;
+
+        if (lower == null && upper == null) {
+            return Range.all();
+        } else if (lower == null) {
+            return Range.upTo(upper, upperBound);
+        } else if (upper == null) {
+            return Range.downTo(lower, lowerBound);
         } else {
             return Range.range(lower, lowerBound, upper, upperBound);
         }
@@ -185,7 +151,7 @@ public class PostgreSQLGuavaRangeType extends ImmutableType<Range> {
      * @throws NumberFormatException when one of the bounds are invalid.
      */
     public static Range<BigDecimal> bigDecimalRange(String range) {
-        return ofString(range, BigDecimal::new, BigDecimal.class);
+        return ofString(range, RangeLiteralCodec.BIG_DECIMAL, BigDecimal.class);
     }
 
     /**
@@ -205,7 +171,7 @@ public class PostgreSQLGuavaRangeType extends ImmutableType<Range> {
      * @throws NumberFormatException when one of the bounds are invalid.
      */
     public static Range<Integer> integerRange(String range) {
-        return ofString(range, Integer::parseInt, Integer.class);
+        return ofString(range, RangeLiteralCodec.INTEGER, Integer.class);
     }
 
     /**
@@ -225,7 +191,7 @@ public class PostgreSQLGuavaRangeType extends ImmutableType<Range> {
      * @throws NumberFormatException when one of the bounds are invalid.
      */
     public static Range<Long> longRange(String range) {
-        return ofString(range, Long::parseLong, Long.class);
+        return ofString(range, RangeLiteralCodec.LONG, Long.class);
     }
 
     /**
@@ -249,7 +215,7 @@ public class PostgreSQLGuavaRangeType extends ImmutableType<Range> {
      * @throws DateTimeParseException when one of the bounds are invalid.
      */
     public static Range<LocalDateTime> localDateTimeRange(String range) {
-        return ofString(range, parseLocalDateTime().compose(unquote()), LocalDateTime.class);
+        return ofString(range, RangeLiteralCodec.LOCAL_DATE_TIME, LocalDateTime.class);
     }
 
     /**
@@ -273,8 +239,7 @@ public class PostgreSQLGuavaRangeType extends ImmutableType<Range> {
      * @throws DateTimeParseException when one of the bounds are invalid.
      */
     public static Range<LocalDate> localDateRange(String range) {
-        Function<String, LocalDate> parseLocalDate = LocalDate::parse;
-        return ofString(range, parseLocalDate.compose(unquote()), LocalDate.class);
+        return ofString(range, RangeLiteralCodec.LOCAL_DATE, LocalDate.class);
     }
 
     /**
@@ -299,79 +264,19 @@ public class PostgreSQLGuavaRangeType extends ImmutableType<Range> {
      * @throws IllegalArgumentException when bounds time zones are different.
      */
     public static Range<ZonedDateTime> zonedDateTimeRange(String rangeStr) {
-        Range<ZonedDateTime> range = ofString(rangeStr, parseZonedDateTime().compose(unquote()), ZonedDateTime.class);
+        Range<ZonedDateTime> range = ofString(rangeStr, RangeLiteralCodec.ZONED_DATE_TIME, ZonedDateTime.class);
         if (range.hasLowerBound() && range.hasUpperBound()) {
-            ZoneId lowerZone = range.lowerEndpoint().getZone();
-            ZoneId upperZone = range.upperEndpoint().getZone();
-            if (!lowerZone.equals(upperZone)) {
-                Duration lowerDst = ZoneId.systemDefault().getRules().getDaylightSavings(range.lowerEndpoint().toInstant());
-                Duration upperDst = ZoneId.systemDefault().getRules().getDaylightSavings(range.upperEndpoint().toInstant());
-                long dstSeconds = upperDst.minus(lowerDst).getSeconds();
-                if(dstSeconds < 0 ) {
-                    dstSeconds *= -1;
-                }
-                long zoneDriftSeconds = ((ZoneOffset) lowerZone).getTotalSeconds() - ((ZoneOffset) upperZone).getTotalSeconds();
-                if (zoneDriftSeconds < 0) {
-                    zoneDriftSeconds *= -1;
-                }
-
-                if (dstSeconds != zoneDriftSeconds) {
-                    throw new IllegalArgumentException("The upper and lower bounds must be in same time zone!");
-                }
-            }
+            RangeLiteralCodec.checkSameTimeZone(range.lowerEndpoint(), range.upperEndpoint());
         }
         return range;
     }
 
-    private static Function<String, LocalDateTime> parseLocalDateTime() {
-        return str -> {
-            try {
-                return LocalDateTime.parse(str, LOCAL_DATE_TIME);
-            } catch (DateTimeParseException e) {
-                return LocalDateTime.parse(str);
-            }
-        };
-    }
-
-    private static Function<String, ZonedDateTime> parseZonedDateTime() {
-        return s -> {
-            try {
-                return ZonedDateTime.parse(s, ZONE_DATE_TIME);
-            } catch (DateTimeParseException e) {
-                return ZonedDateTime.parse(s);
-            }
-        };
-    }
-
-    private static Function<String, String> unquote() {
-        return s -> {
-            if (s.charAt(0) == '\"' && s.charAt(s.length() - 1) == '\"') {
-                return s.substring(1, s.length() - 1);
-            }
-
-            return s;
-        };
-    }
-
     public String asString(Range range) {
-        StringBuilder sb = new StringBuilder();
-
-
-        sb.append(range.lowerBoundType() == BoundType.CLOSED ? '[' : '(')
-                .append(range.hasLowerBound() ? asString(range.lowerEndpoint()) : "")
-                .append(",")
-                .append(range.hasUpperBound() ? asString(range.upperEndpoint()) : "")
-                .append(range.upperBoundType() == BoundType.CLOSED ? ']' : ')');
-
-        return sb.toString();
+        return RangeLiteralCodec.toString(
+            range.hasLowerBound() && range.lowerBoundType() == BoundType.CLOSED,
+            range.hasLowerBound() ? range.lowerEndpoint() : null,
+            range.hasUpperBound() ? range.upperEndpoint() : null,
+            range.hasUpperBound() && range.upperBoundType() == BoundType.CLOSED
+        );
     }
-
-    private String asString(Object value) {
-        if (value instanceof ZonedDateTime) {
-            return ZONE_DATE_TIME.format((ZonedDateTime) value);
-        }
-        return value.toString();
-    }
-
-
 }
@@ -0,0 +1,651 @@
+package com.krish.type.range.internal;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.util.function.Function;
+
+/**
+ * Parses and renders the PostgreSQL text representation of range types, like {@code [1,5)} or
+ * {@code ["2014-04-28 16:00:49","2015-04-28 16:00:49"]}, for both the {@link com.krish.type.range.Range}
+ * and the Guava {@code Range} mappings.
+ * <p>
+ * The literal is scanned once, and the bounds are parsed in place by prebuilt {@link BoundParser}s, so that
+ * no intermediate {@link String} is created for the bounds. The date and time parsers handle the PostgreSQL output
+ * formats by hand, and only delegate to the ISO {@link DateTimeFormatter}s when the bound is in another format.
+ */
+public final class RangeLiteralCodec {
+
+    public static final int LOWER_INCLUSIVE = 1 << 1;
+    public static final int LOWER_EXCLUSIVE = 1 << 2;
+    public static final int UPPER_INCLUSIVE = 1 << 3;
+    public static final int UPPER_EXCLUSIVE = 1 << 4;
+    public static final int LOWER_INFINITE = (1 << 5) | LOWER_EXCLUSIVE;
+    public static final int UPPER_INFINITE = (1 << 6) | UPPER_EXCLUSIVE;
+
+    /**
+     * Flag given to the {@link RangeFactory} for the {@code empty} range literal.
+     */
+    public static final int EMPTY = 1;
+
+    private static final DateTimeFormatter ZONE_DATE_TIME = new DateTimeFormatterBuilder()
+        .appendPattern("yyyy-MM-dd HH:mm:ss")
+        .optionalStart()
+        .appendPattern(".")
+        .appendFraction(ChronoField.NANO_OF_SECOND, 1, 6, false)
+        .optionalEnd()
+        .appendPattern("X")
+        .toFormatter();
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+
+    private static final int[] NANOS_SCALE = {
+        0, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+    };
+
+    /**
+     * Parses the bound found between the given positions of the range literal.
+     *
+     * @param <T> bound type
+     */
+    public interface BoundParser<T> {
+
+        T parse(String text, int start, int end);
+    }
+
+    /**
+     * Creates the range object out of the parsed bounds.
+     *
+     * @param <T> bound type
+     * @param <R> range type
+     */
+    public interface RangeFactory<T, R> {
+
+        /**
+         * @param lower lower bound, or {@code null} if the range is left-unbounded
+         * @param upper upper bound, or {@code null} if the range is right-unbounded
+         * @param mask  combination of the bound flags, like {@link #LOWER_INCLUSIVE} or {@link #UPPER_INFINITE}
+         * @param type  bound type
+         * @return range
+         */
+        R create(T lower, T upper, int mask, Class<T> type);
+    }
+
+    /**
+     * Parses the bound found between the given positions of the range literal into a {@code long}.
+     */
+    public interface LongBoundParser {
+
+        long parse(String text, int start, int end);
+    }
+
+    /**
+     * Creates the range object out of the parsed {@code long} bounds.
+     *
+     * @param <R> range type
+     */
+    public interface LongRangeFactory<R> {
+
+        /**
+         * @param lower lower bound, or {@code 0} if the range is left-unbounded
+         * @param upper upper bound, or {@code 0} if the range is right-unbounded
+         * @param mask  combination of the bound flags, like {@link #LOWER_INCLUSIVE} or {@link #UPPER_INFINITE}
+         * @return range
+         */
+        R create(long lower, long upper, int mask);
+    }
+
+    public static final LongBoundParser LONG_VALUE = RangeLiteralCodec::parseLong;
+
+    /**
+     * Parses a {@code date} bound into the number of days since {@code 1970-01-01}.
+     */
+    public static final LongBoundParser EPOCH_DAY = (text, start, end) ->
+        end - start == 10 && isDate(text, start) ?
+            LocalDate.of(digits(text, start, 4), digits(text, start + 5, 2), digits(text, start + 8, 2)).toEpochDay() :
+            LocalDate.parse(text.substring(start, end)).toEpochDay();
+
+    /**
+     * Parses a {@code timestamp} bound into the number of microseconds since {@code 1970-01-01T00:00:00}.
+     */
+    public static final LongBoundParser EPOCH_MICROS = (text, start, end) -> {
+        if (dateTimeEnd(text, start, end) == end) {
+            return epochMicros(text, start, end);
+        }
+        LocalDateTime dateTime = LocalDateTime.parse(text.substring(start, end));
+        return Math.addExact(
+            Math.multiplyExact(dateTime.toEpochSecond(ZoneOffset.UTC), MICROS_PER_SECOND),
+            dateTime.getNano() / 1000
+        );
+    };
+
+    public static final BoundParser<Integer> INTEGER = (text, start, end) -> {
+        long value = parseLong(text, start, end);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw invalidNumber(text, start, end);
+        }
+        return (int) value;
+    };
+
+    public static final BoundParser<Long> LONG = RangeLiteralCodec::parseLong;
+
+    public static final BoundParser<BigDecimal> BIG_DECIMAL = (text, start, end) ->
+        new BigDecimal(start == 0 && end == text.length() ? text : text.substring(start, end));
+
+    public static final BoundParser<LocalDate> LOCAL_DATE = (text, start, end) ->
+        end - start == 10 && isDate(text, start) ?
+            LocalDate.of(digits(text, start, 4), digits(text, start + 5, 2), digits(text, start + 8, 2)) :
+            LocalDate.parse(text.substring(start, end));
+
+    public static final BoundParser<LocalDateTime> LOCAL_DATE_TIME = (text, start, end) ->
+        dateTimeEnd(text, start, end) == end ?
+            localDateTime(text, start, end) :
+            LocalDateTime.parse(text.substring(start, end));
+
+    public static final BoundParser<ZonedDateTime> ZONED_DATE_TIME = (text, start, end) -> {
+        int dateTimeEnd = dateTimeEnd(text, start, end);
+        if (dateTimeEnd != -1) {
+            int offsetSeconds = offsetSeconds(text, dateTimeEnd, end);
+            if (offsetSeconds != Integer.MIN_VALUE) {
+                return ZonedDateTime.of(
+                    localDateTime(text, start, dateTimeEnd),
+                    ZoneOffset.ofTotalSeconds(offsetSeconds)
+                );
+            }
+        }
+        return ZonedDateTime.parse(text.substring(start, end));
+    };
+
+    private RangeLiteralCodec() {
+        throw new UnsupportedOperationException("RangeLiteralCodec is not instantiable!");
+    }
+
+    /**
+     * Adapt a {@link String} converter to a {@link BoundParser}.
+     *
+     * @param converter bound converter
+     * @param <T>       bound type
+     * @return bound parser
+     */
+    public static <T> BoundParser<T> boundParser(Function<String, T> converter) {
+        return (text, start, end) -> converter.apply(text.substring(start, end));
+    }
+
+    /**
+     * Parse the given range literal.
+     *
+     * @param literal range literal, for example {@literal "[5,7)"}
+     * @param parser  bound parser
+     * @param type    bound type
+     * @param factory range factory
+     * @param <T>     bound type
+     * @param <R>     range type
+     * @return range
+     */
+    public static <T, R> R parse(String literal, BoundParser<T> parser, Class<T> type, RangeFactory<T, R> factory) {
+        int start = skipWhitespace(literal, 0, literal.length());
+        int end = trimEnd(literal, start, literal.length());
+        if (isEmpty(literal, start, end)) {
+            return factory.create(null, null, EMPTY, type);
+        }
+        int mask = boundsMask(literal, start, end);
+        int delimiter = delimiter(literal, start, end);
+
+        T lower = null;
+        T upper = null;
+        int lowerStart = skipWhitespace(literal, start + 1, delimiter);
+        int lowerEnd = trimEnd(literal, lowerStart, delimiter);
+        if (lowerStart == lowerEnd) {
+            mask = (mask & ~LOWER_INCLUSIVE) | LOWER_INFINITE;
+        } else {
+            lower = parseBound(literal, lowerStart, lowerEnd, parser);
+        }
+        int upperStart = skipWhitespace(literal, delimiter + 1, end - 1);
+        int upperEnd = trimEnd(literal, upperStart, end - 1);
+        if (upperStart == upperEnd) {
+            mask = (mask & ~UPPER_INCLUSIVE) | UPPER_INFINITE;
+        } else {
+            upper = parseBound(literal, upperStart, upperEnd, parser);
+        }
+        return factory.create(lower, upper, mask, type);
+    }
+
+    /**
+     * Parse the given range literal without boxing its bounds.
+     *
+     * @param literal range literal, for example {@literal "[5,7)"}
+     * @param parser  bound parser
+     * @param factory range factory
+     * @param <R>     range type
+     * @return range
+     */
+    public static <R> R parse(String literal, LongBoundParser parser, LongRangeFactory<R> factory) {
+        int start = skipWhitespace(literal, 0, literal.length());
+        int end = trimEnd(literal, start, literal.length());
+        if (isEmpty(literal, start, end)) {
+            return factory.create(0, 0, EMPTY);
+        }
+        int mask = boundsMask(literal, start, end);
+        int delimiter = delimiter(literal, start, end);
+
+        long lower = 0;
+        long upper = 0;
+        int lowerStart = skipWhitespace(literal, start + 1, delimiter);
+        int lowerEnd = trimEnd(literal, lowerStart, delimiter);
+        if (lowerStart == lowerEnd) {
+            mask = (mask & ~LOWER_INCLUSIVE) | LOWER_INFINITE;
+        } else {
+            lower = parseLongBound(literal, lowerStart, lowerEnd, parser);
+        }
+        int upperStart = skipWhitespace(literal, delimiter + 1, end - 1);
+        int upperEnd = trimEnd(literal, upperStart, end - 1);
+        if (upperStart == upperEnd) {
+            mask = (mask & ~UPPER_INCLUSIVE) | UPPER_INFINITE;
+        } else {
+            upper = parseLongBound(literal, upperStart, upperEnd, parser);
+        }
+        return factory.create(lower, upper, mask);
+    }
+
+    private static boolean isEmpty(String literal, int start, int end) {
+        return end - start == 5 && literal.regionMatches(true, start, "empty", 0, 5);
+    }
+
+    private static int boundsMask(String literal, int start, int end) {
+        if (end - start < 3) {
+            throw invalidLiteral(literal);
+        }
+        int mask;
+        char open = literal.charAt(start);
+        if (open == '[') {
+            mask = LOWER_INCLUSIVE;
+        } else if (open == '(') {
+            mask = LOWER_EXCLUSIVE;
+        } else {
+            throw invalidLiteral(literal);
+        }
+        char close = literal.charAt(end - 1);
+        if (close == ']') {
+            mask |= UPPER_INCLUSIVE;
+        } else if (close == ')') {
+            mask |= UPPER_EXCLUSIVE;
+        } else {
+            throw invalidLiteral(literal);
+        }
+        return mask;
+    }
+
+    private static int delimiter(String literal, int start, int end) {
+        int boundsEnd = end - 1;
+        int delimiter = boundEnd(literal, start + 1, boundsEnd);
+        if (delimiter == boundsEnd) {
+            throw new IllegalArgumentException("Cannot find comma character");
+        }
+        if (boundEnd(literal, delimiter + 1, boundsEnd) != boundsEnd) {
+            throw invalidLiteral(literal);
+        }
+        return delimiter;
+    }
+
+    /**
+     * Render the range literal of the given bounds.
+     *
+     * @param lowerInclusive whether the lower bound is inclusive
+     * @param lower          lower bound, or {@code null} if the range is left-unbounded
+     * @param upper          upper bound, or {@code null} if the range is right-unbounded
+     * @param upperInclusive whether the upper bound is inclusive
+     * @return range literal
+     */
+    public static String toString(boolean lowerInclusive, Object lower, Object upper, boolean upperInclusive) {
+        StringBuilder builder = new StringBuilder(32).append(lowerInclusive ? '[' : '(');
+        appendBound(builder, lower);
+        builder.append(',');
+        appendBound(builder, upper);
+        return builder.append(upperInclusive ? ']' : ')').toString();
+    }
+
+    private static void appendBound(StringBuilder builder, Object bound) {
+        if (bound instanceof ZonedDateTime) {
+            ZONE_DATE_TIME.formatTo((ZonedDateTime) bound, builder);
+        } else if (bound != null) {
+            builder.append(bound);
+        }
+    }
+
+    /**
+     * Get the PostgreSQL range type of the given bound type.
+     *
+     * @param clazz bound type
+     * @return range type, like {@code int4range}
+     */
+    public static String rangeType(Class<?> clazz) {
+        if (clazz.equals(Integer.class)) {
+            return "int4range";
+        } else if (clazz.equals(Long.class)) {
+            return "int8range";
+        } else if (clazz.equals(BigDecimal.class)) {
+            return "numrange";
+        } else if (clazz.equals(LocalDateTime.class)) {
+            return "tsrange";
+        } else if (clazz.equals(ZonedDateTime.class)) {
+            return "tstzrange";
+        } else if (clazz.equals(LocalDate.class)) {
+            return "daterange";
+        }
+
+        throw new IllegalStateException("The class [" + clazz.getName() + "] is not supported!");
+    }
+
+    /**
+     * Check that the bounds of a {@code tstzrange} are in the same time zone, allowing for a daylight saving time shift.
+     *
+     * @param lower lower bound
+     * @param upper upper bound
+     * @throws IllegalArgumentException when bounds time zones are different.
+     */
+    public static void checkSameTimeZone(ZonedDateTime lower, ZonedDateTime upper) {
+        ZoneId lowerZone = lower.getZone();
+        ZoneId upperZone = upper.getZone();
+        if (!lowerZone.equals(upperZone)) {
+            Duration lowerDst = ZoneId.systemDefault().getRules().getDaylightSavings(lower.toInstant());
+            Duration upperDst = ZoneId.systemDefault().getRules().getDaylightSavings(upper.toInstant());
+            long dstSeconds = Math.abs(upperDst.minus(lowerDst).getSeconds());
+            long zoneDriftSeconds = Math.abs(
+                ((ZoneOffset) lowerZone).getTotalSeconds() - ((ZoneOffset) upperZone).getTotalSeconds()
+            );
+
+            if (dstSeconds != zoneDriftSeconds) {
+                throw new IllegalArgumentException("The upper and lower bounds must be in same time zone!");
+            }
+        }
+    }
+
+    /**
+     * Find the end of the bound starting at the given position, which is either a comma or the closing bracket.
+     */
+    private static int boundEnd(String text, int position, int limit) {
+        while (position < limit) {
+            char c = text.charAt(position);
+            if (c == ',') {
+                return position;
+            } else if (c == '"') {
+                position = quotedEnd(text, position, limit);
+            } else if (c == '\\') {
+                position += 2;
+            } else {
+                position++;
+            }
+        }
+        return limit;
+    }
+
+    private static int quotedEnd(String text, int position, int limit) {
+        position++;
+        while (position < limit) {
+            char c = text.charAt(position);
+            if (c == '\\') {
+                position += 2;
+            } else if (c == '"') {
+                if (position + 1 < limit && text.charAt(position + 1) == '"') {
+                    position += 2;
+                } else {
+                    return position + 1;
+                }
+            } else {
+                position++;
+            }
+        }
+        throw invalidLiteral(text);
+    }
+
+    private static <T> T parseBound(String text, int start, int end, BoundParser<T> parser) {
+        if (isEscaped(text, start, end)) {
+            String bound = unescape(text, start, end);
+            return parser.parse(bound, 0, bound.length());
+        }
+        return text.charAt(start) == '"' ? parser.parse(text, start + 1, end - 1) : parser.parse(text, start, end);
+    }
+
+    private static long parseLongBound(String text, int start, int end, LongBoundParser parser) {
+        if (isEscaped(text, start, end)) {
+            String bound = unescape(text, start, end);
+            return parser.parse(bound, 0, bound.length());
+        }
+        return text.charAt(start) == '"' ? parser.parse(text, start + 1, end - 1) : parser.parse(text, start, end);
+    }
+
+    /**
+     * Tell whether the bound contains backslash escapes, doubled quotes, or quotes which do not enclose it.
+     */
+    private static boolean isEscaped(String text, int start, int end) {
+        boolean quoted = text.charAt(start) == '"';
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == '\\' || (c == '"' && (!quoted || (i > start && i < end - 1)))) {
+                return true;
+            }
+        }
+        return quoted && (end - start < 2 || text.charAt(end - 1) != '"');
+    }
+
+    /**
+     * Remove the quotes and escapes of a bound, in the rare case when it contains escaped characters.
+     */
+    private static String unescape(String text, int start, int end) {
+        StringBuilder builder = new StringBuilder(end - start);
+        boolean quoted = false;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == '\\' && i + 1 < end) {
+                builder.append(text.charAt(++i));
+            } else if (c == '"') {
+                if (quoted && i + 1 < end && text.charAt(i + 1) == '"') {
+                    builder.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static int trimEnd(String text, int start, int end) {
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private static int skipWhitespace(String text, int position, int end) {
+        while (position < end && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static long parseLong(String text, int start, int end) {
+        if (start == end) {
+            throw invalidNumber(text, start, end);
+        }
+        boolean negative = false;
+        long limit = -Long.MAX_VALUE;
+        int position = start;
+        char first = text.charAt(position);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (negative) {
+                limit = Long.MIN_VALUE;
+            }
+            if (++position == end) {
+                throw invalidNumber(text, start, end);
+            }
+        }
+        long multiplyLimit = limit / 10;
+        long result = 0;
+        while (position < end) {
+            int digit = text.charAt(position++) - '0';
+            if (digit < 0 || digit > 9 || result < multiplyLimit) {
+                throw invalidNumber(text, start, end);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw invalidNumber(text, start, end);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Tell whether a {@code yyyy-MM-dd} date starts at the given position.
+     */
+    private static boolean isDate(String text, int start) {
+        return isDigits(text, start, 4) &&
+            text.charAt(start + 4) == '-' &&
+            isDigits(text, start + 5, 2) &&
+            text.charAt(start + 7) == '-' &&
+            isDigits(text, start + 8, 2);
+    }
+
+    /**
+     * Find the end of the {@code yyyy-MM-dd HH:mm:ss[.fraction]} date time starting at the given position,
+     * whose date and time can also be separated by {@code T}.
+     *
+     * @return end position, or {@code -1} if the text does not start with such a date time
+     */
+    private static int dateTimeEnd(String text, int start, int end) {
+        if (end - start < 19 || !isDate(text, start)) {
+            return -1;
+        }
+        char separator = text.charAt(start + 10);
+        if ((separator != ' ' && separator != 'T') ||
+            !isDigits(text, start + 11, 2) ||
+            text.charAt(start + 13) != ':' ||
+            !isDigits(text, start + 14, 2) ||
+            text.charAt(start + 16) != ':' ||
+            !isDigits(text, start + 17, 2)) {
+            return -1;
+        }
+        int position = start + 19;
+        if (position < end && text.charAt(position) == '.') {
+            int fractionStart = ++position;
+            while (position < end && position - fractionStart < 9 && isDigit(text.charAt(position))) {
+                position++;
+            }
+            if (position == fractionStart) {
+                return -1;
+            }
+        }
+        return position;
+    }
+
+    private static LocalDateTime localDateTime(String text, int start, int end) {
+        int nanos = 0;
+        int fractionDigits = end - start - 20;
+        if (fractionDigits > 0) {
+            nanos = digits(text, start + 20, fractionDigits) * NANOS_SCALE[fractionDigits];
+        }
+        return LocalDateTime.of(
+            digits(text, start, 4),
+            digits(text, start + 5, 2),
+            digits(text, start + 8, 2),
+            digits(text, start + 11, 2),
+            digits(text, start + 14, 2),
+            digits(text, start + 17, 2),
+            nanos
+        );
+    }
+
+    private static long epochMicros(String text, int start, int end) {
+        long epochDay = LocalDate.of(
+            digits(text, start, 4),
+            digits(text, start + 5, 2),
+            digits(text, start + 8, 2)
+        ).toEpochDay();
+        int hour = digits(text, start + 11, 2);
+        int minute = digits(text, start + 14, 2);
+        int second = digits(text, start + 17, 2);
+        if (hour > 23 || minute > 59 || second > 59) {
+            throw new IllegalArgumentException("The given string value: " + text + " is not a valid timestamp");
+        }
+        long micros = 0;
+        int fractionDigits = end - start - 20;
+        if (fractionDigits > 0) {
+            micros = (long) digits(text, start + 20, fractionDigits) * NANOS_SCALE[fractionDigits] / 1000;
+        }
+        return (epochDay * 86_400L + hour * 3_600L + minute * 60L + second) * MICROS_PER_SECOND + micros;
+    }
+
+    /**
+     * Parse the {@code Z}, {@code +HH}, {@code +HH:mm} or {@code +HH:mm:ss} offset found between the given positions.
+     *
+     * @return offset seconds, or {@link Integer#MIN_VALUE} if the text is not such an offset
+     */
+    private static int offsetSeconds(String text, int start, int end) {
+        if (end - start == 1 && text.charAt(start) == 'Z') {
+            return 0;
+        }
+        if (end - start < 3) {
+            return Integer.MIN_VALUE;
+        }
+        char sign = text.charAt(start);
+        if ((sign != '+' && sign != '-') || !isDigits(text, start + 1, 2)) {
+            return Integer.MIN_VALUE;
+        }
+        int seconds = digits(text, start + 1, 2) * 3600;
+        int position = start + 3;
+        for (int multiplier = 60; position < end && multiplier > 0; multiplier /= 60) {
+            if (text.charAt(position) == ':') {
+                position++;
+            }
+            if (end - position < 2 || !isDigits(text, position, 2)) {
+                return Integer.MIN_VALUE;
+            }
+            seconds += digits(text, position, 2) * multiplier;
+            position += 2;
+        }
+        if (position != end) {
+            return Integer.MIN_VALUE;
+        }
+        return sign == '-' ? -seconds : seconds;
+    }
+
+    private static boolean isDigits(String text, int start, int count) {
+        for (int i = start; i < start + count; i++) {
+            if (!isDigit(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int digits(String text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    private static NumberFormatException invalidNumber(String text, int start, int end) {
+        return new NumberFormatException("For input string: \"" + text.substring(start, end) + "\"");
+    }
+
+    private static IllegalArgumentException invalidLiteral(String literal) {
+        return new IllegalArgumentException("The given string value: " + literal + " is not a valid range literal");
+    }
+}
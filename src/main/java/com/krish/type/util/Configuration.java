@@ -39,6 +39,9 @@ public class Configuration {
     public enum PropertyKey {
         JACKSON_OBJECT_MAPPER("hibernate.types.jackson.object.mapper"),
         JSON_SERIALIZER("hibernate.types.json.serializer"),
+        JSON_OFF_HEAP_BUDGET("hibernate.types.json.off.heap.budget"),
+        JSON_DEDUPLICATION_CACHE_SIZE("hibernate.types.json.deduplication.cache.size"),
+        FLOAT_VECTOR_OFF_HEAP_BUDGET("hibernate.types.float.vector.off.heap.budget"),
         PRINT_BANNER("hibernate.types.print.banner");
 
         private final String key;
@@ -0,0 +1,252 @@
+package com.krish.type.util;
+
+import java.io.Serializable;
+
+/**
+ * 128-bit content hash computed with the MurmurHash3 x64 128-bit algorithm.
+ * <p>
+ * The hash only depends on the given bytes, or characters, so two JSON documents only get the same
+ * {@link ContentHash} if they are hashed in the same form. Through {@link ObjectMapperWrapper#contentHash(Object)},
+ * two JSON documents having the same canonical form, as given by {@link ObjectMapperWrapper#toCanonicalBytes(Object)},
+ * have the same {@link ContentHash}.
+ */
+public final class ContentHash implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private final long high;
+
+    private final long low;
+
+    public ContentHash(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * Hash the given bytes.
+     *
+     * @param bytes content to hash
+     * @return 128-bit content hash
+     */
+    public static ContentHash of(byte[] bytes) {
+        return of(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Hash the given range of bytes.
+     *
+     * @param bytes  content to hash
+     * @param offset range start
+     * @param length range length
+     * @return 128-bit content hash
+     */
+    public static ContentHash of(byte[] bytes, int offset, int length) {
+        long h1 = 0;
+        long h2 = 0;
+
+        int blocks = length >>> 4;
+        for (int i = 0; i < blocks; i++) {
+            int index = offset + (i << 4);
+            long k1 = getLong(bytes, index);
+            long k2 = getLong(bytes, index + 8);
+
+            k1 *= C1;
+            k1 = Long.rotateLeft(k1, 31);
+            k1 *= C2;
+            h1 ^= k1;
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            k2 *= C2;
+            k2 = Long.rotateLeft(k2, 33);
+            k2 *= C1;
+            h2 ^= k2;
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        int tail = offset + (blocks << 4);
+        h1 ^= mixK1(tailK1(bytes, tail, length & 15));
+        h2 ^= mixK2(tailK2(bytes, tail, length & 15));
+
+        return finish(h1, h2, length);
+    }
+
+    /**
+     * Hash the UTF-16 code units of the given characters, without encoding them to a new byte array.
+     * <p>
+     * The result is the hash of the UTF-16LE encoding of the characters, which differs from the hash of their
+     * UTF-8 encoding.
+     *
+     * @param chars content to hash
+     * @return 128-bit content hash
+     */
+    public static ContentHash of(CharSequence chars) {
+        long h1 = 0;
+        long h2 = 0;
+
+        int length = chars.length();
+        int blocks = length >>> 3;
+        for (int i = 0; i < blocks; i++) {
+            int index = i << 3;
+            long k1 = getLong(chars, index);
+            long k2 = getLong(chars, index + 4);
+
+            k1 *= C1;
+            k1 = Long.rotateLeft(k1, 31);
+            k1 *= C2;
+            h1 ^= k1;
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            k2 *= C2;
+            k2 = Long.rotateLeft(k2, 33);
+            k2 *= C1;
+            h2 ^= k2;
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        int tail = blocks << 3;
+        long k1 = 0;
+        long k2 = 0;
+        for (int i = tail; i < length; i++) {
+            int shift = ((i - tail) & 3) << 4;
+            if (i - tail < 4) {
+                k1 ^= (long) chars.charAt(i) << shift;
+            } else {
+                k2 ^= (long) chars.charAt(i) << shift;
+            }
+        }
+        h1 ^= mixK1(k1);
+        h2 ^= mixK2(k2);
+
+        return finish(h1, h2, length << 1);
+    }
+
+    private static ContentHash finish(long h1, long h2, int length) {
+        h1 ^= length;
+        h2 ^= length;
+
+        h1 += h2;
+        h2 += h1;
+
+        h1 = fmix(h1);
+        h2 = fmix(h2);
+
+        h1 += h2;
+        h2 += h1;
+
+        return new ContentHash(h1, h2);
+    }
+
+    /**
+     * Read the bytes 8 to 15 of the tail, in little-endian order.
+     */
+    @SuppressWarnings("fallthrough")
+    private static long tailK2(byte[] bytes, int tail, int tailLength) {
+        long k2 = 0;
+        switch (tailLength) {
+            case 15: k2 ^= ((long) bytes[tail + 14] & 0xff) << 48; // fall through
+            case 14: k2 ^= ((long) bytes[tail + 13] & 0xff) << 40; // fall through
+            case 13: k2 ^= ((long) bytes[tail + 12] & 0xff) << 32; // fall through
+            case 12: k2 ^= ((long) bytes[tail + 11] & 0xff) << 24; // fall through
+            case 11: k2 ^= ((long) bytes[tail + 10] & 0xff) << 16; // fall through
+            case 10: k2 ^= ((long) bytes[tail + 9] & 0xff) << 8; // fall through
+            case 9: k2 ^= ((long) bytes[tail + 8] & 0xff);
+        }
+        return k2;
+    }
+
+    /**
+     * Read the first 8 bytes of the tail, in little-endian order.
+     */
+    @SuppressWarnings("fallthrough")
+    private static long tailK1(byte[] bytes, int tail, int tailLength) {
+        long k1 = 0;
+        switch (Math.min(tailLength, 8)) {
+            case 8: k1 ^= ((long) bytes[tail + 7] & 0xff) << 56; // fall through
+            case 7: k1 ^= ((long) bytes[tail + 6] & 0xff) << 48; // fall through
+            case 6: k1 ^= ((long) bytes[tail + 5] & 0xff) << 40; // fall through
+            case 5: k1 ^= ((long) bytes[tail + 4] & 0xff) << 32; // fall through
+            case 4: k1 ^= ((long) bytes[tail + 3] & 0xff) << 24; // fall through
+            case 3: k1 ^= ((long) bytes[tail + 2] & 0xff) << 16; // fall through
+            case 2: k1 ^= ((long) bytes[tail + 1] & 0xff) << 8; // fall through
+            case 1: k1 ^= ((long) bytes[tail] & 0xff);
+        }
+        return k1;
+    }
+
+    private static long mixK1(long k1) {
+        k1 *= C1;
+        k1 = Long.rotateLeft(k1, 31);
+        return k1 * C2;
+    }
+
+    private static long mixK2(long k2) {
+        k2 *= C2;
+        k2 = Long.rotateLeft(k2, 33);
+        return k2 * C1;
+    }
+
+    private static long getLong(byte[] bytes, int index) {
+        return ((long) bytes[index] & 0xff)
+            | (((long) bytes[index + 1] & 0xff) << 8)
+            | (((long) bytes[index + 2] & 0xff) << 16)
+            | (((long) bytes[index + 3] & 0xff) << 24)
+            | (((long) bytes[index + 4] & 0xff) << 32)
+            | (((long) bytes[index + 5] & 0xff) << 40)
+            | (((long) bytes[index + 6] & 0xff) << 48)
+            | (((long) bytes[index + 7] & 0xff) << 56);
+    }
+
+    private static long getLong(CharSequence chars, int index) {
+        return (long) chars.charAt(index)
+            | ((long) chars.charAt(index + 1) << 16)
+            | ((long) chars.charAt(index + 2) << 32)
+            | ((long) chars.charAt(index + 3) << 48);
+    }
+
+    private static long fmix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+
+    public long getHigh() {
+        return high;
+    }
+
+    public long getLow() {
+        return low;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ContentHash)) return false;
+        ContentHash that = (ContentHash) o;
+        return high == that.high && low == that.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) high;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x%016x", high, low);
+    }
+}
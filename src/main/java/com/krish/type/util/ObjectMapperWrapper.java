@@ -1,11 +1,19 @@
 package com.krish.type.util;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 
 import java.io.IOException;
 import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Wraps a Jackson {@link ObjectMapper} so that you can supply your own {@link ObjectMapper} reference.
@@ -19,6 +27,8 @@ public class ObjectMapperWrapper {
 
     private final ObjectMapper objectMapper;
 
+    private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+
     private JsonSerializer jsonSerializer = new ObjectMapperJsonSerializer(this);
 
     public ObjectMapperWrapper() {
@@ -37,9 +47,27 @@ public class ObjectMapperWrapper {
         return objectMapper;
     }
 
+    /**
+     * Get the {@link ObjectReader} bound to the given Java type.
+     * <p>
+     * Readers are resolved once per type and cached, so that repeated reads don't have to
+     * construct the {@link com.fasterxml.jackson.databind.JavaType} and look up the root deserializer every time.
+     *
+     * @param type Java type to read
+     * @return cached {@link ObjectReader} for the given type
+     */
+    public ObjectReader getReader(Type type) {
+        ObjectReader reader = readers.get(type);
+        if (reader == null) {
+            reader = objectMapper.readerFor(objectMapper.getTypeFactory().constructType(type));
+            readers.putIfAbsent(type, reader);
+        }
+        return reader;
+    }
+
     public <T> T fromString(String string, Class<T> clazz) {
         try {
-            return objectMapper.readValue(string, clazz);
+            return getReader(clazz).readValue(string);
         } catch (IOException e) {
             throw new IllegalArgumentException("The given string value: " + string + " cannot be transformed to Json object", e);
         }
@@ -47,7 +75,7 @@ public class ObjectMapperWrapper {
 
     public <T> T fromString(String string, Type type) {
         try {
-            return objectMapper.readValue(string, objectMapper.getTypeFactory().constructType(type));
+            return getReader(type).readValue(string);
         } catch (IOException e) {
             throw new IllegalArgumentException("The given string value: " + string + " cannot be transformed to Json object", e);
         }
@@ -72,4 +100,90 @@ public class ObjectMapperWrapper {
     public <T> T clone(T value) {
         return jsonSerializer.clone(value);
     }
+
+    /**
+     * Serialize the given value to its canonical JSON form, in which object keys are sorted,
+     * numbers are normalized and no whitespace is used. A {@link String} value is considered to be a JSON document.
+     * <p>
+     * Two values describing the same JSON document have the same canonical form, no matter
+     * the property order or the number representation they use.
+     *
+     * @param value Json object value
+     * @return UTF-8 encoded canonical JSON
+     */
+    public byte[] toCanonicalBytes(Object value) {
+        JsonNode node;
+        if (value instanceof JsonNode) {
+            node = (JsonNode) value;
+        } else if (value instanceof String) {
+            node = toJsonNode((String) value);
+        } else {
+            node = objectMapper.valueToTree(value);
+        }
+
+        ByteArrayBuilder builder = new ByteArrayBuilder();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(builder)) {
+            writeCanonical(node, generator);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("The given Json object value: " + value + " cannot be transformed to a canonical form", e);
+        }
+        return builder.toByteArray();
+    }
+
+    /**
+     * Compute the 128-bit hash of the canonical JSON form of the given value.
+     *
+     * @param value Json object value
+     * @return {@link ContentHash} of the canonical JSON form
+     */
+    public ContentHash contentHash(Object value) {
+        return ContentHash.of(toCanonicalBytes(value));
+    }
+
+    private static void writeCanonical(JsonNode node, JsonGenerator generator) throws IOException {
+        if (node.isObject()) {
+            String[] fieldNames = new String[node.size()];
+            Iterator<String> iterator = node.fieldNames();
+            for (int i = 0; i < fieldNames.length; i++) {
+                fieldNames[i] = iterator.next();
+            }
+            Arrays.sort(fieldNames);
+            generator.writeStartObject();
+            for (String fieldName : fieldNames) {
+                generator.writeFieldName(fieldName);
+                writeCanonical(node.get(fieldName), generator);
+            }
+            generator.writeEndObject();
+        } else if (node.isArray()) {
+            generator.writeStartArray();
+            for (int i = 0; i < node.size(); i++) {
+                writeCanonical(node.get(i), generator);
+            }
+            generator.writeEndArray();
+        } else if (node.isNumber()) {
+            writeCanonicalNumber(node, generator);
+        } else {
+            generator.writeTree(node);
+        }
+    }
+
+    private static void writeCanonicalNumber(JsonNode node, JsonGenerator generator) throws IOException {
+        if (node.isIntegralNumber()) {
+            generator.writeNumber(node.bigIntegerValue());
+        } else if ((node.isDouble() || node.isFloat()) && !Double.isFinite(node.doubleValue())) {
+            generator.writeNumber(node.doubleValue());
+        } else {
+            BigDecimal number = node.decimalValue();
+            if (number.signum() == 0) {
+                generator.writeNumber(0);
+            } else {
+                number = number.stripTrailingZeros();
+                if (number.scale() <= 0 && number.precision() - number.scale() <= 20) {
+                    generator.writeNumber(number.toBigIntegerExact());
+                } else {
+                    generator.writeNumber(number.toString());
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,191 @@
+package com.krish.type.array;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Compares {@link IntBitmapSet} with a {@link TreeSet} over random operations, including negative values
+ * and containers crossing the array to bitmap threshold in both directions.
+ */
+public class IntBitmapSetTest {
+
+    private static final int ARRAY_MAX_CARDINALITY = 4096;
+
+    @Test
+    public void testRandomOperations() {
+        Random random = new Random(40);
+        for (int round = 0; round < 20; round++) {
+            IntBitmapSet set = new IntBitmapSet();
+            TreeSet<Integer> expected = new TreeSet<>();
+            int bound = 1 << (4 + random.nextInt(20));
+            for (int i = 0; i < 5000; i++) {
+                int value = randomValue(random, bound);
+                if (random.nextInt(3) == 0) {
+                    assertEquals(expected.remove(value), set.remove(value));
+                } else {
+                    assertEquals(expected.add(value), set.add(value));
+                }
+                int probe = randomValue(random, bound);
+                assertEquals(expected.contains(probe), set.contains(probe));
+            }
+            assertValues(expected, set);
+        }
+    }
+
+    @Test
+    public void testThreshold() {
+        for (int base : new int[]{0, -65536, 1 << 20, Integer.MIN_VALUE, Integer.MAX_VALUE - 65535}) {
+            IntBitmapSet set = new IntBitmapSet();
+            TreeSet<Integer> expected = new TreeSet<>();
+            for (int i = 0; i < ARRAY_MAX_CARDINALITY; i++) {
+                set.add(base + 2 * i);
+                expected.add(base + 2 * i);
+            }
+            assertValues(expected, set);
+
+            set.add(base + 1);
+            expected.add(base + 1);
+            assertValues(expected, set);
+
+            set.remove(base + 1);
+            expected.remove(base + 1);
+            assertValues(expected, set);
+
+            set.remove(base);
+            expected.remove(base);
+            assertValues(expected, set);
+
+            for (int i = 0; i < ARRAY_MAX_CARDINALITY; i++) {
+                assertEquals(expected.remove(base + 2 * i), set.remove(base + 2 * i));
+            }
+            assertTrue(set.isEmpty());
+            assertValues(expected, set);
+        }
+    }
+
+    @Test
+    public void testUnionAndIntersection() {
+        Random random = new Random(41);
+        for (int round = 0; round < 50; round++) {
+            int bound = 1 << (4 + random.nextInt(20));
+            IntBitmapSet left = new IntBitmapSet();
+            IntBitmapSet right = new IntBitmapSet();
+            TreeSet<Integer> leftExpected = new TreeSet<>();
+            TreeSet<Integer> rightExpected = new TreeSet<>();
+            int leftSize = random.nextInt(2 * ARRAY_MAX_CARDINALITY);
+            int rightSize = random.nextInt(2 * ARRAY_MAX_CARDINALITY);
+            for (int i = 0; i < leftSize; i++) {
+                int value = randomValue(random, bound);
+                left.add(value);
+                leftExpected.add(value);
+            }
+            for (int i = 0; i < rightSize; i++) {
+                int value = randomValue(random, bound);
+                right.add(value);
+                rightExpected.add(value);
+            }
+
+            TreeSet<Integer> union = new TreeSet<>(leftExpected);
+            union.addAll(rightExpected);
+            assertValues(union, left.union(right));
+            assertValues(union, right.union(left));
+
+            TreeSet<Integer> intersection = new TreeSet<>(leftExpected);
+            intersection.retainAll(rightExpected);
+            assertValues(intersection, left.intersect(right));
+            assertValues(intersection, right.intersect(left));
+
+            assertValues(leftExpected, left);
+            assertValues(rightExpected, right);
+        }
+    }
+
+    @Test
+    public void testByteArray() {
+        Random random = new Random(42);
+        for (int round = 0; round < 30; round++) {
+            int bound = 1 << (4 + random.nextInt(20));
+            IntBitmapSet set = new IntBitmapSet();
+            TreeSet<Integer> expected = new TreeSet<>();
+            int size = random.nextInt(3 * ARRAY_MAX_CARDINALITY);
+            for (int i = 0; i < size; i++) {
+                int value = randomValue(random, bound);
+                set.add(value);
+                expected.add(value);
+            }
+            IntBitmapSet deserialized = IntBitmapSet.fromByteArray(set.toByteArray());
+            assertValues(expected, deserialized);
+            assertEquals(set, deserialized);
+            assertEquals(set.hashCode(), deserialized.hashCode());
+            assertArrayEquals(set.toByteArray(), deserialized.toByteArray());
+        }
+        assertValues(new TreeSet<>(), IntBitmapSet.fromByteArray(new IntBitmapSet().toByteArray()));
+    }
+
+    @Test
+    public void testInvalidByteArray() {
+        byte[] bytes = IntBitmapSet.of(-3, 1, 70000).toByteArray();
+        for (int length = 0; length < bytes.length; length++) {
+            try {
+                IntBitmapSet.fromByteArray(Arrays.copyOf(bytes, length));
+                fail("Truncated to " + length + " bytes");
+            } catch (IllegalArgumentException expected) {
+            }
+        }
+        try {
+            IntBitmapSet.fromByteArray(new byte[]{-1, -1, -1, -1});
+            fail("Negative container count");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    public void testDirtyChecking() {
+        IntBitmapSet set = IntBitmapSet.of(1, 2, 3);
+        IntBitmapSet copy = set.copy();
+        assertTrue(copy.isUnmodifiedCopyOf(set));
+        assertFalse(set.add(2));
+        assertTrue(copy.isUnmodifiedCopyOf(set));
+        set.add(4);
+        assertFalse(copy.isUnmodifiedCopyOf(set));
+        assertTrue(copy.isCopyOf(set));
+    }
+
+    private static int randomValue(Random random, int bound) {
+        switch (random.nextInt(8)) {
+            case 0:
+                return Integer.MIN_VALUE + random.nextInt(bound);
+            case 1:
+                return Integer.MAX_VALUE - random.nextInt(bound);
+            default:
+                return random.nextInt(bound) - bound / 2;
+        }
+    }
+
+    private static void assertValues(TreeSet<Integer> expected, IntBitmapSet set) {
+        assertEquals(expected.size(), set.size());
+        assertEquals(expected.isEmpty(), set.isEmpty());
+        int[] values = new int[expected.size()];
+        int i = 0;
+        for (int value : expected) {
+            values[i++] = value;
+        }
+        assertArrayEquals(values, set.toArray());
+        int[] visited = new int[values.length];
+        int[] count = new int[1];
+        set.forEach(value -> visited[count[0]++] = value);
+        assertArrayEquals(values, visited);
+        for (int value : values) {
+            assertTrue(set.contains(value));
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.krish.type.array;
+
+import com.krish.type.array.benchmark.InMemoryPreparedStatement;
+import com.krish.type.array.benchmark.InMemoryResultSet;
+import com.krish.type.array.internal.ArrayUtil;
+
+import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Flushes {@link LongAppendList} values the way Hibernate does, against a column whose updates are applied like the
+ * {@link LongAppendListType#updateExpression(String)} expression does.
+ */
+public class LongAppendListTypeTest {
+
+    private final LongAppendListType type = LongAppendListType.INSTANCE;
+
+    @SuppressWarnings("unchecked")
+    private final JavaTypeDescriptor<LongAppendList> descriptor = type.getJavaTypeDescriptor();
+
+    @Test
+    public void testAppendFlushAppendFlush() throws SQLException {
+        long[] column = {1, 2, 3};
+        LongAppendList list = load(column);
+        LongAppendList loadedState = descriptor.getMutabilityPlan().deepCopy(list);
+
+        list.addLong(4);
+        list.addLong(5);
+        assertFalse(descriptor.areEqual(loadedState, list));
+        String parameter = bind(list);
+        assertEquals(LongAppendListType.APPEND_PREFIX + "[4:5]={4,5}", parameter);
+        column = update(column, parameter);
+        assertArrayEquals(new long[]{1, 2, 3, 4, 5}, column);
+        loadedState = descriptor.getMutabilityPlan().deepCopy(list);
+        assertTrue(descriptor.areEqual(loadedState, list));
+
+        list.addLong(6);
+        assertFalse(descriptor.areEqual(loadedState, list));
+        parameter = bind(list);
+        assertEquals(LongAppendListType.APPEND_PREFIX + "[4:6]={4,5,6}", parameter);
+        column = update(column, parameter);
+        assertArrayEquals(list.toLongArray(), column);
+    }
+
+    @Test
+    public void testRollback() throws SQLException {
+        long[] column = {1, 2, 3};
+        LongAppendList list = load(column);
+        list.addLong(4);
+
+        String parameter = bind(list);
+        long[] rolledBack = update(column, parameter);
+        assertArrayEquals(new long[]{1, 2, 3, 4}, rolledBack);
+
+        assertEquals(3, list.getPersistedSize());
+        assertEquals(parameter, bind(list));
+        list.addLong(5);
+        assertArrayEquals(new long[]{1, 2, 3, 4, 5}, update(column, bind(list)));
+    }
+
+    @Test
+    public void testChangedPersistedElements() throws SQLException {
+        LongAppendList list = load(new long[]{1, 2, 3});
+        list.addLong(4);
+        list.setLong(0, 9);
+        assertEquals("{9,2,3,4}", bind(list));
+
+        list = load(new long[]{1, 2, 3});
+        list.removeLong(2);
+        assertEquals("{1,2}", bind(list));
+    }
+
+    @Test
+    public void testNewList() throws SQLException {
+        assertEquals("{1,2}", bind(LongAppendList.of(1, 2)));
+        assertEquals("{}", bind(new LongAppendList()));
+        assertEquals("{1,2,3,4}", bind(new LongAppendList(load(new long[]{1, 2, 3, 4}).toLongArray())));
+    }
+
+    /**
+     * Persisting a copy of a loaded and appended list, or binding it as a query parameter, must not write or compare
+     * the appended elements only, so the bound value is not a valid {@code bigint[]} literal.
+     */
+    @Test
+    public void testAppendedElementsAreNotAnArray() throws SQLException {
+        LongAppendList list = load(new long[]{1, 2, 3});
+        list.addLong(4);
+        LongAppendList copy = (LongAppendList) list.copy();
+        String parameter = bind(copy);
+        assertTrue(parameter.startsWith(LongAppendListType.APPEND_PREFIX));
+        try {
+            ArrayUtil.fromString(parameter, long[].class);
+            fail("The appended elements should not be accepted as an array");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    public void testUpdateExpression() {
+        String expression = LongAppendListType.updateExpression("event_ids");
+        assertTrue(expression, expression.contains("left(v, 7) = 'append:' then substr(v, 8)"));
+        assertTrue(expression, expression.contains("event_ids[1:array_lower(d.a, 1) - 1]"));
+    }
+
+    private LongAppendList load(long[] column) throws SQLException {
+        InMemoryResultSet resultSet = new InMemoryResultSet();
+        resultSet.setColumn(ArrayUtil.toArrayLiteral(column), null);
+        @SuppressWarnings("unchecked")
+        LongAppendList list = (LongAppendList) type.getSqlTypeDescriptor().getExtractor(descriptor)
+            .extract(resultSet.getResultSet(), "event_ids", null);
+        return list;
+    }
+
+    private String bind(LongAppendList list) throws SQLException {
+        InMemoryPreparedStatement statement = new InMemoryPreparedStatement();
+        type.getSqlTypeDescriptor().getBinder(descriptor).bind(statement.getStatement(), list, 1, null);
+        return (String) statement.getParameter();
+    }
+
+    /**
+     * Apply the bound value like the {@link LongAppendListType#updateExpression(String)} expression: keep the column
+     * elements before the lower bound of the bound array, and concatenate the bound elements.
+     */
+    private static long[] update(long[] column, String parameter) {
+        String literal = parameter;
+        int lower = 1;
+        if (parameter.startsWith(LongAppendListType.APPEND_PREFIX)) {
+            literal = parameter.substring(LongAppendListType.APPEND_PREFIX.length());
+            lower = Integer.parseInt(literal.substring(1, literal.indexOf(':')));
+        }
+        long[] elements = ArrayUtil.fromString(literal, long[].class);
+        long[] result = Arrays.copyOf(column, lower - 1 + elements.length);
+        System.arraycopy(elements, 0, result, lower - 1, elements.length);
+        return result;
+    }
+}
@@ -0,0 +1,107 @@
+package com.krish.type.array;
+
+import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the version-based dirty checking of {@link LongList} and {@link IntList} values, where the persistence
+ * context snapshot is a {@link LongList#copy()} of the managed list.
+ */
+public class LongListArrayTypeTest {
+
+    @SuppressWarnings("unchecked")
+    private final JavaTypeDescriptor<LongList> longDescriptor = LongListArrayType.INSTANCE.getJavaTypeDescriptor();
+
+    @SuppressWarnings("unchecked")
+    private final JavaTypeDescriptor<IntList> intDescriptor = IntListArrayType.INSTANCE.getJavaTypeDescriptor();
+
+    @Test
+    public void testUnchanged() {
+        LongList list = LongList.of(1, 2, 3);
+        LongList snapshot = longDescriptor.getMutabilityPlan().deepCopy(list);
+        assertTrue(longDescriptor.areEqual(snapshot, list));
+        assertTrue(longDescriptor.areEqual(list, snapshot));
+        assertEquals(3, (long) list.get(2));
+        assertTrue(list.contains(2L));
+        assertTrue(longDescriptor.areEqual(snapshot, list));
+    }
+
+    @Test
+    public void testChanged() {
+        LongList list = LongList.of(1, 2, 3);
+        LongList snapshot = longDescriptor.getMutabilityPlan().deepCopy(list);
+        list.setLong(0, 9);
+        assertFalse(longDescriptor.areEqual(snapshot, list));
+
+        snapshot = longDescriptor.getMutabilityPlan().deepCopy(list);
+        list.addLong(4);
+        assertFalse(longDescriptor.areEqual(snapshot, list));
+
+        snapshot = longDescriptor.getMutabilityPlan().deepCopy(list);
+        list.removeLong(0);
+        assertFalse(longDescriptor.areEqual(snapshot, list));
+
+        snapshot = longDescriptor.getMutabilityPlan().deepCopy(list);
+        list.clear();
+        assertFalse(longDescriptor.areEqual(snapshot, list));
+
+        snapshot = longDescriptor.getMutabilityPlan().deepCopy(list);
+        snapshot.addLong(1);
+        assertFalse(longDescriptor.areEqual(snapshot, list));
+    }
+
+    /**
+     * The elements are only reachable through methods which bump the version, so writing to an exported array
+     * changes neither the list nor its dirty state.
+     */
+    @Test
+    public void testExportedArrayIsCopied() {
+        LongList list = LongList.of(1, 2, 3);
+        LongList snapshot = longDescriptor.getMutabilityPlan().deepCopy(list);
+        long[] values = list.toLongArray();
+        values[0] = 9;
+        assertArrayEquals(new long[]{1, 2, 3}, list.toLongArray());
+        assertTrue(longDescriptor.areEqual(snapshot, list));
+
+        LongAppendList appendList = LongAppendListType.INSTANCE.getJavaTypeDescriptor().fromString("{1,2,3}");
+        appendList.toLongArray()[0] = 9;
+        appendList.addLong(4);
+        assertTrue(appendList.isAppendOnly());
+        assertEquals(LongList.of(1, 2, 3, 4), appendList);
+    }
+
+    @Test
+    public void testUnrelatedLists() {
+        assertTrue(longDescriptor.areEqual(LongList.of(1, 2), LongList.of(1, 2)));
+        assertFalse(longDescriptor.areEqual(LongList.of(1, 2), LongList.of(2, 1)));
+        assertFalse(longDescriptor.areEqual(LongList.of(1, 2), null));
+        assertTrue(longDescriptor.areEqual(null, null));
+    }
+
+    @Test
+    public void testIntList() {
+        IntList list = IntList.of(1, 2, 3);
+        IntList snapshot = intDescriptor.getMutabilityPlan().deepCopy(list);
+        list.toIntArray()[0] = 9;
+        assertTrue(intDescriptor.areEqual(snapshot, list));
+        list.setInt(0, 9);
+        assertFalse(intDescriptor.areEqual(snapshot, list));
+        assertEquals("{9,2,3}", intDescriptor.toString(list));
+        assertEquals(list, intDescriptor.fromString("{9,2,3}"));
+    }
+
+    @Test
+    public void testToString() {
+        LongList list = new LongList(2);
+        assertEquals("{}", longDescriptor.toString(list));
+        list.addLong(Long.MIN_VALUE);
+        list.addLong(7);
+        list.addLong(-1);
+        assertEquals("{-9223372036854775808,7,-1}", longDescriptor.toString(list));
+    }
+}
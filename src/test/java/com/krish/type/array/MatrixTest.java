@@ -0,0 +1,75 @@
+package com.krish.type.array;
+
+import com.krish.type.array.internal.DoubleMatrixTypeDescriptor;
+import com.krish.type.array.internal.IntMatrixTypeDescriptor;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks the {@link IntMatrix} and {@link DoubleMatrix} shapes and their round-trips through array literals.
+ */
+public class MatrixTest {
+
+    @Test
+    public void testRoundTrip() {
+        Random random = new Random(35);
+        IntMatrixTypeDescriptor intDescriptor = new IntMatrixTypeDescriptor();
+        DoubleMatrixTypeDescriptor doubleDescriptor = new DoubleMatrixTypeDescriptor();
+        for (int i = 0; i < 1000; i++) {
+            int rows = random.nextInt(5);
+            int columns = rows == 0 ? 0 : 1 + random.nextInt(5);
+            IntMatrix intMatrix = new IntMatrix(rows, columns);
+            DoubleMatrix doubleMatrix = new DoubleMatrix(rows, columns);
+            for (int row = 0; row < rows; row++) {
+                for (int column = 0; column < columns; column++) {
+                    intMatrix.set(row, column, random.nextInt());
+                    doubleMatrix.set(row, column, random.nextGaussian());
+                }
+            }
+            IntMatrix intCopy = intDescriptor.fromString(intDescriptor.toString(intMatrix));
+            assertEquals(intMatrix, intCopy);
+            assertTrue(intDescriptor.areEqual(intMatrix, intCopy));
+            assertEquals(intMatrix, IntMatrix.of(intMatrix.toArray()));
+
+            DoubleMatrix doubleCopy = doubleDescriptor.fromString(doubleDescriptor.toString(doubleMatrix));
+            assertEquals(doubleMatrix, doubleCopy);
+            assertTrue(doubleDescriptor.areEqual(doubleMatrix, doubleCopy));
+            assertEquals(doubleMatrix, DoubleMatrix.of(doubleMatrix.toArray()));
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        assertEquals("{}", new IntMatrixTypeDescriptor().toString(new IntMatrix(0, 0)));
+        assertEquals(new IntMatrix(0, 0), IntMatrix.of(new int[0][]));
+        assertEquals(new DoubleMatrix(0, 0), DoubleMatrix.of(new double[0][]));
+    }
+
+    @Test
+    public void testInvalidShapes() {
+        assertRejected(() -> new IntMatrix(2, 0));
+        assertRejected(() -> new IntMatrix(0, 3));
+        assertRejected(() -> new IntMatrix(-1, -1));
+        assertRejected(() -> new IntMatrix(2, 2, new int[3]));
+        assertRejected(() -> IntMatrix.of(new int[2][0]));
+        assertRejected(() -> IntMatrix.of(new int[][]{{1, 2}, {3}}));
+        assertRejected(() -> new DoubleMatrix(2, 0));
+        assertRejected(() -> new DoubleMatrix(0, 3));
+        assertRejected(() -> DoubleMatrix.of(new double[2][0]));
+        assertRejected(() -> DoubleMatrix.of(new double[][]{{1}, {2, 3}}));
+    }
+
+    private static void assertRejected(Runnable runnable) {
+        try {
+            runnable.run();
+            fail("The matrix shape should be rejected");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+}
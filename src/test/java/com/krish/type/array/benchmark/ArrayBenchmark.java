@@ -0,0 +1,531 @@
+package com.krish.type.array.benchmark;
+
+import com.krish.type.AbstractHibernateType;
+import com.krish.type.array.EnumArrayType;
+import com.krish.type.array.IntArrayType;
+import com.krish.type.array.LongArrayType;
+import com.krish.type.array.StringArrayType;
+import com.krish.type.array.UUIDArrayType;
+import com.krish.type.array.internal.ArrayUtil;
+import com.krish.type.util.ParameterizedParameterType;
+
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.ValueExtractor;
+import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
+import org.hibernate.usertype.DynamicParameterizedType;
+
+import java.lang.management.ManagementFactory;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time and the heap allocation per operation of the {@link IntArrayType}, {@link LongArrayType},
+ * {@link StringArrayType}, {@link UUIDArrayType} and {@link EnumArrayType} code paths, so that regressions in
+ * {@link ArrayUtil} or in the array binders and extractors show up before they reach an application.
+ * <p>
+ * Every array type is measured on arrays of {@link #SIZES} elements, a {@link #NULL_DENSITIES} fraction of which
+ * are {@code NULL} in the database. Primitive arrays hold {@code 0} in place of the {@code NULL} elements.
+ * The operations are:
+ * <ul>
+ * <li>{@link ArrayUtil#wrapArray(Object)}, {@link ArrayUtil#unwrapArray(Object[], Class)},
+ * {@link ArrayUtil#fromString(String, Class)}, {@link ArrayUtil#isEquals(Object, Object)} and
+ * {@link ArrayUtil#deepCopy(Object)},</li>
+ * <li>{@code fromStringRegex}, the {@link RegexArrayLiteralParser} baseline of {@code fromString}, parsing the same
+ * elements in the {@code [1,2,3]} format it supports,</li>
+ * <li>the {@link com.krish.type.array.internal.ArraySqlTypeDescriptor} binder, against an
+ * {@link InMemoryPreparedStatement},</li>
+ * <li>{@code bindCreateArrayOf}, the baseline of the {@code int[]} and {@code long[]} binders, which boxed the
+ * elements with {@link ArrayUtil#wrapArray(Object)} and bound them through
+ * {@link java.sql.Connection#createArrayOf(String, Object[])}, along with the array literal which the PostgreSQL
+ * driver renders from the boxed elements, since the {@link InMemoryArray} stand-in does not,</li>
+ * <li>the {@link com.krish.type.array.internal.ArraySqlTypeDescriptor} extractor, against an
+ * {@link InMemoryResultSet}.</li>
+ * </ul>
+ * The dirty checking of large arrays is measured separately, on arrays of {@link #EQUALITY_SIZES} elements without
+ * {@code NULL} elements, comparing the {@link org.hibernate.type.descriptor.java.JavaTypeDescriptor#areEqual} method
+ * of each array type, which resolves the equality check of its array class once, with the
+ * {@link ArrayUtil#isEquals(Object, Object)} class dispatch.
+ * <p>
+ * Each operation is warmed up, then run in batches until the measurement time is reached. The time per operation
+ * is the wall-clock time of the batches, and the bytes per operation are read from
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}, so the JVM has to support thread allocation
+ * measurement. The JDBC stand-ins are {@link java.lang.reflect.Proxy} instances, whose dispatch cost is the same for
+ * all the array types.
+ * <p>
+ * Run it from the project directory, after {@code mvn test-compile}:
+ * <pre>{@code
+ *     mvn -q dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+ *     java -cp target/test-classes:target/classes:$(cat target/classpath.txt) com.krish.type.array.benchmark.ArrayBenchmark [warmupMillis] [measurementMillis]
+ * }</pre>
+ */
+public class ArrayBenchmark {
+
+    public static final int[] SIZES = {0, 16, 1024, 65536};
+
+    public static final double[] NULL_DENSITIES = {0, 0.1, 0.5};
+
+    public static final int[] EQUALITY_SIZES = {1024, 16384, 131072, 1048576};
+
+    private static final String COLUMN = "values";
+
+    private static final long SEED = 42;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * Enum mapped by the {@link EnumArrayType} case.
+     */
+    public enum Shade {
+        RED, ORANGE, YELLOW, GREEN, BLUE, INDIGO, VIOLET
+    }
+
+    private final long warmupNanos;
+
+    private final long measurementNanos;
+
+    private volatile Object blackhole;
+
+    public ArrayBenchmark(long warmupMillis, long measurementMillis) {
+        if (!THREAD_MX_BEAN.isThreadAllocatedMemorySupported()) {
+            throw new IllegalStateException("The JVM does not support thread allocation measurement!");
+        }
+        THREAD_MX_BEAN.setThreadAllocatedMemoryEnabled(true);
+        this.warmupNanos = TimeUnit.MILLISECONDS.toNanos(warmupMillis);
+        this.measurementNanos = TimeUnit.MILLISECONDS.toNanos(measurementMillis);
+    }
+
+    public static void main(String[] args) {
+        long warmupMillis = args.length > 0 ? Long.parseLong(args[0]) : 500;
+        long measurementMillis = args.length > 1 ? Long.parseLong(args[1]) : 1000;
+        ArrayBenchmark benchmark = new ArrayBenchmark(warmupMillis, measurementMillis);
+        System.out.println(Result.HEADER);
+        for (Case benchmarkCase : cases()) {
+            for (Result result : benchmark.run(benchmarkCase, SIZES, NULL_DENSITIES)) {
+                System.out.println(result);
+            }
+        }
+        for (Case benchmarkCase : cases()) {
+            for (Result result : benchmark.runEquality(benchmarkCase, EQUALITY_SIZES)) {
+                System.out.println(result);
+            }
+        }
+    }
+
+    /**
+     * Get the measured array types.
+     *
+     * @return benchmark cases
+     */
+    public static List<Case> cases() {
+        return Arrays.asList(
+            new Case("int[]", IntArrayType.INSTANCE, int[].class, Integer[].class, random -> random.nextInt(), true),
+            new Case("long[]", LongArrayType.INSTANCE, long[].class, Long[].class, random -> random.nextLong(), true),
+            new Case("String[]", StringArrayType.INSTANCE, String[].class, String[].class, ArrayBenchmark::randomString, false),
+            new Case("UUID[]", UUIDArrayType.INSTANCE, UUID[].class, UUID[].class,
+                random -> new UUID(random.nextLong(), random.nextLong()), false),
+            new Case("Enum[]", shadeArrayType(), Shade[].class, Shade[].class,
+                random -> Shade.values()[random.nextInt(Shade.values().length)], false)
+        );
+    }
+
+    /**
+     * Build the {@link EnumArrayType} the way Hibernate does for a {@code Shade[]} entity attribute.
+     */
+    private static EnumArrayType shadeArrayType() {
+        EnumArrayType type = new EnumArrayType();
+        Properties parameters = new Properties();
+        parameters.setProperty(EnumArrayType.SQL_ARRAY_TYPE, "shade");
+        parameters.put(DynamicParameterizedType.PARAMETER_TYPE, new ParameterizedParameterType(Shade[].class));
+        type.setParameterValues(parameters);
+        return type;
+    }
+
+    /**
+     * Mostly plain strings, with the occasional comma, quote or backslash that PostgreSQL requires to be escaped.
+     */
+    private static String randomString(Random random) {
+        StringBuilder builder = new StringBuilder("item-").append(random.nextInt(1_000_000));
+        if (random.nextInt(16) == 0) {
+            builder.append(", \"quoted\" \\");
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Measure all the operations of the given array type.
+     *
+     * @param benchmarkCase  array type
+     * @param sizes          array sizes
+     * @param nullDensities  fractions of {@code NULL} elements
+     * @return one result per operation, size and null density
+     */
+    public List<Result> run(Case benchmarkCase, int[] sizes, double[] nullDensities) {
+        List<Result> results = new ArrayList<>();
+        for (int size : sizes) {
+            for (double nullDensity : nullDensities) {
+                Dataset dataset = benchmarkCase.dataset(size, nullDensity, new Random(SEED));
+                for (Operation operation : operations(benchmarkCase, dataset)) {
+                    results.add(measure(benchmarkCase, operation, size, nullDensity));
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Measure the {@code areEqual} dirty check of the given array type, and its {@code isEquals} baseline,
+     * on equal arrays without {@code NULL} elements.
+     *
+     * @param benchmarkCase array type
+     * @param sizes         array sizes
+     * @return two results per size
+     */
+    @SuppressWarnings("unchecked")
+    public List<Result> runEquality(Case benchmarkCase, int[] sizes) {
+        JavaTypeDescriptor descriptor = benchmarkCase.type.getJavaTypeDescriptor();
+        List<Result> results = new ArrayList<>();
+        for (int size : sizes) {
+            Dataset dataset = benchmarkCase.dataset(size, 0, new Random(SEED));
+            results.add(measure(benchmarkCase, new Operation("areEqual",
+                () -> descriptor.areEqual(dataset.value, dataset.copy)), size, 0));
+            results.add(measure(benchmarkCase, new Operation("isEquals",
+                () -> ArrayUtil.isEquals(dataset.value, dataset.copy)), size, 0));
+        }
+        return results;
+    }
+
+    private List<Operation> operations(Case benchmarkCase, Dataset dataset) {
+        Class arrayClass = benchmarkCase.arrayClass;
+        ValueBinder binder = benchmarkCase.binder();
+        ValueExtractor extractor = benchmarkCase.extractor();
+        InMemoryPreparedStatement statement = new InMemoryPreparedStatement();
+        InMemoryResultSet resultSet = new InMemoryResultSet();
+        resultSet.setColumn(dataset.literal, new InMemoryArray(benchmarkCase.type.getName(), dataset.elements));
+        List<Operation> operations = new ArrayList<>(Arrays.asList(
+            new Operation("wrapArray", () -> ArrayUtil.wrapArray(dataset.value)),
+            new Operation("unwrapArray", () -> ArrayUtil.unwrapArray(dataset.elements, arrayClass)),
+            new Operation("fromString", () -> ArrayUtil.fromString(dataset.literal, arrayClass)),
+            new Operation("isEquals", () -> ArrayUtil.isEquals(dataset.value, dataset.copy)),
+            new Operation("deepCopy", () -> ArrayUtil.deepCopy(dataset.value)),
+            new Operation("bind", () -> {
+                binder.bind(statement.getStatement(), dataset.value, 1, null);
+                return statement.getParameter();
+            }),
+            new Operation("extract", () -> extractor.extract(resultSet.getResultSet(), COLUMN, null))
+        ));
+        if (benchmarkCase.primitive) {
+            operations.add(new Operation("bindCreateArrayOf", () -> {
+                PreparedStatement preparedStatement = statement.getStatement();
+                Object[] elements = ArrayUtil.wrapArray(dataset.value);
+                preparedStatement.setArray(1, preparedStatement.getConnection().createArrayOf(
+                    benchmarkCase.type.getName(), elements
+                ));
+                return driverArrayLiteral(elements);
+            }));
+        }
+        if (dataset.elements.length > 0) {
+            operations.add(new Operation("fromStringRegex", () -> RegexArrayLiteralParser.fromString(dataset.regexLiteral, arrayClass)));
+        }
+        return operations;
+    }
+
+    /**
+     * Render the boxed elements the way {@code PgConnection#createArrayOf} does in the 42.2 PostgreSQL driver:
+     * every element is converted with {@link Object#toString()} and quoted.
+     */
+    private static String driverArrayLiteral(Object[] elements) {
+        StringBuilder builder = new StringBuilder().append('{');
+        for (int i = 0; i < elements.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            String element = elements[i].toString();
+            builder.append('"');
+            for (int j = 0; j < element.length(); j++) {
+                char c = element.charAt(j);
+                if (c == '"' || c == '\\') {
+                    builder.append('\\');
+                }
+                builder.append(c);
+            }
+            builder.append('"');
+        }
+        return builder.append('}').toString();
+    }
+
+    private Result measure(Case benchmarkCase, Operation operation, int size, double nullDensity) {
+        long threadId = Thread.currentThread().getId();
+        run(operation, warmupNanos);
+        long operations = 0;
+        long elapsedNanos = 0;
+        long allocatedBytes = 0;
+        int batch = 1;
+        do {
+            long startBytes = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+            long startNanos = System.nanoTime();
+            for (int i = 0; i < batch; i++) {
+                blackhole = operation.invoke();
+            }
+            elapsedNanos += System.nanoTime() - startNanos;
+            allocatedBytes += THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - startBytes;
+            operations += batch;
+            if (batch < (1 << 20)) {
+                batch <<= 1;
+            }
+        } while (elapsedNanos < measurementNanos);
+        return new Result(
+            benchmarkCase.name, operation.name, size, nullDensity,
+            (double) elapsedNanos / operations, (double) allocatedBytes / operations
+        );
+    }
+
+    private void run(Operation operation, long nanos) {
+        long end = System.nanoTime() + nanos;
+        do {
+            for (int i = 0; i < 64; i++) {
+                blackhole = operation.invoke();
+            }
+        } while (System.nanoTime() < end);
+    }
+
+    /**
+     * Array type under measurement, along with the generator of its elements.
+     */
+    public static class Case {
+
+        private final String name;
+
+        private final AbstractHibernateType type;
+
+        private final Class arrayClass;
+
+        private final Class elementsClass;
+
+        private final ElementGenerator generator;
+
+        private final boolean primitive;
+
+        Case(String name, AbstractHibernateType type, Class arrayClass, Class elementsClass,
+                ElementGenerator generator, boolean primitive) {
+            this.name = name;
+            this.type = type;
+            this.arrayClass = arrayClass;
+            this.elementsClass = elementsClass;
+            this.generator = generator;
+            this.primitive = primitive;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public AbstractHibernateType getType() {
+            return type;
+        }
+
+        @SuppressWarnings("unchecked")
+        public ValueBinder binder() {
+            return type.getSqlTypeDescriptor().getBinder(type.getJavaTypeDescriptor());
+        }
+
+        @SuppressWarnings("unchecked")
+        public ValueExtractor extractor() {
+            return type.getSqlTypeDescriptor().getExtractor(type.getJavaTypeDescriptor());
+        }
+
+        /**
+         * Generate an array of the given size, where each element is {@code NULL} in the database with the given
+         * probability.
+         *
+         * @param size        number of elements
+         * @param nullDensity fraction of {@code NULL} elements
+         * @param random      source of the elements
+         * @return dataset
+         */
+        public Dataset dataset(int size, double nullDensity, Random random) {
+            Object[] elements = (Object[]) java.lang.reflect.Array.newInstance(elementsClass.getComponentType(), size);
+            for (int i = 0; i < size; i++) {
+                elements[i] = random.nextDouble() < nullDensity ? null : generator.next(random);
+            }
+            Object value;
+            if (primitive) {
+                Object[] nonNullElements = elements.clone();
+                for (int i = 0; i < size; i++) {
+                    if (nonNullElements[i] == null) {
+                        nonNullElements[i] = Long[].class.equals(elementsClass) ? (Object) 0L : (Object) 0;
+                    }
+                }
+                value = ArrayUtil.unwrapArray(nonNullElements, arrayClass);
+            } else {
+                value = elements.clone();
+            }
+            return new Dataset(value, ArrayUtil.deepCopy(value), elements, literal(elements, primitive), regexLiteral(value));
+        }
+
+        /**
+         * Render the array in the {@code [1,2,3]} format of {@link RegexArrayLiteralParser}, which cannot parse empty
+         * arrays.
+         */
+        private static String regexLiteral(Object value) {
+            StringBuilder builder = new StringBuilder("[");
+            Object[] array = ArrayUtil.wrapArray(value);
+            for (int i = 0; i < array.length; i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                builder.append(array[i] instanceof Enum ? ((Enum) array[i]).name() : array[i]);
+            }
+            return builder.append(']').toString();
+        }
+
+        /**
+         * Render the array the way PostgreSQL sends it in text form: numbers unquoted, and other elements quoted.
+         */
+        private static String literal(Object[] elements, boolean primitive) {
+            if (!primitive) {
+                return ArrayUtil.toQuotedArrayLiteral(elements);
+            }
+            StringBuilder builder = new StringBuilder("{");
+            for (int i = 0; i < elements.length; i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                builder.append(elements[i] != null ? elements[i] : "NULL");
+            }
+            return builder.append('}').toString();
+        }
+    }
+
+    /**
+     * The same array in the forms taken by each operation.
+     */
+    public static class Dataset {
+
+        private final Object value;
+
+        private final Object copy;
+
+        private final Object[] elements;
+
+        private final String literal;
+
+        private final String regexLiteral;
+
+        Dataset(Object value, Object copy, Object[] elements, String literal, String regexLiteral) {
+            this.value = value;
+            this.copy = copy;
+            this.elements = elements;
+            this.literal = literal;
+            this.regexLiteral = regexLiteral;
+        }
+
+        /**
+         * @return the entity attribute value
+         */
+        public Object getValue() {
+            return value;
+        }
+
+        /**
+         * @return the elements, as given by {@link java.sql.Array#getArray()}
+         */
+        public Object[] getElements() {
+            return elements;
+        }
+
+        /**
+         * @return the array literal, as given by {@link java.sql.ResultSet#getString(String)}
+         */
+        public String getLiteral() {
+            return literal;
+        }
+    }
+
+    /**
+     * Time and allocation of an operation.
+     */
+    public static class Result {
+
+        static final String HEADER = String.format(
+            "%-10s %-18s %8s %6s %14s %14s", "type", "operation", "size", "nulls", "ns/op", "bytes/op"
+        );
+
+        private final String type;
+
+        private final String operation;
+
+        private final int size;
+
+        private final double nullDensity;
+
+        private final double nanosPerOperation;
+
+        private final double bytesPerOperation;
+
+        Result(String type, String operation, int size, double nullDensity, double nanosPerOperation, double bytesPerOperation) {
+            this.type = type;
+            this.operation = operation;
+            this.size = size;
+            this.nullDensity = nullDensity;
+            this.nanosPerOperation = nanosPerOperation;
+            this.bytesPerOperation = bytesPerOperation;
+        }
+
+        public String getOperation() {
+            return operation;
+        }
+
+        public double getNanosPerOperation() {
+            return nanosPerOperation;
+        }
+
+        public double getBytesPerOperation() {
+            return bytesPerOperation;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "%-10s %-18s %8d %5.0f%% %14.1f %14.1f",
+                type, operation, size, nullDensity * 100, nanosPerOperation, bytesPerOperation
+            );
+        }
+    }
+
+    @FunctionalInterface
+    interface ElementGenerator {
+        Object next(Random random);
+    }
+
+    private static class Operation {
+
+        private final String name;
+
+        private final Invocation invocation;
+
+        Operation(String name, Invocation invocation) {
+            this.name = name;
+            this.invocation = invocation;
+        }
+
+        Object invoke() {
+            try {
+                return invocation.invoke();
+            } catch (Exception e) {
+                throw new IllegalStateException("The operation: " + name + " failed", e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Invocation {
+        Object invoke() throws Exception;
+    }
+}
@@ -0,0 +1,93 @@
+package com.krish.type.array.benchmark;
+
+import com.krish.type.array.internal.ArrayUtil;
+
+import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that the {@link ArrayBenchmark} datasets and JDBC stand-ins round-trip every array type, so that the
+ * benchmark measures working code paths, and runs the whole suite with a minimal measurement time.
+ */
+public class ArrayBenchmarkTest {
+
+    private static final int[] SIZES = {0, 1, 100};
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRoundTrip() throws Exception {
+        for (ArrayBenchmark.Case benchmarkCase : ArrayBenchmark.cases()) {
+            JavaTypeDescriptor descriptor = benchmarkCase.getType().getJavaTypeDescriptor();
+            for (int size : SIZES) {
+                for (double nullDensity : ArrayBenchmark.NULL_DENSITIES) {
+                    String message = benchmarkCase.getName() + " of " + size + " elements, " + nullDensity + " nulls";
+                    ArrayBenchmark.Dataset dataset = benchmarkCase.dataset(size, nullDensity, new Random(size));
+                    Object value = dataset.getValue();
+                    Class arrayClass = value.getClass();
+
+                    assertTrue(message, ArrayUtil.isEquals(value, ArrayUtil.unwrapArray(dataset.getElements(), arrayClass)));
+                    assertTrue(message, ArrayUtil.isEquals(value, ArrayUtil.fromString(dataset.getLiteral(), arrayClass)));
+
+                    InMemoryPreparedStatement statement = new InMemoryPreparedStatement();
+                    benchmarkCase.binder().bind(statement.getStatement(), value, 1, null);
+                    Object parameter = statement.getParameter();
+
+                    InMemoryResultSet resultSet = new InMemoryResultSet();
+                    if (parameter instanceof String) {
+                        resultSet.setColumn((String) parameter, new InMemoryArray(benchmarkCase.getType().getName(), dataset.getElements()));
+                    } else {
+                        resultSet.setColumn(dataset.getLiteral(), (InMemoryArray) parameter);
+                    }
+                    Object extracted = benchmarkCase.extractor().extract(resultSet.getResultSet(), "values", null);
+                    assertTrue(message, descriptor.areEqual(value, extracted));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testNullColumn() throws Exception {
+        for (ArrayBenchmark.Case benchmarkCase : ArrayBenchmark.cases()) {
+            InMemoryPreparedStatement statement = new InMemoryPreparedStatement();
+            benchmarkCase.binder().bind(statement.getStatement(), null, 1, null);
+            assertEquals(null, statement.getParameter());
+
+            InMemoryResultSet resultSet = new InMemoryResultSet();
+            resultSet.setColumn(null, null);
+            assertEquals(null, benchmarkCase.extractor().extract(resultSet.getResultSet(), "values", null));
+        }
+    }
+
+    @Test
+    public void testRun() {
+        ArrayBenchmark benchmark = new ArrayBenchmark(0, 0);
+        for (ArrayBenchmark.Case benchmarkCase : ArrayBenchmark.cases()) {
+            List<ArrayBenchmark.Result> results = benchmark.run(benchmarkCase, SIZES, ArrayBenchmark.NULL_DENSITIES);
+            int nonEmptySizes = SIZES.length - 1;
+            int primitiveSizes = benchmarkCase.getType().getReturnedClass().getComponentType().isPrimitive() ? SIZES.length : 0;
+            assertEquals((SIZES.length * 7 + nonEmptySizes + primitiveSizes) * ArrayBenchmark.NULL_DENSITIES.length, results.size());
+            for (ArrayBenchmark.Result result : results) {
+                assertFalse(result.toString(), result.getNanosPerOperation() < 0);
+                assertFalse(result.toString(), result.getBytesPerOperation() < 0);
+            }
+        }
+    }
+
+    @Test
+    public void testRunEquality() {
+        ArrayBenchmark benchmark = new ArrayBenchmark(0, 0);
+        for (ArrayBenchmark.Case benchmarkCase : ArrayBenchmark.cases()) {
+            List<ArrayBenchmark.Result> results = benchmark.runEquality(benchmarkCase, new int[]{1024});
+            assertEquals(2, results.size());
+            assertEquals("areEqual", results.get(0).getOperation());
+            assertEquals("isEquals", results.get(1).getOperation());
+        }
+    }
+}
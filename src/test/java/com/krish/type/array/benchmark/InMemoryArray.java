@@ -0,0 +1,75 @@
+package com.krish.type.array.benchmark;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.util.Map;
+
+/**
+ * {@link Array} holding its elements on the Java heap, like the one created by
+ * {@link java.sql.Connection#createArrayOf(String, Object[])} or returned by {@link ResultSet#getArray(String)}.
+ */
+public class InMemoryArray implements Array {
+
+    private final String baseTypeName;
+
+    private final Object[] elements;
+
+    public InMemoryArray(String baseTypeName, Object[] elements) {
+        this.baseTypeName = baseTypeName;
+        this.elements = elements;
+    }
+
+    @Override
+    public String getBaseTypeName() {
+        return baseTypeName;
+    }
+
+    @Override
+    public int getBaseType() {
+        return java.sql.Types.OTHER;
+    }
+
+    @Override
+    public Object getArray() {
+        return elements;
+    }
+
+    @Override
+    public Object getArray(Map<String, Class<?>> map) {
+        return elements;
+    }
+
+    @Override
+    public Object getArray(long index, int count) {
+        throw new UnsupportedOperationException("Slicing an in-memory array is not supported!");
+    }
+
+    @Override
+    public Object getArray(long index, int count, Map<String, Class<?>> map) {
+        throw new UnsupportedOperationException("Slicing an in-memory array is not supported!");
+    }
+
+    @Override
+    public ResultSet getResultSet() {
+        throw new UnsupportedOperationException("An in-memory array has no result set!");
+    }
+
+    @Override
+    public ResultSet getResultSet(Map<String, Class<?>> map) {
+        throw new UnsupportedOperationException("An in-memory array has no result set!");
+    }
+
+    @Override
+    public ResultSet getResultSet(long index, int count) {
+        throw new UnsupportedOperationException("An in-memory array has no result set!");
+    }
+
+    @Override
+    public ResultSet getResultSet(long index, int count, Map<String, Class<?>> map) {
+        throw new UnsupportedOperationException("An in-memory array has no result set!");
+    }
+
+    @Override
+    public void free() {
+    }
+}
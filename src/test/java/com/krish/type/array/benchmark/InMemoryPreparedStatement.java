@@ -0,0 +1,79 @@
+package com.krish.type.array.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+/**
+ * {@link PreparedStatement} stand-in keeping the last bound parameter, so that the array binders can be run
+ * without a database. Its {@link Connection} creates {@link InMemoryArray} instances.
+ * <p>
+ * Only the methods called by the binders are supported, and the others throw {@link UnsupportedOperationException}.
+ */
+public class InMemoryPreparedStatement implements InvocationHandler {
+
+    private final Connection connection = (Connection) Proxy.newProxyInstance(
+        Connection.class.getClassLoader(),
+        new Class[]{Connection.class},
+        (proxy, method, args) -> {
+            if ("createArrayOf".equals(method.getName())) {
+                return new InMemoryArray((String) args[0], (Object[]) args[1]);
+            }
+            return invokeObjectMethod(proxy, method, args);
+        }
+    );
+
+    private final PreparedStatement statement = (PreparedStatement) Proxy.newProxyInstance(
+        PreparedStatement.class.getClassLoader(),
+        new Class[]{PreparedStatement.class},
+        this
+    );
+
+    private Object parameter;
+
+    public PreparedStatement getStatement() {
+        return statement;
+    }
+
+    /**
+     * Get the last bound parameter: an array literal, an {@link InMemoryArray}, or {@code null}.
+     *
+     * @return bound parameter
+     */
+    public Object getParameter() {
+        return parameter;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "setObject":
+            case "setArray":
+            case "setString":
+                parameter = args[1];
+                return null;
+            case "setNull":
+                parameter = null;
+                return null;
+            case "getConnection":
+                return connection;
+            default:
+                return invokeObjectMethod(proxy, method, args);
+        }
+    }
+
+    static Object invokeObjectMethod(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return method.getDeclaringClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+            default:
+                throw new UnsupportedOperationException("The method: " + method + " is not supported");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.krish.type.array.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Array;
+import java.sql.ResultSet;
+
+/**
+ * {@link ResultSet} stand-in holding a single array column, both in its text form and as an {@link Array},
+ * like the PostgreSQL driver gives it through {@link ResultSet#getString(String)} and {@link ResultSet#getArray(String)}.
+ * <p>
+ * Only the methods called by the extractors are supported, and the others throw {@link UnsupportedOperationException}.
+ */
+public class InMemoryResultSet implements InvocationHandler {
+
+    private final ResultSet resultSet = (ResultSet) Proxy.newProxyInstance(
+        ResultSet.class.getClassLoader(),
+        new Class[]{ResultSet.class},
+        this
+    );
+
+    private String literal;
+
+    private Array array;
+
+    private boolean wasNull;
+
+    public ResultSet getResultSet() {
+        return resultSet;
+    }
+
+    /**
+     * Set the column value.
+     *
+     * @param literal array literal, or {@code null} for a {@code NULL} column
+     * @param array   the same array as an {@link Array}, or {@code null} for a {@code NULL} column
+     */
+    public void setColumn(String literal, Array array) {
+        this.literal = literal;
+        this.array = array;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "getString":
+                wasNull = literal == null;
+                return literal;
+            case "getArray":
+                wasNull = array == null;
+                return array;
+            case "wasNull":
+                return wasNull;
+            default:
+                return InMemoryPreparedStatement.invokeObjectMethod(proxy, method, args);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.krish.type.array.benchmark;
+
+/**
+ * The regex-based {@code ArrayUtil.fromString} implementation which {@link com.krish.type.array.internal.ArrayLiteralTokenizer}
+ * replaced, kept as the {@link ArrayBenchmark} baseline.
+ * <p>
+ * It only handles the {@code [1,2,3]} format, without whitespace, quotes, escapes or {@code NULL} elements, and it
+ * returns the raw tokens of non-primitive arrays.
+ */
+final class RegexArrayLiteralParser {
+
+    private RegexArrayLiteralParser() {
+        throw new UnsupportedOperationException("RegexArrayLiteralParser is not instantiable!");
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T fromString(String string, Class<T> arrayClass) {
+        String stringArray = string.replaceAll("[\\[\\]]", "");
+        String[] tokens = stringArray.split(",");
+
+        int length = tokens.length;
+
+        if (int[].class.equals(arrayClass)) {
+            int[] array = new int[length];
+            for (int i = 0; i < tokens.length; i++) {
+                array[i] = Integer.valueOf(tokens[i]);
+            }
+            return (T) array;
+        } else if (long[].class.equals(arrayClass)) {
+            long[] array = new long[length];
+            for (int i = 0; i < tokens.length; i++) {
+                array[i] = Long.valueOf(tokens[i]);
+            }
+            return (T) array;
+        } else {
+            return (T) tokens;
+        }
+    }
+}
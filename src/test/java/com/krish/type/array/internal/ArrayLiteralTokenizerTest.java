@@ -0,0 +1,267 @@
+package com.krish.type.array.internal;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+/**
+ * Randomized round-trips of array literals through {@link ArrayLiteralTokenizer} and
+ * {@link ArrayUtil#fromString(String, Class)}, and rejection of malformed literals.
+ */
+public class ArrayLiteralTokenizerTest {
+
+    private static final int ITERATIONS = 2000;
+
+    private static final String ALPHABET = "ab Z9\"\\,{}[]:=-\t";
+
+    private static final String[] MALFORMED = {
+        "", " ", "{", "}", "{1", "1}", "{1,}", "{,1}", "{1,,2}", "{1}}", "{{1}", "{1}x", "abc", "{\"a}", "{a\"b}",
+        "{\"a\"b}", "{a\\", "{\"a\\\"}", "[1:2]={1", "[1:2]=", "{1,{2}}", "{{1},2}", "{1]", "[1}", "{{1,2},{3}}x",
+    };
+
+    private final Random random = new Random(20191019);
+
+    @Test
+    public void testStringArrayRoundTrip() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            String[] array = randomStrings(random.nextInt(12));
+            assertArrayEquals(array, ArrayUtil.fromString(ArrayUtil.toQuotedArrayLiteral(array), String[].class));
+            assertArrayEquals(array, ArrayUtil.fromString(postgreSQLLiteral(array), String[].class));
+        }
+    }
+
+    @Test
+    public void testNumericArrayRoundTrip() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            Long[] array = new Long[random.nextInt(12)];
+            for (int j = 0; j < array.length; j++) {
+                array[j] = random.nextInt(5) == 0 ? null : random.nextLong();
+            }
+            String literal = postgreSQLLiteral(array);
+            assertArrayEquals(literal, array, ArrayUtil.fromString(literal, Long[].class));
+
+            long[] primitives = ArrayUtil.fromString(literal, long[].class);
+            for (int j = 0; j < array.length; j++) {
+                assertEquals(literal, array[j] != null ? array[j] : 0L, primitives[j]);
+            }
+            assertArrayEquals(literal, primitives, ArrayLiteralParser.parseLongArray(literal, 0L, false));
+        }
+    }
+
+    @Test
+    public void testNull() {
+        assertArrayEquals(new String[]{null, "NULL", "null"}, ArrayUtil.fromString("{NULL,\"NULL\",\"null\"}", String[].class));
+        assertArrayEquals(new String[]{null, "NULLS"}, ArrayUtil.fromString("{null, NULLS}", String[].class));
+        assertArrayEquals(new Integer[]{1, null}, ArrayUtil.fromString("{1,NULL}", Integer[].class));
+    }
+
+    @Test
+    public void testEscapes() {
+        assertArrayEquals(
+            new String[]{"a\"b", "c\\d", "e,f", "{g}", " h ", ""},
+            ArrayUtil.fromString("{\"a\\\"b\",\"c\\\\d\",\"e,f\",\"{g}\",\" h \",\"\"}", String[].class)
+        );
+        assertArrayEquals(new String[]{"a,b", "c"}, ArrayUtil.fromString("{a\\,b,c}", String[].class));
+        assertArrayEquals(new String[]{"a b"}, ArrayUtil.fromString("{ a b }", String[].class));
+    }
+
+    @Test
+    public void testDimensions() {
+        assertArrayEquals(new int[]{1, 2, 3}, ArrayUtil.fromString("[0:2]={1,2,3}", int[].class));
+        assertArrayEquals(new long[]{4, 5}, ArrayUtil.fromString("[-1:0]={4,5}", long[].class));
+        assertArrayEquals(
+            new int[][]{{1, 2, 3}, {4, 5, 6}},
+            ArrayUtil.fromString("[1:2][1:3]={{1,2,3},{4,5,6}}", int[][].class)
+        );
+        assertArrayEquals(new String[]{"[1:2]=x"}, ArrayUtil.fromString("{\"[1:2]=x\"}", String[].class));
+    }
+
+    @Test
+    public void testNestedRoundTrip() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            Integer[][][] array = new Integer[1 + random.nextInt(3)][][];
+            for (int j = 0; j < array.length; j++) {
+                array[j] = new Integer[1 + random.nextInt(3)][];
+                for (int k = 0; k < array[j].length; k++) {
+                    array[j][k] = new Integer[random.nextInt(4)];
+                    for (int l = 0; l < array[j][k].length; l++) {
+                        array[j][k][l] = random.nextInt(6) == 0 ? null : random.nextInt();
+                    }
+                }
+            }
+            String literal = postgreSQLLiteral(array);
+            assertArrayEquals(literal, array, ArrayUtil.fromString(literal, Integer[][][].class));
+            assertArrayEquals(literal, array, ArrayUtil.fromString(Arrays.deepToString(array), Integer[][][].class));
+        }
+    }
+
+    @Test
+    public void testJagged() {
+        assertArrayEquals(
+            new String[][]{{"a", "b"}, {"c"}, {}},
+            ArrayUtil.fromString("{{a,b},{c},{}}", String[][].class)
+        );
+        assertArrayEquals(new int[][]{{1}, {2, 3}}, ArrayUtil.fromString("[[1], [2, 3]]", int[][].class));
+    }
+
+    @Test
+    public void testTokens() {
+        ArrayLiteralTokenizer tokenizer = new ArrayLiteralTokenizer("[2:3]={ {\"x,y\" , NULL} }");
+        assertEquals(ArrayLiteralTokenizer.START_ARRAY, tokenizer.next());
+        assertEquals(1, tokenizer.countElements());
+        assertEquals(ArrayLiteralTokenizer.START_ARRAY, tokenizer.next());
+        assertEquals(2, tokenizer.countElements());
+        assertEquals(ArrayLiteralTokenizer.ELEMENT, tokenizer.next());
+        assertEquals("x,y", tokenizer.stringValue());
+        assertEquals(ArrayLiteralTokenizer.ELEMENT, tokenizer.next());
+        assertEquals(true, tokenizer.isNull());
+        assertEquals(ArrayLiteralTokenizer.END_ARRAY, tokenizer.next());
+        assertEquals(ArrayLiteralTokenizer.END_ARRAY, tokenizer.next());
+        assertEquals(ArrayLiteralTokenizer.END, tokenizer.next());
+    }
+
+    @Test
+    public void testMalformed() {
+        for (String literal : MALFORMED) {
+            assertRejected(literal, int[].class);
+            assertRejected(literal, String[].class);
+        }
+        assertRejected("{1,a}", int[].class);
+        assertRejected("{2147483648}", int[].class);
+        assertRejected("{{1,2}}", int[].class);
+        assertRejected("{1,2}", int[][].class);
+    }
+
+    /**
+     * Mutate valid literals at random: the result must either parse or be rejected with an
+     * {@link IllegalArgumentException}, never with another exception.
+     */
+    @Test
+    public void testFuzz() {
+        for (int i = 0; i < ITERATIONS * 5; i++) {
+            String[][] array = new String[1 + random.nextInt(3)][];
+            for (int j = 0; j < array.length; j++) {
+                array[j] = randomStrings(random.nextInt(4));
+            }
+            StringBuilder literal = new StringBuilder(postgreSQLLiteral(array));
+            int mutations = 1 + random.nextInt(3);
+            for (int j = 0; j < mutations && literal.length() > 0; j++) {
+                int position = random.nextInt(literal.length());
+                switch (random.nextInt(3)) {
+                    case 0:
+                        literal.deleteCharAt(position);
+                        break;
+                    case 1:
+                        literal.insert(position, ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+                        break;
+                    default:
+                        literal.setCharAt(position, ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+                }
+            }
+            for (Class arrayClass : new Class[]{String[][].class, String[].class, int[].class, long[][].class}) {
+                try {
+                    ArrayUtil.fromString(literal.toString(), arrayClass);
+                } catch (IllegalArgumentException expected) {
+                } catch (RuntimeException e) {
+                    throw new AssertionError("Unexpected failure parsing " + literal + " as " + arrayClass.getSimpleName(), e);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        assertEquals(0, ArrayUtil.fromString("{}", int[].class).length);
+        assertEquals(0, ArrayUtil.fromString("[]", String[].class).length);
+        assertEquals(0, ArrayUtil.fromString(" { } ", long[].class).length);
+        assertNull(ArrayUtil.fromString("{NULL}", String[].class)[0]);
+        assertArrayEquals(new String[]{"a", "", "b"}, ArrayUtil.fromString("[a, , b]", String[].class));
+    }
+
+    private void assertRejected(String literal, Class arrayClass) {
+        try {
+            ArrayUtil.fromString(literal, arrayClass);
+            fail("The literal: " + literal + " should be rejected as " + arrayClass.getSimpleName());
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    private String[] randomStrings(int size) {
+        String[] array = new String[size];
+        for (int i = 0; i < size; i++) {
+            switch (random.nextInt(8)) {
+                case 0:
+                    array[i] = null;
+                    break;
+                case 1:
+                    array[i] = random.nextBoolean() ? "NULL" : "";
+                    break;
+                default:
+                    char[] chars = new char[random.nextInt(6)];
+                    for (int j = 0; j < chars.length; j++) {
+                        chars[j] = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+                    }
+                    array[i] = new String(chars);
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Render the array like PostgreSQL does: elements are only quoted when they are empty, spell {@code NULL},
+     * or contain whitespace or characters having a meaning in the literal.
+     */
+    private static String postgreSQLLiteral(Object[] array) {
+        StringBuilder builder = new StringBuilder();
+        append(builder, array);
+        return builder.toString();
+    }
+
+    private static void append(StringBuilder builder, Object[] array) {
+        builder.append('{');
+        for (int i = 0; i < array.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            Object element = array[i];
+            if (element instanceof Object[]) {
+                append(builder, (Object[]) element);
+            } else if (element == null) {
+                builder.append("NULL");
+            } else {
+                String value = element.toString();
+                if (needsQuotes(value)) {
+                    builder.append('"');
+                    for (char c : value.toCharArray()) {
+                        if (c == '"' || c == '\\') {
+                            builder.append('\\');
+                        }
+                        builder.append(c);
+                    }
+                    builder.append('"');
+                } else {
+                    builder.append(value);
+                }
+            }
+        }
+        builder.append('}');
+    }
+
+    private static boolean needsQuotes(String value) {
+        if (value.isEmpty() || value.equalsIgnoreCase("NULL")) {
+            return true;
+        }
+        for (char c : value.toCharArray()) {
+            if ("{}[],\"\\".indexOf(c) >= 0 || Character.isWhitespace(c)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
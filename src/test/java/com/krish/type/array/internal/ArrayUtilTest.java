@@ -0,0 +1,69 @@
+package com.krish.type.array.internal;
+
+import org.junit.Test;
+
+import java.util.Date;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks the multi-dimensional array literals rendered by {@link ArrayUtil#toArrayLiteral(Object)}.
+ */
+public class ArrayUtilTest {
+
+    @Test
+    public void testMultiDimensionalLiteral() {
+        assertEquals("{{1,2,3},{4,5,6}}", ArrayUtil.toArrayLiteral(new int[][]{{1, 2, 3}, {4, 5, 6}}));
+        assertEquals("{{\"a\",NULL},{\"b\\\"\",\"c\"}}", ArrayUtil.toArrayLiteral(new String[][]{{"a", null}, {"b\"", "c"}}));
+        assertEquals("{{{1},{2}},{{3},{4}}}", ArrayUtil.toArrayLiteral(new long[][][]{{{1}, {2}}, {{3}, {4}}}));
+        assertEquals("{}", ArrayUtil.toArrayLiteral(new int[0][]));
+        assertNull(ArrayUtil.toArrayLiteral(new Date[][]{{new Date()}}));
+    }
+
+    @Test
+    public void testMultiDimensionalRoundTrip() {
+        Random random = new Random(35);
+        for (int i = 0; i < 1000; i++) {
+            int[][][] array = new int[1 + random.nextInt(3)][1 + random.nextInt(3)][1 + random.nextInt(3)];
+            for (int[][] matrix : array) {
+                for (int[] row : matrix) {
+                    for (int j = 0; j < row.length; j++) {
+                        row[j] = random.nextInt();
+                    }
+                }
+            }
+            String literal = ArrayUtil.toArrayLiteral(array);
+            assertArrayEquals(literal, array, ArrayUtil.fromString(literal, int[][][].class));
+        }
+    }
+
+    @Test
+    public void testNotRectangular() {
+        assertRejected(new int[][]{{1, 2}, {3}});
+        assertRejected(new int[][]{{1}, {2, 3}});
+        assertRejected(new Integer[][]{{1, 2}, {3, null, 4}});
+        assertRejected(new int[][][]{{{1}, {2}}, {{3, 4}, {5, 6}}});
+        assertRejected(new int[][][]{{{1}, {2}}, {{3}}});
+        assertRejected(new int[][]{{1}, null});
+        assertRejected(new int[][]{null});
+    }
+
+    @Test
+    public void testEmptySubArrays() {
+        assertRejected(new int[2][0]);
+        assertRejected(new String[][]{{}, {}});
+        assertRejected(new int[1][1][0]);
+    }
+
+    private static void assertRejected(Object array) {
+        try {
+            ArrayUtil.toArrayLiteral(array);
+            fail("The array should be rejected");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.krish.type.json;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the {@code #>} expressions built by {@link JsonPathType#path(String, String...)}.
+ */
+public class JsonPathTypeTest {
+
+    @Test
+    public void testPath() {
+        assertEquals("properties #> '{\"publisher\",\"name\"}'", JsonPathType.path("properties", "publisher", "name"));
+        assertEquals("properties #> '{\"reviews\",\"0\"}'", JsonPathType.path("properties", "reviews", "0"));
+        assertEquals("properties #> '{}'", JsonPathType.path("properties"));
+    }
+
+    @Test
+    public void testPathEscaping() {
+        assertEquals("properties #> '{\"a,b\",\"{c}\",\" d \",\"\"}'", JsonPathType.path("properties", "a,b", "{c}", " d ", ""));
+        assertEquals("properties #> '{\"say \\\"hi\\\"\",\"c:\\\\temp\"}'", JsonPathType.path("properties", "say \"hi\"", "c:\\temp"));
+        assertEquals("properties #> '{\"O''Reilly\"}'", JsonPathType.path("properties", "O'Reilly"));
+    }
+}
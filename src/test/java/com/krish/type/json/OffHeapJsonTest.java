@@ -0,0 +1,50 @@
+package com.krish.type.json;
+
+import com.krish.type.json.internal.OffHeapJsonStore;
+import com.krish.type.util.ObjectMapperWrapper;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the {@link OffHeapJson} equality, both for direct payloads and for payloads kept on the Java heap.
+ */
+public class OffHeapJsonTest {
+
+    @Test
+    public void testEquality() {
+        OffHeapJsonStore direct = new OffHeapJsonStore(OffHeapJsonStore.SEGMENT_SIZE);
+        OffHeapJsonStore heap = new OffHeapJsonStore(0);
+        OffHeapJson<Map> one = json("{\"a\":1}", direct);
+        OffHeapJson<Map> another = json("{\"a\":1}", heap);
+        assertTrue(one.isDirect());
+        assertFalse(another.isDirect());
+        assertEquals(one, another);
+        assertEquals(one.hashCode(), another.hashCode());
+        assertEquals(one.hashCode(), one.hashCode());
+        assertNotEquals(one, json("{\"a\":2}", direct));
+    }
+
+    @Test
+    public void testHashCodeUsesContent() {
+        OffHeapJsonStore store = new OffHeapJsonStore(OffHeapJsonStore.SEGMENT_SIZE);
+        Set<Integer> hashes = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            hashes.add(json("{\"a\":" + (100 + i) + "}", store).hashCode());
+        }
+        assertEquals(100, hashes.size());
+    }
+
+    private static OffHeapJson<Map> json(String json, OffHeapJsonStore store) {
+        return new OffHeapJson<>(json.getBytes(StandardCharsets.UTF_8), ObjectMapperWrapper.INSTANCE.getReader(Map.class), store);
+    }
+}
@@ -0,0 +1,38 @@
+package com.krish.type.json.internal;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Checks that {@link JsonDeduplicationCache} only shares the objects parsed from identical documents.
+ */
+public class JsonDeduplicationCacheTest {
+
+    @Test
+    public void testDeduplication() {
+        JsonDeduplicationCache cache = new JsonDeduplicationCache(2);
+        AtomicInteger parsed = new AtomicInteger();
+        Function<String, Object> parser = json -> {
+            parsed.incrementAndGet();
+            return new StringBuilder(json);
+        };
+
+        Object one = cache.get("{\"a\": 1}", parser);
+        assertSame(one, cache.get(new String("{\"a\": 1}"), parser));
+        assertEquals(1, parsed.get());
+
+        Object another = cache.get("{\"a\":1}", parser);
+        assertNotSame(one, another);
+        assertEquals(2, parsed.get());
+
+        cache.get("{\"b\": 2}", parser);
+        assertNotSame(one, cache.get("{\"a\": 1}", parser));
+        assertEquals(4, parsed.get());
+    }
+}
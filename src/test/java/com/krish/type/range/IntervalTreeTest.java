@@ -0,0 +1,140 @@
+package com.krish.type.range;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compares the {@link IntervalTree} queries with a scan of all the indexed ranges, over random ranges with infinite,
+ * inclusive and exclusive bounds, and tree sizes around the 64-range blocks of the {@link UpperBoundIndex} and
+ * the {@link IntervalTree#PARALLEL_SORT_THRESHOLD}.
+ */
+public class IntervalTreeTest {
+
+    private static final int[] SIZES = {0, 1, 2, 3, 63, 64, 65, 127, 128, 130, 1000, IntervalTree.PARALLEL_SORT_THRESHOLD + 1};
+
+    private static final int QUERIES = 200;
+
+    @Test
+    public void testSmallDomain() {
+        Random random = new Random(49);
+        for (int size : SIZES) {
+            List<Range<Integer>> ranges = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                ranges.add(RangeTest.randomRange(random));
+            }
+            assertQueries(ranges, () -> RangeTest.randomRange(random), random);
+        }
+    }
+
+    @Test
+    public void testLargeDomain() {
+        Random random = new Random(50);
+        for (int size : SIZES) {
+            List<Range<Integer>> ranges = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                ranges.add(randomRange(random, 1000, 60));
+            }
+            assertQueries(ranges, () -> randomRange(random, 1000, random.nextInt(4) == 0 ? 500 : 60), random);
+        }
+    }
+
+    @Test
+    public void testValues() {
+        List<String> periods = new ArrayList<>();
+        Collections.addAll(periods, "[1,5)", "[3,8]", "empty", "(,2]", "[10,)");
+        IntervalTree<Integer, String> tree = IntervalTree.of(periods, Range::integerRange);
+        assertEquals(5, tree.size());
+        assertEquals(listOf("(,2]", "[1,5)", "[3,8]"), tree.overlapping(Range.closed(2, 4)));
+        assertEquals(listOf("[1,5)", "[3,8]"), tree.containing(4));
+        assertEquals(listOf("[1,5)", "[3,8]", "empty"), tree.containedIn(Range.closed(1, 9)));
+        assertEquals(listOf("(,2]", "[1,5)", "[3,8]", "[10,)", "empty"), tree.containing(Range.empty(Integer.class)));
+    }
+
+    private static void assertQueries(List<Range<Integer>> ranges, RangeSupplier queries, Random random) {
+        List<Integer> indexes = new ArrayList<>(ranges.size());
+        for (int i = 0; i < ranges.size(); i++) {
+            indexes.add(i);
+        }
+        IntervalTree<Integer, Integer> tree = IntervalTree.of(indexes, ranges::get);
+        assertEquals(ranges.size(), tree.size());
+        for (int q = 0; q < QUERIES; q++) {
+            Range<Integer> query = q % 50 == 0 ? Range.infinite(Integer.class) : queries.next();
+            String message = ranges.size() + " ranges, " + query.asString();
+
+            assertResult(message + " overlapping", ranges, tree.overlapping(query), range -> range.overlaps(query));
+            assertResult(message + " containing", ranges, tree.containing(query), range -> range.contains(query));
+            assertResult(message + " containedIn", ranges, tree.containedIn(query), query::contains);
+
+            int point = random.nextInt(1100) - 50;
+            assertResult(message + " containing " + point, ranges, tree.containing(point), range -> range.contains(point));
+        }
+    }
+
+    /**
+     * Check that the tree found the ranges matching the predicate, sorted by lower bound, followed by the matching
+     * empty ranges.
+     */
+    private static void assertResult(String message, List<Range<Integer>> ranges, List<Integer> result,
+                                     Predicate<Range<Integer>> predicate) {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < ranges.size(); i++) {
+            if (predicate.test(ranges.get(i))) {
+                expected.add(i);
+            }
+        }
+        List<Integer> sorted = new ArrayList<>(result);
+        Collections.sort(sorted);
+        assertEquals(message, expected, sorted);
+
+        boolean empty = false;
+        for (int i = 0; i < result.size(); i++) {
+            Range<Integer> range = ranges.get(result.get(i)).canonical();
+            if (range.isEmpty()) {
+                empty = true;
+            } else {
+                assertTrue(message, !empty);
+                assertTrue(message, i == 0 || Range.compareLower(ranges.get(result.get(i - 1)).canonical(), range) <= 0);
+            }
+        }
+    }
+
+    private static Range<Integer> randomRange(Random random, int domain, int length) {
+        int lower = random.nextInt(domain);
+        int upper = lower + random.nextInt(length);
+        switch (random.nextInt(10)) {
+            case 0:
+                return Range.open(lower, upper);
+            case 1:
+                return Range.closedOpen(lower, upper);
+            case 2:
+                return Range.openClosed(lower, upper);
+            case 3:
+                return Range.infiniteClosed(upper);
+            case 4:
+                return Range.openInfinite(lower);
+            case 5:
+                return Range.empty(Integer.class);
+            default:
+                return Range.closed(lower, upper);
+        }
+    }
+
+    private static List<String> listOf(String... values) {
+        List<String> list = new ArrayList<>();
+        Collections.addAll(list, values);
+        return list;
+    }
+
+    @FunctionalInterface
+    private interface RangeSupplier {
+        Range<Integer> next();
+    }
+}
@@ -0,0 +1,112 @@
+package com.krish.type.range;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compares {@link RangeSet} operations on random {@code Integer} ranges with the sets of points they hold.
+ */
+public class RangeSetTest {
+
+    private static final int POINTS = 2 * RangeTest.WINDOW + 1;
+
+    @Test
+    public void testNormalization() {
+        RangeSet<Integer> set = RangeSet.of(Range.integerRange("[1,5)"), Range.integerRange("[5,7]"), Range.integerRange("[10,12)"));
+        assertEquals("{[1,8),[10,12)}", set.toString());
+        assertEquals(set, RangeSet.of(Range.closed(10, 11), Range.closedOpen(5, 5), Range.closed(1, 7)));
+        assertEquals(Range.closedOpen(1, 12), set.span());
+        assertTrue(RangeSet.<Integer>empty().isEmpty());
+        assertNull(RangeSet.<Integer>empty().span());
+        assertEquals(RangeSet.empty(), RangeSet.of(Range.empty(Integer.class), Range.open(1, 2)));
+    }
+
+    @Test
+    public void testRandomSets() {
+        Random random = new Random(51);
+        for (int i = 0; i < 5000; i++) {
+            List<Range<Integer>> oneRanges = randomRanges(random);
+            List<Range<Integer>> anotherRanges = randomRanges(random);
+            RangeSet<Integer> one = RangeSet.of(oneRanges);
+            RangeSet<Integer> another = RangeSet.of(anotherRanges);
+            boolean[] onePoints = points(oneRanges);
+            boolean[] anotherPoints = points(anotherRanges);
+            String message = one + " and " + another;
+
+            assertPoints(message, onePoints, one);
+            assertNormalized(message, one);
+            assertEquals(message, RangeTest.equal(onePoints, anotherPoints), one.equals(another));
+
+            Collections.shuffle(oneRanges, random);
+            RangeSet<Integer> shuffled = RangeSet.of(oneRanges);
+            assertEquals(message, one, shuffled);
+            assertEquals(message, one.hashCode(), shuffled.hashCode());
+
+            RangeSet<Integer> union = one.union(another);
+            assertPoints(message, RangeTest.union(onePoints, anotherPoints), union);
+            assertNormalized(message, union);
+            RangeSet<Integer> intersection = one.intersection(another);
+            assertPoints(message, RangeTest.intersection(onePoints, anotherPoints), intersection);
+            assertNormalized(message, intersection);
+            RangeSet<Integer> difference = one.difference(another);
+            assertPoints(message, RangeTest.difference(onePoints, anotherPoints), difference);
+            assertNormalized(message, difference);
+
+            Range<Integer> range = RangeTest.randomRange(random);
+            boolean[] rangePoints = RangeTest.points(range);
+            assertEquals(message + ", " + range.asString(), RangeTest.isEmpty(RangeTest.difference(rangePoints, onePoints)), one.contains(range));
+            assertEquals(message + ", " + range.asString(), !RangeTest.isEmpty(RangeTest.intersection(rangePoints, onePoints)), one.overlaps(range));
+        }
+    }
+
+    private static List<Range<Integer>> randomRanges(Random random) {
+        int size = random.nextInt(6);
+        List<Range<Integer>> ranges = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ranges.add(RangeTest.randomRange(random));
+        }
+        return ranges;
+    }
+
+    private static boolean[] points(List<Range<Integer>> ranges) {
+        boolean[] points = new boolean[POINTS];
+        for (Range<Integer> range : ranges) {
+            points = RangeTest.union(points, RangeTest.points(range));
+        }
+        return points;
+    }
+
+    private static void assertPoints(String message, boolean[] expected, RangeSet<Integer> set) {
+        for (int i = 0; i < POINTS; i++) {
+            assertEquals(message + ": " + set + " at " + (i - RangeTest.WINDOW), expected[i], set.contains(i - RangeTest.WINDOW));
+        }
+        assertTrue(message + ": " + set, RangeTest.equal(expected, points(set.ranges())));
+    }
+
+    /**
+     * The ranges of a set are canonical, non-empty, sorted, disjoint and not adjacent.
+     */
+    private static void assertNormalized(String message, RangeSet<Integer> set) {
+        List<Range<Integer>> ranges = set.ranges();
+        for (int i = 0; i < ranges.size(); i++) {
+            Range<Integer> range = ranges.get(i);
+            assertFalse(message + ": " + set, range.isEmpty());
+            assertEquals(message + ": " + set, range.canonical().asString(), range.asString());
+            if (i > 0) {
+                Range<Integer> previous = ranges.get(i - 1);
+                assertTrue(message + ": " + set, Range.compareUpper(previous, range) < 0);
+                assertFalse(message + ": " + set, previous.overlaps(range));
+                assertFalse(message + ": " + set, previous.isAdjacent(range));
+            }
+        }
+    }
+}
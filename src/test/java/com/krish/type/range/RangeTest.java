@@ -0,0 +1,271 @@
+package com.krish.type.range;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks the {@link Range} equality, canonical form and operations, comparing random {@code Integer} ranges with
+ * the sets of points they hold.
+ */
+public class RangeTest {
+
+    /**
+     * Finite bounds are drawn from {@code [-BOUND, BOUND]}, so the points of {@code [-WINDOW, WINDOW]} tell any two
+     * ranges apart, infinite ones included.
+     */
+    static final int BOUND = 5;
+
+    static final int WINDOW = BOUND + 2;
+
+    @Test
+    public void testEquality() {
+        assertEqualRanges(Range.closed(1, 5), Range.closedOpen(1, 6));
+        assertEqualRanges(Range.closed(1, 5), Range.open(0, 6));
+        assertEqualRanges(Range.closed(1, 5), Range.openClosed(0, 5));
+        assertEqualRanges(Range.closed(1L, 5L), Range.closedOpen(1L, 6L));
+        assertEqualRanges(Range.openInfinite(1), Range.closedInfinite(2));
+        assertEqualRanges(Range.infiniteClosed(5), Range.infiniteOpen(6));
+        assertEqualRanges(
+            Range.closed(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 1, 31)),
+            Range.closedOpen(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 2, 1))
+        );
+
+        assertEqualRanges(Range.empty(Integer.class), Range.closedOpen(5, 5));
+        assertEqualRanges(Range.closedOpen(5, 5), Range.open(1, 2));
+        assertEqualRanges(Range.open(1, 2), Range.openClosed(7, 7));
+        assertEqualRanges(Range.empty(Integer.class), Range.openInfinite(Integer.MAX_VALUE));
+
+        assertNotEquals(Range.closed(1, 5), Range.closed(1, 6));
+        assertNotEquals(Range.closed(1, 5), Range.closed(1L, 5L));
+        assertNotEquals(Range.empty(Integer.class), Range.empty(Long.class));
+        assertNotEquals(Range.closed(new BigDecimal("1"), new BigDecimal("5")), Range.closedOpen(new BigDecimal("1"), new BigDecimal("6")));
+        assertEqualRanges(Range.closedOpen(new BigDecimal("1"), new BigDecimal("1")), Range.empty(BigDecimal.class));
+    }
+
+    @Test
+    public void testBoundsAreKept() {
+        Range<Integer> range = Range.closed(1, 5);
+        assertEquals(Integer.valueOf(1), range.lower());
+        assertEquals(Integer.valueOf(5), range.upper());
+        assertEquals("[1,5]", range.asString());
+
+        Range<Integer> empty = Range.closedOpen(5, 5);
+        assertTrue(empty.isEmpty());
+        assertEquals(Integer.valueOf(5), empty.lower());
+        assertEquals("[5,5)", empty.asString());
+        assertEquals("empty", empty.canonical().asString());
+    }
+
+    @Test
+    public void testCanonical() {
+        assertEquals("[1,6)", Range.closed(1, 5).canonical().asString());
+        assertEquals("[1,6)", Range.open(0, 6).canonical().asString());
+        assertEquals("[2,)", Range.openInfinite(1).canonical().asString());
+        assertEquals("(,6)", Range.infiniteClosed(5).canonical().asString());
+        assertEquals("(,)", Range.infinite(Integer.class).canonical().asString());
+        assertEquals("[1,2147483647]", Range.closed(1, Integer.MAX_VALUE).canonical().asString());
+        assertEquals("[9223372036854775807,9223372036854775807]", Range.closed(Long.MAX_VALUE, Long.MAX_VALUE).canonical().asString());
+        assertEquals("empty", Range.open(Integer.MAX_VALUE - 1, Integer.MAX_VALUE).canonical().asString());
+        assertEquals("[2020-01-01,2020-01-02)", Range.closed(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 1, 1)).canonical().asString());
+        assertEquals("(1.5,2.5]", Range.openClosed(new BigDecimal("1.5"), new BigDecimal("2.5")).canonical().asString());
+    }
+
+    @Test
+    public void testCanonicalIsComputedOnce() {
+        Range<Integer> range = Range.closed(1, 5);
+        Range<Integer> canonical = range.canonical();
+        assertSame(canonical, range.canonical());
+        assertSame(canonical, canonical.canonical());
+
+        Range<Integer> closedOpen = Range.closedOpen(1, 6);
+        assertSame(closedOpen, closedOpen.canonical());
+    }
+
+    @Test
+    public void testRandomRanges() {
+        Random random = new Random(50);
+        for (int i = 0; i < 20000; i++) {
+            Range<Integer> one = randomRange(random);
+            Range<Integer> another = randomRange(random);
+            boolean[] onePoints = points(one);
+            boolean[] anotherPoints = points(another);
+            String message = one.asString() + " and " + another.asString();
+
+            assertEquals(message, isEmpty(onePoints), one.isEmpty());
+            assertEquals(message, equal(onePoints, anotherPoints), one.equals(another));
+            if (one.equals(another)) {
+                assertEquals(message, one.hashCode(), another.hashCode());
+            }
+
+            boolean[] intersection = intersection(onePoints, anotherPoints);
+            boolean[] union = union(onePoints, anotherPoints);
+            boolean[] difference = difference(onePoints, anotherPoints);
+
+            assertEquals(message, !isEmpty(intersection), one.overlaps(another));
+            assertEquals(message, isEmpty(difference(anotherPoints, onePoints)), one.contains(another));
+            assertEquals(message, !isEmpty(onePoints) && !isEmpty(anotherPoints) && isEmpty(intersection) && isContiguous(union),
+                one.isAdjacent(another));
+            assertPoints(message, intersection, one.intersection(another));
+            if (isContiguous(union)) {
+                assertPoints(message, union, one.union(another));
+            } else {
+                try {
+                    one.union(another);
+                    fail(message);
+                } catch (IllegalArgumentException expected) {
+                }
+            }
+            if (isContiguous(difference)) {
+                assertPoints(message, difference, one.difference(another));
+            } else {
+                try {
+                    one.difference(another);
+                    fail(message);
+                } catch (IllegalArgumentException expected) {
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testContinuousRanges() {
+        Range<BigDecimal> range = Range.closedOpen(new BigDecimal("1"), new BigDecimal("2"));
+        Range<BigDecimal> next = Range.closed(new BigDecimal("2"), new BigDecimal("3"));
+        assertFalse(range.overlaps(next));
+        assertTrue(range.isAdjacent(next));
+        assertEquals("[1,3]", range.union(next).asString());
+        assertTrue(range.intersection(next).isEmpty());
+        assertEquals("[1,2)", range.difference(next).asString());
+        assertEquals("(2,3]", next.difference(range.union(Range.closed(new BigDecimal("2"), new BigDecimal("2")))).asString());
+        assertFalse(Range.open(new BigDecimal("1"), new BigDecimal("2")).isEmpty());
+    }
+
+    static Range<Integer> randomRange(Random random) {
+        switch (random.nextInt(16)) {
+            case 0:
+                return Range.empty(Integer.class);
+            case 1:
+                return Range.infinite(Integer.class);
+            default:
+        }
+        int lower = random.nextInt(2 * BOUND + 1) - BOUND;
+        int upper = random.nextInt(2 * BOUND + 1) - BOUND;
+        if (lower > upper) {
+            int bound = lower;
+            lower = upper;
+            upper = bound;
+        }
+        boolean lowerInclusive = random.nextBoolean();
+        boolean upperInclusive = random.nextBoolean();
+        switch (random.nextInt(6)) {
+            case 0:
+                return lowerInclusive ? Range.closedInfinite(lower) : Range.openInfinite(lower);
+            case 1:
+                return upperInclusive ? Range.infiniteClosed(upper) : Range.infiniteOpen(upper);
+            default:
+        }
+        if (lowerInclusive) {
+            return upperInclusive ? Range.closed(lower, upper) : Range.closedOpen(lower, upper);
+        }
+        return upperInclusive ? Range.openClosed(lower, upper) : Range.open(lower, upper);
+    }
+
+    /**
+     * Get the points of {@code [-WINDOW, WINDOW]} held by the given range, checked against its bounds.
+     */
+    static boolean[] points(Range<Integer> range) {
+        boolean[] points = new boolean[2 * WINDOW + 1];
+        String literal = range.asString();
+        if ("empty".equals(literal)) {
+            return points;
+        }
+        for (int i = 0; i < points.length; i++) {
+            int point = i - WINDOW;
+            Integer lower = range.lower();
+            Integer upper = range.upper();
+            points[i] = (lower == null || point > lower || (point == lower && literal.charAt(0) == '[')) &&
+                (upper == null || point < upper || (point == upper && literal.charAt(literal.length() - 1) == ']'));
+        }
+        return points;
+    }
+
+    /**
+     * Get the points of {@code [-WINDOW, WINDOW]} held by the given range, as told by {@link Range#contains(Comparable)}.
+     */
+    static boolean[] contained(Range<Integer> range) {
+        boolean[] points = new boolean[2 * WINDOW + 1];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = range.contains(i - WINDOW);
+        }
+        return points;
+    }
+
+    static void assertPoints(String message, boolean[] expected, Range<Integer> range) {
+        assertTrue(message + ": " + range.asString(), equal(expected, contained(range)));
+        assertTrue(message + ": " + range.asString(), equal(expected, points(range)));
+    }
+
+    static boolean equal(boolean[] one, boolean[] another) {
+        return Arrays.equals(one, another);
+    }
+
+    static boolean isEmpty(boolean[] points) {
+        for (boolean point : points) {
+            if (point) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isContiguous(boolean[] points) {
+        int runs = 0;
+        for (int i = 0; i < points.length; i++) {
+            if (points[i] && (i == 0 || !points[i - 1])) {
+                runs++;
+            }
+        }
+        return runs <= 1;
+    }
+
+    static boolean[] intersection(boolean[] one, boolean[] another) {
+        boolean[] points = new boolean[one.length];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = one[i] && another[i];
+        }
+        return points;
+    }
+
+    static boolean[] union(boolean[] one, boolean[] another) {
+        boolean[] points = new boolean[one.length];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = one[i] || another[i];
+        }
+        return points;
+    }
+
+    static boolean[] difference(boolean[] one, boolean[] another) {
+        boolean[] points = new boolean[one.length];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = one[i] && !another[i];
+        }
+        return points;
+    }
+
+    private static void assertEqualRanges(Range<?> one, Range<?> another) {
+        assertEquals(one, another);
+        assertEquals(another, one);
+        assertEquals(one.hashCode(), another.hashCode());
+    }
+}
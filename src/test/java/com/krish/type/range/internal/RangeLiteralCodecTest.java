@@ -0,0 +1,222 @@
+package com.krish.type.range.internal;
+
+import com.krish.type.range.DateRange;
+import com.krish.type.range.IntRange;
+import com.krish.type.range.LongRange;
+import com.krish.type.range.Range;
+import com.krish.type.range.TimestampRange;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static com.krish.type.range.internal.RangeLiteralCodec.EMPTY;
+import static com.krish.type.range.internal.RangeLiteralCodec.LOWER_EXCLUSIVE;
+import static com.krish.type.range.internal.RangeLiteralCodec.LOWER_INCLUSIVE;
+import static com.krish.type.range.internal.RangeLiteralCodec.LOWER_INFINITE;
+import static com.krish.type.range.internal.RangeLiteralCodec.UPPER_EXCLUSIVE;
+import static com.krish.type.range.internal.RangeLiteralCodec.UPPER_INCLUSIVE;
+import static com.krish.type.range.internal.RangeLiteralCodec.UPPER_INFINITE;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Parses the PostgreSQL text representation of every supported range type, and checks that the rendered ranges
+ * parse back to the same bounds.
+ */
+public class RangeLiteralCodecTest {
+
+    @Test
+    public void testInteger() {
+        assertBounds(1, 5, LOWER_INCLUSIVE | UPPER_EXCLUSIVE, "[1,5)", RangeLiteralCodec.INTEGER, Integer.class);
+        assertBounds(-1, 5, LOWER_EXCLUSIVE | UPPER_INCLUSIVE, "(-1,+5]", RangeLiteralCodec.INTEGER, Integer.class);
+        assertBounds(1, 5, LOWER_INCLUSIVE | UPPER_EXCLUSIVE, " [ 1 ,\t5 ) ", RangeLiteralCodec.INTEGER, Integer.class);
+        assertBounds(1, 5, LOWER_INCLUSIVE | UPPER_EXCLUSIVE, "[\"1\",\"5\")", RangeLiteralCodec.INTEGER, Integer.class);
+        assertBounds(12, 5, LOWER_INCLUSIVE | UPPER_EXCLUSIVE, "[\\1\"2\",5)", RangeLiteralCodec.INTEGER, Integer.class);
+        assertBounds(Integer.MIN_VALUE, Integer.MAX_VALUE, LOWER_INCLUSIVE | UPPER_INCLUSIVE,
+            "[-2147483648,2147483647]", RangeLiteralCodec.INTEGER, Integer.class);
+        assertBounds(null, 5, LOWER_INFINITE | UPPER_EXCLUSIVE, "(,5)", RangeLiteralCodec.INTEGER, Integer.class);
+        assertBounds(null, 5, LOWER_INFINITE | UPPER_EXCLUSIVE, "[ ,5)", RangeLiteralCodec.INTEGER, Integer.class);
+        assertBounds(1, null, LOWER_INCLUSIVE | UPPER_INFINITE, "[1,)", RangeLiteralCodec.INTEGER, Integer.class);
+        assertBounds(null, null, LOWER_INFINITE | UPPER_INFINITE, "(,)", RangeLiteralCodec.INTEGER, Integer.class);
+        assertBounds(null, null, EMPTY, "empty", RangeLiteralCodec.INTEGER, Integer.class);
+        assertBounds(null, null, EMPTY, " EMPTY ", RangeLiteralCodec.INTEGER, Integer.class);
+
+        assertInvalid("[2147483648,)", RangeLiteralCodec.INTEGER, Integer.class);
+        assertInvalid("[-2147483649,)", RangeLiteralCodec.INTEGER, Integer.class);
+        assertInvalid("[1.5,2)", RangeLiteralCodec.INTEGER, Integer.class);
+        assertInvalid("[-,2)", RangeLiteralCodec.INTEGER, Integer.class);
+
+        for (String literal : new String[]{"[1,5)", "(-1,5]", "[,5)", "(1,)", "(,)", "empty"}) {
+            assertEquals(literal, IntRange.ofString(IntRange.ofString(literal).asString()), IntRange.ofString(literal));
+            assertEquals(literal, Range.integerRange(Range.integerRange(literal).asString()), Range.integerRange(literal));
+        }
+    }
+
+    @Test
+    public void testLong() {
+        assertBounds(Long.MIN_VALUE, Long.MAX_VALUE, LOWER_INCLUSIVE | UPPER_INCLUSIVE,
+            "[-9223372036854775808,9223372036854775807]", RangeLiteralCodec.LONG, Long.class);
+        assertBounds(3000000000L, null, LOWER_EXCLUSIVE | UPPER_INFINITE, "(\"3000000000\",)", RangeLiteralCodec.LONG, Long.class);
+
+        assertInvalid("[9223372036854775808,)", RangeLiteralCodec.LONG, Long.class);
+        assertInvalid("[-9223372036854775809,)", RangeLiteralCodec.LONG, Long.class);
+        assertInvalid("[99999999999999999999,)", RangeLiteralCodec.LONG, Long.class);
+        assertInvalid("[1e3,)", RangeLiteralCodec.LONG, Long.class);
+
+        assertArrayEquals(
+            new long[]{Long.MIN_VALUE, Long.MAX_VALUE, LOWER_INCLUSIVE | UPPER_EXCLUSIVE},
+            RangeLiteralCodec.parse("[-9223372036854775808,\"9223372036854775807\")", RangeLiteralCodec.LONG_VALUE,
+                (lower, upper, mask) -> new long[]{lower, upper, mask})
+        );
+        assertArrayEquals(
+            new long[]{0, 0, EMPTY},
+            RangeLiteralCodec.parse("empty", RangeLiteralCodec.LONG_VALUE, (lower, upper, mask) -> new long[]{lower, upper, mask})
+        );
+        try {
+            RangeLiteralCodec.parse("[9223372036854775808,)", RangeLiteralCodec.LONG_VALUE, (lower, upper, mask) -> null);
+            fail("Overflow");
+        } catch (IllegalArgumentException expected) {
+        }
+
+        for (String literal : new String[]{"[1,5)", "(-9223372036854775808,9223372036854775807)", "[,5)", "(,)", "empty"}) {
+            assertEquals(literal, LongRange.ofString(LongRange.ofString(literal).asString()), LongRange.ofString(literal));
+            assertEquals(literal, Range.longRange(Range.longRange(literal).asString()), Range.longRange(literal));
+        }
+    }
+
+    @Test
+    public void testNumeric() {
+        assertBounds(new BigDecimal("1.5"), new BigDecimal("2.25"), LOWER_INCLUSIVE | UPPER_EXCLUSIVE,
+            "[1.5,2.25)", RangeLiteralCodec.BIG_DECIMAL, BigDecimal.class);
+        assertBounds(new BigDecimal("-1E+3"), null, LOWER_EXCLUSIVE | UPPER_INFINITE,
+            "( \"-1e3\" ,)", RangeLiteralCodec.BIG_DECIMAL, BigDecimal.class);
+        assertInvalid("[1.5.2,)", RangeLiteralCodec.BIG_DECIMAL, BigDecimal.class);
+
+        for (String literal : new String[]{"[1.5,2.25)", "(-0.001,)", "(,1000000000000000000000.5]"}) {
+            assertEquals(literal, Range.bigDecimalRange(Range.bigDecimalRange(literal).asString()), Range.bigDecimalRange(literal));
+        }
+    }
+
+    @Test
+    public void testDate() {
+        LocalDate lower = LocalDate.of(2020, 1, 1);
+        LocalDate upper = LocalDate.of(2020, 2, 29);
+        assertBounds(lower, upper, LOWER_INCLUSIVE | UPPER_EXCLUSIVE, "[2020-01-01,2020-02-29)", RangeLiteralCodec.LOCAL_DATE, LocalDate.class);
+        assertBounds(lower, upper, LOWER_INCLUSIVE | UPPER_EXCLUSIVE, "[\"2020-01-01\", \"2020-02-29\")", RangeLiteralCodec.LOCAL_DATE, LocalDate.class);
+        assertInvalid("[2020-02-30,)", RangeLiteralCodec.LOCAL_DATE, LocalDate.class);
+        assertInvalid("[2020-1-1,)", RangeLiteralCodec.LOCAL_DATE, LocalDate.class);
+
+        DateRange range = DateRange.ofString("[\"2020-01-01\",2020-02-29]");
+        assertEquals(lower, range.lower());
+        assertEquals((int) lower.toEpochDay(), range.lowerEpochDay());
+        assertEquals(upper.plusDays(1), range.upper());
+
+        for (String literal : new String[]{"[2020-01-01,2020-02-29)", "(1999-12-31,)", "(,2020-01-01]", "empty"}) {
+            assertEquals(literal, DateRange.ofString(DateRange.ofString(literal).asString()), DateRange.ofString(literal));
+            assertEquals(literal, Range.localDateRange(Range.localDateRange(literal).asString()), Range.localDateRange(literal));
+        }
+    }
+
+    @Test
+    public void testTimestamp() {
+        assertBounds(
+            LocalDateTime.of(2020, 1, 1, 10, 0, 0), LocalDateTime.of(2020, 1, 1, 11, 30, 15),
+            LOWER_INCLUSIVE | UPPER_EXCLUSIVE,
+            "[\"2020-01-01 10:00:00\",\"2020-01-01T11:30:15\")", RangeLiteralCodec.LOCAL_DATE_TIME, LocalDateTime.class
+        );
+        String fraction = "123456789";
+        for (int digits = 1; digits <= 9; digits++) {
+            String text = "2020-01-01 10:00:00." + fraction.substring(0, digits);
+            int nanos = Integer.parseInt(fraction.substring(0, digits)) * (int) Math.pow(10, 9 - digits);
+            LocalDateTime expected = LocalDateTime.of(2020, 1, 1, 10, 0, 0, nanos);
+            assertBounds(expected, null, LOWER_INCLUSIVE | UPPER_INFINITE, "[\"" + text + "\",)",
+                RangeLiteralCodec.LOCAL_DATE_TIME, LocalDateTime.class);
+
+            TimestampRange range = TimestampRange.ofString("[\"" + text + "\",)");
+            assertEquals(text, expected.withNano(nanos / 1000 * 1000), range.lower());
+            assertEquals(text, range, TimestampRange.ofString(range.asString()));
+        }
+        assertInvalid("[\"2020-01-01 24:00:00\",)", RangeLiteralCodec.LOCAL_DATE_TIME, LocalDateTime.class);
+        try {
+            TimestampRange.ofString("[\"2020-01-01 10:60:00\",)");
+            fail("Invalid minute");
+        } catch (RuntimeException expected) {
+        }
+
+        for (String literal : new String[]{
+            "[\"2020-01-01 10:00:00\",\"2020-01-01 11:00:00\")", "(\"2020-01-01 10:00:00.5\",)", "(,)", "empty"}) {
+            assertEquals(literal, TimestampRange.ofString(TimestampRange.ofString(literal).asString()), TimestampRange.ofString(literal));
+            assertEquals(literal, Range.localDateTimeRange(Range.localDateTimeRange(literal).asString()), Range.localDateTimeRange(literal));
+        }
+    }
+
+    @Test
+    public void testZonedTimestamp() {
+        LocalDateTime dateTime = LocalDateTime.of(2020, 1, 1, 10, 0, 0);
+        assertBounds(
+            ZonedDateTime.of(dateTime, ZoneOffset.UTC), ZonedDateTime.of(dateTime.plusHours(1), ZoneOffset.UTC),
+            LOWER_INCLUSIVE | UPPER_EXCLUSIVE,
+            "[\"2020-01-01 10:00:00Z\",\"2020-01-01 11:00:00+00\")", RangeLiteralCodec.ZONED_DATE_TIME, ZonedDateTime.class
+        );
+        assertBounds(
+            ZonedDateTime.of(dateTime, ZoneOffset.ofHours(2)), ZonedDateTime.of(dateTime, ZoneOffset.ofHoursMinutes(5, 30)),
+            LOWER_INCLUSIVE | UPPER_INCLUSIVE,
+            "[\"2020-01-01 10:00:00+02\",\"2020-01-01 10:00:00+05:30\"]", RangeLiteralCodec.ZONED_DATE_TIME, ZonedDateTime.class
+        );
+        assertBounds(
+            ZonedDateTime.of(dateTime, ZoneOffset.ofHoursMinutes(-3, -30)), null,
+            LOWER_EXCLUSIVE | UPPER_INFINITE,
+            "(\"2020-01-01 10:00:00-0330\",)", RangeLiteralCodec.ZONED_DATE_TIME, ZonedDateTime.class
+        );
+        String fraction = "123456789";
+        for (int digits = 1; digits <= 9; digits++) {
+            String text = "2020-01-01 10:00:00." + fraction.substring(0, digits) + "+02:00";
+            int nanos = Integer.parseInt(fraction.substring(0, digits)) * (int) Math.pow(10, 9 - digits);
+            assertBounds(ZonedDateTime.of(dateTime.withNano(nanos), ZoneOffset.ofHours(2)), null,
+                LOWER_INCLUSIVE | UPPER_INFINITE, "[\"" + text + "\",)", RangeLiteralCodec.ZONED_DATE_TIME, ZonedDateTime.class);
+        }
+        assertInvalid("[\"2020-01-01 10:00:00+2\",)", RangeLiteralCodec.ZONED_DATE_TIME, ZonedDateTime.class);
+
+        for (String literal : new String[]{
+            "[\"2020-01-01 10:00:00+02\",\"2020-01-01 11:00:00+02\")",
+            "[\"2020-01-01 10:00:00.5Z\",\"2020-01-01 11:00:00.123456Z\")",
+            "(\"2020-01-01 10:00:00.000001-03:30\",)"}) {
+            Range<ZonedDateTime> range = Range.zonedDateTimeRange(literal);
+            assertEquals(literal, range, Range.zonedDateTimeRange(range.asString()));
+        }
+    }
+
+    @Test
+    public void testMalformed() {
+        for (String literal : new String[]{
+            "", " ", "[]", "[1]", "1,5", "[1,5", "1,5)", "{1,5)", "[1,5}", "[1 5)", "[1,2,3)", "[\"1,5)", "emptyish"}) {
+            assertInvalid(literal, RangeLiteralCodec.INTEGER, Integer.class);
+            try {
+                RangeLiteralCodec.parse(literal, RangeLiteralCodec.LONG_VALUE, (lower, upper, mask) -> null);
+                fail(literal);
+            } catch (IllegalArgumentException expected) {
+            }
+        }
+    }
+
+    private static <T> void assertBounds(T lower, T upper, int mask, String literal,
+                                         RangeLiteralCodec.BoundParser<T> parser, Class<T> type) {
+        Object[] bounds = RangeLiteralCodec.parse(literal, parser, type, (l, u, m, t) -> new Object[]{l, u, m, t});
+        assertArrayEquals(literal, new Object[]{lower, upper, mask, type}, bounds);
+    }
+
+    private static <T> void assertInvalid(String literal, RangeLiteralCodec.BoundParser<T> parser, Class<T> type) {
+        try {
+            RangeLiteralCodec.parse(literal, parser, type, (l, u, m, t) -> new Object[]{l, u, m, t});
+            fail(literal);
+        } catch (IllegalArgumentException | DateTimeException expected) {
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.krish.type.util;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * Checks that hashing characters gives the hash of their UTF-16LE bytes, for every tail length.
+ */
+public class ContentHashTest {
+
+    @Test
+    public void testChars() {
+        Random random = new Random(29);
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder builder = new StringBuilder();
+            int length = random.nextInt(64);
+            while (builder.length() < length) {
+                switch (random.nextInt(3)) {
+                    case 0:
+                        builder.append((char) (' ' + random.nextInt(95)));
+                        break;
+                    case 1:
+                        builder.append((char) (0x80 + random.nextInt(Character.MIN_SURROGATE - 0x80)));
+                        break;
+                    default:
+                        builder.appendCodePoint(Character.MIN_SUPPLEMENTARY_CODE_POINT + random.nextInt(0x10000));
+                }
+            }
+            String string = builder.toString();
+            assertEquals(string, ContentHash.of(string.getBytes(StandardCharsets.UTF_16LE)), ContentHash.of(string));
+            assertEquals(string, ContentHash.of(string), ContentHash.of(new StringBuilder(string)));
+        }
+    }
+
+    @Test
+    public void testBytes() {
+        byte[] bytes = "{\"title\":\"High-Performance Java Persistence\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] padded = new byte[bytes.length + 3];
+        System.arraycopy(bytes, 0, padded, 2, bytes.length);
+        assertEquals(ContentHash.of(bytes), ContentHash.of(padded, 2, bytes.length));
+        assertNotEquals(ContentHash.of(bytes), ContentHash.of(padded, 1, bytes.length));
+        assertNotEquals(ContentHash.of(new byte[0]), ContentHash.of(new byte[1]));
+    }
+}